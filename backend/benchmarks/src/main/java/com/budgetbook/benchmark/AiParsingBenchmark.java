@@ -0,0 +1,107 @@
+package com.budgetbook.benchmark;
+
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.service.CategoryIndex;
+import com.budgetbook.service.IncrementalJsonExtractor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 응답 처리 (Ollama 호출 제외)
+ * - LLM 응답 텍스트에서 JSON 추출 (전체 텍스트 / 스트리밍 청크 단위)
+ * - 카테고리 매칭 (정확 일치 / 유사 이름 / 불일치)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AiParsingBenchmark {
+
+    private static final String OBJECT_RESPONSE = """
+            네, 아래와 같이 분석했습니다.
+            ```json
+            {"type": "EXPENSE", "amount": 12000, "categoryName": "식비", "memo": "점심 김치찌개 {곱빼기}", "confidence": 0.93}
+            ```
+            추가로 궁금한 점이 있으면 말씀해주세요.
+            """;
+
+    // 스트리밍 응답의 청크 크기 (Ollama는 토큰 단위로 전송)
+    private static final int CHUNK_SIZE = 4;
+
+    @Param({"10", "50", "200"})
+    public int categoryCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CategoryIndex categoryIndex;
+    private String arrayResponse;
+    private List<String> chunks;
+
+    @Setup
+    public void setUp() {
+        categoryIndex = CategoryIndex.of(new SyntheticData(SyntheticData.DEFAULT_SEED).categories(categoryCount));
+
+        StringBuilder array = new StringBuilder("결과입니다:\n[");
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) {
+                array.append(',');
+            }
+            array.append("{\"type\":\"EXPENSE\",\"amount\":").append(1000 * (i + 1))
+                    .append(",\"categoryName\":\"카페\",\"memo\":\"항목 ").append(i).append("\",\"confidence\":0.8}");
+        }
+        arrayResponse = array.append("]\n").toString();
+
+        chunks = new ArrayList<>();
+        for (int i = 0; i < OBJECT_RESPONSE.length(); i += CHUNK_SIZE) {
+            chunks.add(OBJECT_RESPONSE.substring(i, Math.min(OBJECT_RESPONSE.length(), i + CHUNK_SIZE)));
+        }
+    }
+
+    @Benchmark
+    public Optional<JsonNode> extractObject() {
+        return IncrementalJsonExtractor.extractObject(objectMapper, OBJECT_RESPONSE);
+    }
+
+    @Benchmark
+    public Optional<JsonNode> extractBatchArray() {
+        return IncrementalJsonExtractor.extractArray(objectMapper, arrayResponse);
+    }
+
+    @Benchmark
+    public Optional<JsonNode> extractStreamed() {
+        IncrementalJsonExtractor extractor = IncrementalJsonExtractor.forObject(objectMapper);
+        for (String chunk : chunks) {
+            if (extractor.feed(chunk)) {
+                break;
+            }
+        }
+        return extractor.getResult();
+    }
+
+    @Benchmark
+    public Optional<CategoryIndex.Match> matchExact() {
+        return categoryIndex.match("식비", TransactionType.EXPENSE);
+    }
+
+    @Benchmark
+    public Optional<CategoryIndex.Match> matchSimilar() {
+        return categoryIndex.match("문화 생활비", TransactionType.EXPENSE);
+    }
+
+    @Benchmark
+    public Optional<CategoryIndex.Match> matchMiss() {
+        return categoryIndex.match("반려동물 용품", TransactionType.EXPENSE);
+    }
+
+    @Benchmark
+    public CategoryIndex buildIndex() {
+        return CategoryIndex.of(new SyntheticData(SyntheticData.DEFAULT_SEED).categories(categoryCount));
+    }
+}
@@ -0,0 +1,44 @@
+package com.budgetbook.benchmark;
+
+import com.budgetbook.domain.chat.ChatMessage;
+import com.budgetbook.domain.chat.ChatMessageRepository;
+import com.budgetbook.dto.chat.ChatMessageDto;
+import com.budgetbook.service.ChatHistoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 기록 조회의 DTO 변환 (저장된 거래/카테고리/계좌 JSON 역직렬화 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatHistoryBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int messageCount;
+
+    private ChatHistoryService chatHistoryService;
+
+    @Setup
+    public void setUp() {
+        List<ChatMessage> messages = new SyntheticData(SyntheticData.DEFAULT_SEED).chatMessages(messageCount);
+        ChatMessageRepository repository = RepositoryStubs.stub(ChatMessageRepository.class, Map.of(
+                "findByUserIdOrderByCreatedAtAsc", args -> messages));
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        chatHistoryService = new ChatHistoryService(repository, null, objectMapper);
+    }
+
+    @Benchmark
+    public List<ChatMessageDto> getChatHistory() {
+        return chatHistoryService.getChatHistory(1L);
+    }
+}
@@ -0,0 +1,103 @@
+package com.budgetbook.benchmark;
+
+import com.budgetbook.security.JwtKeyRing;
+import com.budgetbook.security.JwtTokenProvider;
+import com.budgetbook.security.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 (HMAC 모드와 asymmetric 모드 비교)
+ * - generateAccessToken: 서명 비용 (HS256 / EdDSA / ES256)
+ * - verifyCached: 요청 필터 경로 (검증 캐시 적중)
+ * - parseAndValidate: 캐시 없이 서명 검증 + 클레임 파싱
+ * asymmetric 모드의 키스토어는 JDK keytool로 임시 디렉터리에 만든다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-256-bits-0123456789abcdef";
+    private static final String KEYSTORE_PASSWORD = "benchmark";
+    private static final String KID = "bench-key";
+
+    @Param({"hmac", "ed25519", "es256"})
+    public String algorithm;
+
+    private Path keystoreDir;
+    private JwtTokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyRing keyRing;
+        if ("hmac".equals(algorithm)) {
+            keyRing = new JwtKeyRing(SECRET, JwtKeyRing.MODE_HMAC, "", "", "", Duration.ofSeconds(60), "");
+        } else {
+            keystoreDir = Files.createTempDirectory("jwt-benchmark");
+            Path keystore = createKeystore(keystoreDir.resolve("jwt.p12"));
+            keyRing = new JwtKeyRing(SECRET, JwtKeyRing.MODE_ASYMMETRIC, keystore.toString(), KEYSTORE_PASSWORD,
+                    KID, Duration.ofSeconds(60), "");
+        }
+        tokenProvider = new JwtTokenProvider(keyRing, 3_600_000L, 604_800_000L, 10_000L);
+        accessToken = tokenProvider.generateAccessToken(1L, "bench@budgetbook.local");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (keystoreDir != null) {
+            try (var files = Files.walk(keystoreDir)) {
+                for (Path path : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(1L, "bench@budgetbook.local");
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return tokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public Long parseAndValidate() {
+        return tokenProvider.getUserIdFromToken(accessToken);
+    }
+
+    private Path createKeystore(Path keystore) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                "-genkeypair", "-storetype", "PKCS12",
+                "-keystore", keystore.toString(), "-storepass", KEYSTORE_PASSWORD,
+                "-alias", KID, "-dname", "CN=budgetbook-benchmark", "-validity", "1"));
+        if ("ed25519".equals(algorithm)) {
+            command.addAll(List.of("-keyalg", "Ed25519"));
+        } else {
+            command.addAll(List.of("-keyalg", "EC", "-groupname", "secp256r1", "-sigalg", "SHA256withECDSA"));
+        }
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("keytool 실패: " + output);
+        }
+        return keystore;
+    }
+}
@@ -0,0 +1,61 @@
+package com.budgetbook.benchmark;
+
+import com.budgetbook.config.RedisConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화/역직렬화 (RedisConfig와 같은 타입 정보 포함 JSON 직렬화기, Redis 왕복 제외)
+ * - accounts 캐시: List<AccountResponse>
+ * - categories 캐시: List<CategoryResponse>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"5", "50"})
+    public int size;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private List<?> accounts;
+    private List<?> categories;
+    private byte[] accountsBytes;
+    private byte[] categoriesBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = new RedisConfig().jsonRedisSerializer();
+        SyntheticData data = new SyntheticData(SyntheticData.DEFAULT_SEED);
+        accounts = data.accountResponses(size);
+        categories = data.categoryResponses(size);
+        accountsBytes = serializer.serialize(accounts);
+        categoriesBytes = serializer.serialize(categories);
+    }
+
+    @Benchmark
+    public byte[] encodeAccounts() {
+        return serializer.serialize(accounts);
+    }
+
+    @Benchmark
+    public Object decodeAccounts() {
+        return serializer.deserialize(accountsBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeCategories() {
+        return serializer.serialize(categories);
+    }
+
+    @Benchmark
+    public Object decodeCategories() {
+        return serializer.deserialize(categoriesBytes);
+    }
+}
@@ -0,0 +1,88 @@
+package com.budgetbook.benchmark;
+
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.transaction.DailyCategoryTotal;
+import com.budgetbook.domain.transaction.Transaction;
+import com.budgetbook.domain.transaction.TransactionRepository;
+import com.budgetbook.dto.statistics.MonthlyStatisticsResponse;
+import com.budgetbook.dto.statistics.TrendStatisticsResponse;
+import com.budgetbook.dto.statistics.WeeklyStatisticsResponse;
+import com.budgetbook.dto.statistics.YearlyStatisticsResponse;
+import com.budgetbook.service.CalendarBuckets;
+import com.budgetbook.service.StatisticsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 집계 (리포지토리는 미리 생성한 거래 목록을 반환하는 스텁이므로 DB 조회 비용은 제외)
+ * transactionsPerYear: 한 사용자의 연간 거래 수
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+
+    private static final int YEAR = 2024;
+    private static final int MONTH = 6;
+
+    @Param({"1000", "10000", "100000"})
+    public int transactionsPerYear;
+
+    private StatisticsService statisticsService;
+
+    @Setup
+    public void setUp() {
+        SyntheticData data = new SyntheticData(SyntheticData.DEFAULT_SEED);
+        List<Account> accounts = data.accounts(3);
+        List<Category> categories = data.categories(16);
+        List<Transaction> year = data.transactions(transactionsPerYear,
+                LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR + 1, 1, 1), accounts, categories);
+        List<Transaction> month = year.stream()
+                .filter(t -> t.getTransactionDate().getMonthValue() == MONTH)
+                .toList();
+        List<Transaction> week = month.stream()
+                .filter(t -> t.getTransactionDate().getDayOfMonth() <= 7)
+                .toList();
+        List<DailyCategoryTotal> dailyTotals = SyntheticData.dailyTotals(year);
+
+        TransactionRepository repository = RepositoryStubs.stub(TransactionRepository.class, Map.of(
+                "findByUserIdAndYear", args -> year,
+                "findByUserIdAndYearMonth", args -> month,
+                "findByUserIdAndDateRange", args -> week,
+                "sumDailyByCategory", args -> dailyTotals));
+        statisticsService = new StatisticsService(repository, new CalendarBuckets("iso"));
+    }
+
+    @Benchmark
+    public MonthlyStatisticsResponse monthly() {
+        return statisticsService.getMonthlyStatistics(1L, YEAR, MONTH);
+    }
+
+    @Benchmark
+    public WeeklyStatisticsResponse weekly() {
+        return statisticsService.getWeeklyStatistics(1L, YEAR, 23);
+    }
+
+    @Benchmark
+    public YearlyStatisticsResponse yearly() {
+        return statisticsService.getYearlyStatistics(1L, YEAR);
+    }
+
+    @Benchmark
+    public TrendStatisticsResponse trendByMonth() {
+        return statisticsService.getTrendStatistics(1L, LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR, 12, 31), "month", 3);
+    }
+
+    @Benchmark
+    public TrendStatisticsResponse trendByWeek() {
+        return statisticsService.getTrendStatistics(1L, LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR, 12, 31), "week", 4);
+    }
+}
@@ -0,0 +1,225 @@
+package com.budgetbook.benchmark;
+
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.chat.ChatMessage;
+import com.budgetbook.domain.chat.MessageRole;
+import com.budgetbook.domain.transaction.DailyCategoryTotal;
+import com.budgetbook.domain.transaction.Transaction;
+import com.budgetbook.domain.user.User;
+import com.budgetbook.domain.user.UserRole;
+import com.budgetbook.dto.account.AccountResponse;
+import com.budgetbook.dto.category.CategoryResponse;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 고정 시드 기반 합성 데이터 (같은 시드/크기면 항상 같은 데이터를 생성하므로 실행 간 결과 비교 가능)
+ * ID와 생성 시각은 JPA가 채우는 필드이므로 리플렉션으로 지정한다.
+ */
+public final class SyntheticData {
+
+    public static final long DEFAULT_SEED = 20240101L;
+
+    private static final String[] EXPENSE_CATEGORIES = {
+            "식비", "카페", "교통비", "쇼핑", "주거비", "통신비", "의료비", "문화생활", "교육", "경조사", "보험", "구독"
+    };
+    private static final String[] INCOME_CATEGORIES = {"급여", "상여", "용돈", "부수입", "이자"};
+    private static final String[] BANKS = {"국민은행", "신한은행", "우리은행", "하나은행", "카카오뱅크", "토스뱅크"};
+    private static final String[] MEMOS = {
+            "점심 김치찌개", "스타벅스 아메리카노", "지하철 정기권", "쿠팡 생필품", "월세", "휴대폰 요금",
+            "병원 진료비", "영화 관람", "온라인 강의", "친구 결혼식 축의금", "넷플릭스", "편의점"
+    };
+
+    private final Random random;
+    private final User user;
+
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+        this.user = User.builder()
+                .name("벤치마크")
+                .email("bench@budgetbook.local")
+                .password("{noop}bench")
+                .age(30)
+                .role(UserRole.USER)
+                .build();
+        setField(user, "id", 1L);
+    }
+
+    public User user() {
+        return user;
+    }
+
+    /**
+     * 지출/수입 카테고리 (기본 이름을 모두 쓴 뒤에는 번호를 붙여 확장)
+     */
+    public List<Category> categories(int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean income = i % 4 == 3;
+            String[] names = income ? INCOME_CATEGORIES : EXPENSE_CATEGORIES;
+            int ordinal = income ? i / 4 : i - i / 4;
+            String name = names[ordinal % names.length] + (ordinal < names.length ? "" : " " + (ordinal / names.length + 1));
+            Category category = Category.builder()
+                    .user(user)
+                    .name(name)
+                    .type(income ? TransactionType.INCOME : TransactionType.EXPENSE)
+                    .icon("icon-" + i)
+                    .build();
+            setField(category, "id", (long) i + 1);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    public List<Account> accounts(int count) {
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Account account = Account.builder()
+                    .user(user)
+                    .bankName(BANKS[i % BANKS.length])
+                    .alias("계좌 " + (i + 1))
+                    .balance(BigDecimal.valueOf(1_000_000L + random.nextInt(10_000_000)))
+                    .build();
+            setField(account, "id", (long) i + 1);
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    /**
+     * 기간 내 거래 (일자는 균등 분포, 지출 85% / 수입 15%, 일자 오름차순)
+     */
+    public List<Transaction> transactions(int count, LocalDate from, LocalDate toExclusive,
+                                          List<Account> accounts, List<Category> categories) {
+        List<Category> expenses = categories.stream().filter(c -> c.getType() == TransactionType.EXPENSE).toList();
+        List<Category> incomes = categories.stream().filter(c -> c.getType() == TransactionType.INCOME).toList();
+        long days = toExclusive.toEpochDay() - from.toEpochDay();
+
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean income = random.nextInt(100) < 15 && !incomes.isEmpty();
+            Category category = income
+                    ? incomes.get(random.nextInt(incomes.size()))
+                    : expenses.get(random.nextInt(expenses.size()));
+            LocalDateTime date = from.plusDays(random.nextInt((int) days))
+                    .atTime(random.nextInt(24), random.nextInt(60));
+            long amount = income ? 100_000L + random.nextInt(3_000_000) : 1_000L + random.nextInt(200_000);
+            Transaction transaction = Transaction.builder()
+                    .account(accounts.get(random.nextInt(accounts.size())))
+                    .category(category)
+                    .type(category.getType())
+                    .amount(BigDecimal.valueOf(amount / 10 * 10))
+                    .memo(MEMOS[random.nextInt(MEMOS.length)])
+                    .transactionDate(date)
+                    .build();
+            transactions.add(transaction);
+        }
+        transactions.sort(Comparator.comparing(Transaction::getTransactionDate));
+        for (int i = 0; i < transactions.size(); i++) {
+            setField(transactions.get(i), "id", (long) i + 1);
+        }
+        return transactions;
+    }
+
+    /**
+     * 거래 목록을 sumDailyByCategory 쿼리 결과 형태로 합산
+     */
+    public static List<DailyCategoryTotal> dailyTotals(List<Transaction> transactions) {
+        Map<List<Object>, BigDecimal> sums = new LinkedHashMap<>();
+        for (Transaction t : transactions) {
+            List<Object> key = List.of(t.getTransactionDate().toLocalDate(), t.getCategory().getId(), t.getType());
+            sums.merge(key, t.getAmount(), BigDecimal::add);
+        }
+        Map<Long, String> names = new LinkedHashMap<>();
+        transactions.forEach(t -> names.putIfAbsent(t.getCategory().getId(), t.getCategory().getName()));
+
+        List<DailyCategoryTotal> totals = new ArrayList<>(sums.size());
+        sums.forEach((key, amount) -> {
+            Long categoryId = (Long) key.get(1);
+            totals.add(new DailyCategoryTotal((LocalDate) key.get(0), categoryId, names.get(categoryId),
+                    (TransactionType) key.get(2), amount));
+        });
+        return totals;
+    }
+
+    /**
+     * 채팅 기록 (어시스턴트 메시지의 절반은 거래 JSON 포함)
+     */
+    public List<ChatMessage> chatMessages(int count) {
+        List<ChatMessage> messages = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < count; i++) {
+            boolean assistant = i % 2 == 1;
+            boolean withTransaction = assistant && random.nextBoolean();
+            String memo = MEMOS[random.nextInt(MEMOS.length)];
+            ChatMessage message = ChatMessage.builder()
+                    .user(user)
+                    .role(assistant ? MessageRole.ASSISTANT : MessageRole.USER)
+                    .content(assistant ? memo + " 거래를 기록할까요?" : "오늘 " + memo + "에 12000원 썼어")
+                    .actionType(withTransaction ? "TRANSACTION" : "CHAT")
+                    .transactionData(withTransaction
+                            ? "{\"type\":\"EXPENSE\",\"amount\":12000,\"categoryName\":\"식비\",\"categoryId\":1,"
+                              + "\"memo\":\"" + memo + "\",\"confidence\":0.92,\"success\":true}"
+                            : null)
+                    .build();
+            setField(message, "id", (long) i + 1);
+            setField(message, "createdAt", start.plusMinutes(i));
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    public List<AccountResponse> accountResponses(int count) {
+        return accounts(count).stream()
+                .map(account -> AccountResponse.builder()
+                        .id(account.getId())
+                        .userId(user.getId())
+                        .bankName(account.getBankName())
+                        .alias(account.getAlias())
+                        .balance(account.getBalance())
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                        .updatedAt(LocalDateTime.of(2024, 6, 1, 12, 30))
+                        .build())
+                .toList();
+    }
+
+    public List<CategoryResponse> categoryResponses(int count) {
+        return categories(count).stream()
+                .map(category -> CategoryResponse.builder()
+                        .id(category.getId())
+                        .name(category.getName())
+                        .type(category.getType().name())
+                        .icon(category.getIcon())
+                        .build())
+                .toList();
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(Objects.requireNonNull(target).getClass() + "." + name);
+    }
+}
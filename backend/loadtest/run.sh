@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# 부하 테스트 일괄 실행 (로컬 PostgreSQL/Redis + 스텁 Ollama + 애플리케이션 + 데이터 적재 + 혼합 트래픽)
+# 외부 네트워크 없이 동작: Docker 이미지(postgres:15-alpine, redis:7-alpine)와 Maven 의존성이 로컬에 있어야 한다.
+#   MVN="mvn -o" ./run.sh                      # 오프라인 빌드
+#   SKIP_SERVICES=1 ./run.sh                   # 이미 실행 중인 PostgreSQL/Redis 사용
+#   SKIP_SEED=1 DURATION=5m CONCURRENCY=200 ./run.sh
+set -euo pipefail
+
+LOADTEST_DIR=$(cd "$(dirname "$0")" && pwd)
+BACKEND_DIR=$(dirname "$LOADTEST_DIR")
+ROOT_DIR=$(dirname "$BACKEND_DIR")
+LOG_DIR="$LOADTEST_DIR/target/logs"
+
+MVN=${MVN:-mvn}
+DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/budgetbook}
+DB_USER=${DB_USER:-postgres}
+DB_PASSWORD=${DB_PASSWORD:-postgres}
+REDIS_HOST=${REDIS_HOST:-localhost}
+APP_PORT=${APP_PORT:-8080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-8081}
+OLLAMA_PORT=${OLLAMA_PORT:-11500}
+# 파드 리소스 제한(cpu 1000m, memory 1Gi)에 맞춘 JVM 설정
+APP_JAVA_OPTS=${APP_JAVA_OPTS:--Xmx768m -XX:ActiveProcessorCount=1}
+
+USERS=${USERS:-50}
+YEARS=${YEARS:-3}
+TRANSACTIONS_PER_DAY=${TRANSACTIONS_PER_DAY:-4}
+SEED=${SEED:-42}
+CONCURRENCY=${CONCURRENCY:-$USERS}
+DURATION=${DURATION:-2m}
+WARMUP=${WARMUP:-30s}
+THINK_TIME=${THINK_TIME:-0ms}
+MIX=${MIX:-list:30,monthly:20,yearly:10,create:20,chat:10,login:10}
+OLLAMA_LATENCY=${OLLAMA_LATENCY:-300ms}
+OLLAMA_JITTER=${OLLAMA_JITTER:-100ms}
+OLLAMA_TOKEN_INTERVAL=${OLLAMA_TOKEN_INTERVAL:-20ms}
+
+mkdir -p "$LOG_DIR"
+PIDS=()
+cleanup() {
+    for pid in "${PIDS[@]}"; do
+        kill "$pid" 2>/dev/null || true
+    done
+}
+trap cleanup EXIT
+
+if [ -z "${SKIP_SERVICES:-}" ]; then
+    echo "PostgreSQL/Redis 시작"
+    docker compose -f "$ROOT_DIR/docker-compose.db.yml" up -d --wait --pull never
+fi
+
+if ! ls "$BACKEND_DIR"/target/*-exec.jar >/dev/null 2>&1; then
+    $MVN -q -f "$BACKEND_DIR/pom.xml" package -DskipTests
+fi
+if [ ! -f "$LOADTEST_DIR/target/loadtest.jar" ]; then
+    $MVN -q -f "$LOADTEST_DIR/pom.xml" package
+fi
+LOADTEST_JAR="$LOADTEST_DIR/target/loadtest.jar"
+APP_JAR=$(ls "$BACKEND_DIR"/target/*-exec.jar | head -n 1)
+
+echo "스텁 Ollama 시작 (port $OLLAMA_PORT)"
+java -jar "$LOADTEST_JAR" stub-ollama --port="$OLLAMA_PORT" --latency="$OLLAMA_LATENCY" \
+    --jitter="$OLLAMA_JITTER" --token-interval="$OLLAMA_TOKEN_INTERVAL" > "$LOG_DIR/stub-ollama.log" 2>&1 &
+PIDS+=($!)
+
+echo "애플리케이션 시작 (port $APP_PORT, management $MANAGEMENT_PORT)"
+# shellcheck disable=SC2086
+SPRING_DATASOURCE_URL="$DB_URL" SPRING_DATASOURCE_USERNAME="$DB_USER" SPRING_DATASOURCE_PASSWORD="$DB_PASSWORD" \
+SPRING_REDIS_HOST="$REDIS_HOST" OLLAMA_BASE_URL="http://localhost:$OLLAMA_PORT" MANAGEMENT_PORT="$MANAGEMENT_PORT" \
+    java $APP_JAVA_OPTS -jar "$APP_JAR" --spring.profiles.active=loadtest \
+    --spring.config.additional-location="file:$LOADTEST_DIR/config/" --server.port="$APP_PORT" \
+    > "$LOG_DIR/app.log" 2>&1 &
+PIDS+=($!)
+
+for _ in $(seq 1 120); do
+    if curl -fs "http://localhost:$MANAGEMENT_PORT/actuator/health/readiness" >/dev/null 2>&1; then
+        break
+    fi
+    sleep 1
+done
+curl -fs "http://localhost:$MANAGEMENT_PORT/actuator/health/readiness" >/dev/null \
+    || { echo "애플리케이션 기동 실패 ($LOG_DIR/app.log 확인)"; exit 1; }
+
+if [ -z "${SKIP_SEED:-}" ]; then
+    java -jar "$LOADTEST_JAR" seed --jdbc-url="$DB_URL" --db-user="$DB_USER" --db-password="$DB_PASSWORD" \
+        --users="$USERS" --years="$YEARS" --transactions-per-day="$TRANSACTIONS_PER_DAY" --seed="$SEED"
+fi
+
+status=0
+java -jar "$LOADTEST_JAR" run --base-url="http://localhost:$APP_PORT/api/v1" --users="$USERS" --years="$YEARS" \
+    --concurrency="$CONCURRENCY" --duration="$DURATION" --warmup="$WARMUP" --think-time="$THINK_TIME" \
+    --mix="$MIX" --report="$LOADTEST_DIR/target/loadtest-report.json" || status=$?
+
+# 서버 측 지표 (커넥션 풀, 요청당 SQL 수, 캐시 적중률 등) 스냅샷
+curl -fs "http://localhost:$MANAGEMENT_PORT/actuator/prometheus" > "$LOADTEST_DIR/target/prometheus.txt" || true
+exit $status
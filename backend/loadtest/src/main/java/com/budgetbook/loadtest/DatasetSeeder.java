@@ -0,0 +1,259 @@
+package com.budgetbook.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 다년치 데이터 적재 (JDBC 배치 INSERT)
+ * - 사용자: loadtest-{번호}@budgetbook.local, 비밀번호는 모두 같음
+ * - 사용자마다 계좌 2~3개, 기본 카테고리, 월급/월세 정기 거래 + 일별 변동 지출
+ * - 계좌 일별 잔액 스냅샷 (애플리케이션이 유지하는 account_daily_balances와 같은 계산)
+ * 같은 seed면 같은 데이터를 만든다. 기존 loadtest 사용자 데이터는 먼저 삭제한다.
+ * 스키마는 애플리케이션(ddl-auto)이 만든 상태를 전제로 한다.
+ */
+public class DatasetSeeder {
+
+    static final String EMAIL_FORMAT = "loadtest-%d@budgetbook.local";
+    private static final String EMAIL_PATTERN = "loadtest-%@budgetbook.local";
+    private static final int BATCH_SIZE = 5_000;
+
+    // 일자별 잔액 = 현재 잔액 - 전체 변화 합계 + 해당 일자까지의 누적 변화 (create_account_daily_balances_table.sql과 같은 계산)
+    private static final String INSERT_DAILY_BALANCES = """
+            INSERT INTO account_daily_balances (account_id, balance_date, net_change, closing_balance)
+            SELECT d.account_id,
+                   d.balance_date,
+                   d.net_change,
+                   a.balance - SUM(d.net_change) OVER (PARTITION BY d.account_id)
+                             + SUM(d.net_change) OVER (PARTITION BY d.account_id ORDER BY d.balance_date)
+            FROM (
+                SELECT t.account_id,
+                       CAST(t.transaction_date AS DATE) AS balance_date,
+                       SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END) AS net_change
+                FROM transactions t
+                JOIN accounts a ON a.id = t.account_id
+                WHERE a.user_id = ?
+                GROUP BY t.account_id, CAST(t.transaction_date AS DATE)
+            ) d
+            JOIN accounts a ON a.id = d.account_id""";
+
+    private static final String[][] INCOME_CATEGORIES = {{"급여", "payments"}, {"부수입", "attach_money"}, {"용돈", "account_balance_wallet"}};
+    private static final String[][] EXPENSE_CATEGORIES = {
+            {"식비", "restaurant"}, {"교통비", "directions_bus"}, {"쇼핑", "shopping_cart"}, {"의료비", "local_hospital"},
+            {"통신비", "phone_android"}, {"주거비", "home"}, {"교육비", "school"}, {"문화생활", "movie"}, {"기타", "more_horiz"}
+    };
+    // 일별 변동 지출 카테고리 (EXPENSE_CATEGORIES 인덱스, 가중치만큼 반복)
+    private static final int[] DAILY_EXPENSE_WEIGHTS = {0, 0, 0, 0, 1, 1, 1, 2, 2, 3, 7, 7, 8};
+    private static final String[][] MEMOS = {
+            {"점심 김치찌개", "저녁 배달", "편의점", "카페 라떼", "마트 장보기"},
+            {"지하철", "버스", "택시"},
+            {"온라인 쇼핑", "옷", "생활용품"},
+            {"병원", "약국"},
+            {"휴대폰 요금"},
+            {"월세"},
+            {"온라인 강의"},
+            {"영화", "공연", "넷플릭스"},
+            {"경조사", "기타 지출"}
+    };
+    private static final String[] BANKS = {"국민은행", "신한은행", "우리은행", "하나은행", "카카오뱅크", "토스뱅크"};
+
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final int users;
+    private final int years;
+    private final int transactionsPerDay;
+    private final long seed;
+    private final String password;
+
+    public DatasetSeeder(LoadTestOptions options) {
+        this.jdbcUrl = options.getString("jdbc-url", "jdbc:postgresql://localhost:5432/budgetbook");
+        this.dbUser = options.getString("db-user", "postgres");
+        this.dbPassword = options.getString("db-password", "postgres");
+        this.users = options.getInt("users", 50);
+        this.years = options.getInt("years", 3);
+        this.transactionsPerDay = options.getInt("transactions-per-day", 4);
+        this.seed = options.getLong("seed", 42L);
+        this.password = options.getString("password", "loadtest1234");
+    }
+
+    public void seed() throws SQLException {
+        long started = System.nanoTime();
+        String url = jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        String encodedPassword = "{bcrypt}" + new BCryptPasswordEncoder(10).encode(password);
+        LocalDate end = LocalDate.now();
+        LocalDate start = end.minusYears(years);
+
+        try (Connection connection = DriverManager.getConnection(url, dbUser, dbPassword)) {
+            deleteExisting(connection);
+            connection.setAutoCommit(false);
+            long total = 0;
+            for (int i = 1; i <= users; i++) {
+                total += seedUser(connection, i, encodedPassword, start, end, new Random(seed * 31 + i));
+                connection.commit();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users, accounts, categories, transactions, account_daily_balances");
+            }
+            connection.commit();
+            System.out.printf("적재 완료 - 사용자: %d, 거래: %d, 기간: %s ~ %s, 소요: %ds%n",
+                    users, total, start, end, (System.nanoTime() - started) / 1_000_000_000L);
+        }
+    }
+
+    private void deleteExisting(Connection connection) throws SQLException {
+        String users = "SELECT id FROM users WHERE email LIKE '" + EMAIL_PATTERN + "'";
+        String accounts = "SELECT id FROM accounts WHERE user_id IN (" + users + ")";
+        String budgets = "SELECT id FROM budgets WHERE user_id IN (" + users + ")";
+        String[] statements = {
+                "DELETE FROM budget_spends WHERE budget_id IN (" + budgets + ")",
+                "DELETE FROM budgets WHERE user_id IN (" + users + ")",
+                "DELETE FROM recurring_transactions WHERE user_id IN (" + users + ")",
+                "DELETE FROM account_daily_balances WHERE account_id IN (" + accounts + ")",
+                "DELETE FROM transactions WHERE account_id IN (" + accounts + ")",
+                "DELETE FROM chat_messages WHERE user_id IN (" + users + ")",
+                "DELETE FROM accounts WHERE user_id IN (" + users + ")",
+                "DELETE FROM categories WHERE user_id IN (" + users + ")",
+                "DELETE FROM users WHERE email LIKE '" + EMAIL_PATTERN + "'"
+        };
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                try {
+                    statement.executeUpdate(sql);
+                } catch (SQLException e) {
+                    // 아직 생성되지 않은 테이블 (해당 기능을 쓰기 전 스키마)
+                    System.out.println("건너뜀: " + e.getMessage().lines().findFirst().orElse(""));
+                }
+            }
+        }
+    }
+
+    private long seedUser(Connection connection, int index, String encodedPassword,
+                          LocalDate start, LocalDate end, Random random) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(start.atTime(9, 0));
+        long userId = insertReturningId(connection,
+                "INSERT INTO users (name, email, password, age, role, created_at, updated_at) VALUES (?, ?, ?, ?, 'USER', ?, ?) RETURNING id",
+                "부하테스트" + index, String.format(EMAIL_FORMAT, index), encodedPassword, 20 + random.nextInt(40), createdAt, createdAt);
+
+        int accountCount = 2 + random.nextInt(2);
+        long[] accountIds = new long[accountCount];
+        BigDecimal[] balances = new BigDecimal[accountCount];
+        for (int a = 0; a < accountCount; a++) {
+            balances[a] = BigDecimal.valueOf(1_000_000L + random.nextInt(5_000_000));
+            accountIds[a] = insertReturningId(connection,
+                    "INSERT INTO accounts (user_id, bank_name, alias, balance, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) RETURNING id",
+                    userId, BANKS[(index + a) % BANKS.length], "계좌 " + (a + 1), balances[a], createdAt, createdAt);
+        }
+
+        long[] incomeIds = insertCategories(connection, userId, INCOME_CATEGORIES, "INCOME", createdAt);
+        long[] expenseIds = insertCategories(connection, userId, EXPENSE_CATEGORIES, "EXPENSE", createdAt);
+
+        List<Object[]> rows = new ArrayList<>();
+        long total = 0;
+        long salary = 2_500_000L + random.nextInt(30) * 100_000L;
+        long rent = 400_000L + random.nextInt(10) * 50_000L;
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            if (date.getDayOfMonth() == 25) {
+                rows.add(row(accountIds[0], incomeIds[0], "INCOME", salary, "월급", date.atTime(9, 0)));
+                balances[0] = balances[0].add(BigDecimal.valueOf(salary));
+            }
+            if (date.getDayOfMonth() == 1) {
+                rows.add(row(accountIds[0], expenseIds[5], "EXPENSE", rent, "월세", date.atTime(10, 0)));
+                balances[0] = balances[0].subtract(BigDecimal.valueOf(rent));
+            }
+            // 일별 건수는 평균 transactions-per-day 근처에서 변동
+            int count = random.nextInt(transactionsPerDay * 2 + 1);
+            for (int t = 0; t < count; t++) {
+                int category = DAILY_EXPENSE_WEIGHTS[random.nextInt(DAILY_EXPENSE_WEIGHTS.length)];
+                int account = random.nextInt(accountCount);
+                long amount = (1_000L + random.nextInt(category == 2 ? 150_000 : 40_000)) / 100 * 100;
+                String[] memos = MEMOS[category];
+                rows.add(row(accountIds[account], expenseIds[category], "EXPENSE", amount,
+                        memos[random.nextInt(memos.length)], date.atTime(7 + random.nextInt(16), random.nextInt(60))));
+                balances[account] = balances[account].subtract(BigDecimal.valueOf(amount));
+            }
+            if (rows.size() >= BATCH_SIZE) {
+                total += insertTransactions(connection, rows);
+            }
+        }
+        total += insertTransactions(connection, rows);
+
+        try (PreparedStatement statement = connection.prepareStatement("UPDATE accounts SET balance = ? WHERE id = ?")) {
+            for (int a = 0; a < accountCount; a++) {
+                statement.setBigDecimal(1, balances[a]);
+                statement.setLong(2, accountIds[a]);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        // 스냅샷이 없으면 잔액 이력 조회가 비고 첫 쓰기마다 전체 재생성이 일어나 지연 분포가 실제와 달라짐
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_DAILY_BALANCES)) {
+            statement.setLong(1, userId);
+            statement.executeUpdate();
+        }
+        return total;
+    }
+
+    private long[] insertCategories(Connection connection, long userId, String[][] categories, String type,
+                                    Timestamp createdAt) throws SQLException {
+        long[] ids = new long[categories.length];
+        for (int c = 0; c < categories.length; c++) {
+            ids[c] = insertReturningId(connection,
+                    "INSERT INTO categories (user_id, name, type, icon, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) RETURNING id",
+                    userId, categories[c][0], type, categories[c][1], createdAt, createdAt);
+        }
+        return ids;
+    }
+
+    private static Object[] row(long accountId, long categoryId, String type, long amount, String memo, LocalDateTime date) {
+        return new Object[]{accountId, categoryId, type, amount, memo, date};
+    }
+
+    private int insertTransactions(Connection connection, List<Object[]> rows) throws SQLException {
+        String sql = "INSERT INTO transactions (account_id, category_id, type, amount, memo, transaction_date, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Object[] row : rows) {
+                Timestamp date = Timestamp.valueOf((LocalDateTime) row[5]);
+                statement.setLong(1, (Long) row[0]);
+                statement.setLong(2, (Long) row[1]);
+                statement.setString(3, (String) row[2]);
+                statement.setBigDecimal(4, BigDecimal.valueOf((Long) row[3]));
+                statement.setString(5, (String) row[4]);
+                statement.setTimestamp(6, date);
+                statement.setTimestamp(7, date);
+                statement.setTimestamp(8, date);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        int inserted = rows.size();
+        rows.clear();
+        return inserted;
+    }
+
+    private static long insertReturningId(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.budgetbook.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 혼합 트래픽 부하 (가상 사용자 = 스레드, 요청 간 think-time 대기)
+ * 가상 사용자마다 적재된 사용자 하나로 로그인한 뒤 mix 가중치에 따라 요청을 고른다.
+ * warmup 구간의 요청은 집계하지 않으며, 측정 구간 기준으로 엔드포인트별 처리량/p50/p90/p99/최대/오류율을 보고한다.
+ */
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final String[] CHAT_MESSAGES = {
+            "점심에 김치찌개 12000원 먹었어", "오늘 택시비 8500원 나왔어", "이번 달 식비 얼마나 썼어?", "안녕! 사용법 알려줘"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final int users;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Duration thinkTime;
+    private final String password;
+    private final int years;
+    private final double maxErrorRate;
+    private final String reportPath;
+    private final List<String> weightedOperations = new ArrayList<>();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    private volatile long measureStartNanos;
+
+    public LoadDriver(LoadTestOptions options) {
+        this.baseUrl = options.getString("base-url", "http://localhost:8080/api/v1");
+        this.users = options.getInt("users", 50);
+        this.concurrency = options.getInt("concurrency", users);
+        this.duration = options.getDuration("duration", Duration.ofMinutes(2));
+        this.warmup = options.getDuration("warmup", Duration.ofSeconds(30));
+        this.thinkTime = options.getDuration("think-time", Duration.ZERO);
+        this.password = options.getString("password", "loadtest1234");
+        this.years = options.getInt("years", 3);
+        this.maxErrorRate = Double.parseDouble(options.getString("max-error-rate", "0.01"));
+        this.reportPath = options.getString("report", "target/loadtest-report.json");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String mix = options.getString("mix", "list:30,monthly:20,yearly:10,create:20,chat:10,login:10");
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            stats.put(parts[0], new EndpointStats());
+            for (int i = 0; i < Integer.parseInt(parts[1]); i++) {
+                weightedOperations.add(parts[0]);
+            }
+        }
+        stats.putIfAbsent("login", new EndpointStats());
+    }
+
+    /**
+     * @return 전체 오류율이 max-error-rate 이하면 0, 초과하면 1 (CI 판정용)
+     */
+    public int run() throws Exception {
+        System.out.printf("부하 시작 - %s, 가상 사용자: %d, 측정: %ds (warmup %ds), mix: %s%n",
+                baseUrl, concurrency, duration.toSeconds(), warmup.toSeconds(), stats.keySet());
+        long startNanos = System.nanoTime();
+        measureStartNanos = startNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int vu = 0; vu < concurrency; vu++) {
+            int userIndex = vu % users + 1;
+            long vuSeed = vu;
+            executor.submit(() -> virtualUser(userIndex, new Random(vuSeed), endNanos));
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.plus(warmup).toSeconds() + 120, TimeUnit.SECONDS);
+
+        return report(duration.toNanos() / 1e9);
+    }
+
+    private void virtualUser(int userIndex, Random random, long endNanos) {
+        String email = String.format(DatasetSeeder.EMAIL_FORMAT, userIndex);
+        Session session = new Session(email);
+        try {
+            login(session);
+            loadReferenceData(session);
+        } catch (Exception e) {
+            System.err.printf("가상 사용자 준비 실패 - %s: %s%n", email, e.getMessage());
+            return;
+        }
+
+        while (System.nanoTime() < endNanos) {
+            String operation = weightedOperations.get(random.nextInt(weightedOperations.size()));
+            try {
+                switch (operation) {
+                    case "list" -> get(operation, session, "/transactions?page=" + random.nextInt(5) + "&size=20");
+                    case "monthly" -> {
+                        LocalDate month = LocalDate.now().minusMonths(random.nextInt(Math.max(1, years * 12)));
+                        get(operation, session, "/statistics/monthly?year=" + month.getYear() + "&month=" + month.getMonthValue());
+                    }
+                    case "yearly" -> get(operation, session, "/statistics/yearly?year=" + (LocalDate.now().getYear() - random.nextInt(years + 1)));
+                    case "create" -> createTransaction(session, random);
+                    case "chat" -> post(operation, session, "/ai/chat",
+                            Map.of("message", CHAT_MESSAGES[random.nextInt(CHAT_MESSAGES.length)]));
+                    case "login" -> login(session);
+                    default -> throw new IllegalArgumentException("알 수 없는 요청 유형: " + operation);
+                }
+            } catch (Exception e) {
+                // 요청 실패는 오류로 집계됨, 이후 요청 계속
+            }
+            sleep(thinkTime);
+        }
+    }
+
+    private void login(Session session) throws Exception {
+        JsonNode body = post("login", null, "/auth/login", Map.of("email", session.email, "password", password));
+        session.accessToken = body.path("data").path("accessToken").asText();
+    }
+
+    private void loadReferenceData(Session session) throws Exception {
+        for (JsonNode account : send(null, request(session, "/accounts").GET().build())) {
+            session.accountIds.add(account.path("id").asLong());
+        }
+        for (JsonNode category : send(null, request(session, "/categories").GET().build())) {
+            if ("EXPENSE".equals(category.path("type").asText())) {
+                session.expenseCategoryIds.add(category.path("id").asLong());
+            }
+        }
+        if (session.accountIds.isEmpty() || session.expenseCategoryIds.isEmpty()) {
+            throw new IllegalStateException("계좌/카테고리가 없습니다 (seed 먼저 실행)");
+        }
+    }
+
+    private void createTransaction(Session session, Random random) throws Exception {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("accountId", session.accountIds.get(random.nextInt(session.accountIds.size())));
+        body.put("type", "EXPENSE");
+        body.put("amount", 1_000 + random.nextInt(30) * 500);
+        body.put("categoryId", session.expenseCategoryIds.get(random.nextInt(session.expenseCategoryIds.size())));
+        body.put("memo", "부하 테스트");
+        body.put("transactionDate", LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        post("create", session, "/transactions", body);
+    }
+
+    private JsonNode get(String operation, Session session, String path) throws Exception {
+        return send(operation, request(session, path).GET().build());
+    }
+
+    private JsonNode post(String operation, Session session, String path, Map<String, ?> body) throws Exception {
+        HttpRequest request = request(session, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return send(operation, request);
+    }
+
+    private HttpRequest.Builder request(Session session, String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+        if (session != null && session.accessToken != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken);
+        }
+        return builder;
+    }
+
+    /**
+     * 요청 실행 및 집계 (operation이 null이면 준비 단계 요청으로 집계하지 않음)
+     * @return 응답 본문의 data (ApiResponse)
+     */
+    private JsonNode send(String operation, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() >= 400) {
+                throw new IOException(request.uri().getPath() + " → HTTP " + response.statusCode());
+            }
+            JsonNode body = objectMapper.readTree(response.body());
+            error = false;
+            return operation == null ? body.path("data") : body;
+        } finally {
+            if (operation != null && start >= measureStartNanos) {
+                stats.get(operation).record(System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    private int report(double seconds) throws IOException {
+        ArrayNode endpoints = objectMapper.createArrayNode();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "error%", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            long requests = histogram.getTotalCount();
+            long errors = entry.getValue().errors.get();
+            if (requests == 0) {
+                continue;
+            }
+            totalRequests += requests;
+            totalErrors += errors;
+            double errorRate = (double) errors / requests;
+            System.out.printf("%-10s %10d %10.1f %7.2f%% %10.1f %10.1f %10.1f %10.1f%n",
+                    entry.getKey(), requests, requests / seconds, errorRate * 100,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), histogram.getMaxValue() / 1e6);
+
+            ObjectNode endpoint = endpoints.addObject();
+            endpoint.put("endpoint", entry.getKey());
+            endpoint.put("requests", requests);
+            endpoint.put("errors", errors);
+            endpoint.put("errorRate", errorRate);
+            endpoint.put("throughputPerSecond", requests / seconds);
+            endpoint.put("p50Millis", millis(histogram, 50));
+            endpoint.put("p90Millis", millis(histogram, 90));
+            endpoint.put("p99Millis", millis(histogram, 99));
+            endpoint.put("maxMillis", histogram.getMaxValue() / 1e6);
+        }
+        double totalErrorRate = totalRequests == 0 ? 1.0 : (double) totalErrors / totalRequests;
+        System.out.printf("%-10s %10d %10.1f %7.2f%%%n", "total", totalRequests, totalRequests / seconds, totalErrorRate * 100);
+
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("baseUrl", baseUrl);
+        report.put("virtualUsers", concurrency);
+        report.put("durationSeconds", seconds);
+        report.put("warmupSeconds", warmup.toSeconds());
+        report.put("thinkTimeMillis", thinkTime.toMillis());
+        report.put("totalRequests", totalRequests);
+        report.put("throughputPerSecond", totalRequests / seconds);
+        report.put("errorRate", totalErrorRate);
+        report.set("endpoints", endpoints);
+        File file = new File(reportPath);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("보고서: " + file.getAbsolutePath());
+
+        return totalErrorRate <= maxErrorRate ? 0 : 1;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        private void record(long nanos, boolean error) {
+            histogram.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+            if (error) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class Session {
+        private final String email;
+        private final List<Long> accountIds = new ArrayList<>();
+        private final List<Long> expenseCategoryIds = new ArrayList<>();
+        private volatile String accessToken;
+
+        private Session(String email) {
+            this.email = email;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.budgetbook.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트 진입점
+ * - stub-ollama: Ollama /api/generate 스텁 서버 (지연 시간 설정 가능)
+ * - seed: 다년치 합성 데이터 적재 (고정 시드)
+ * - run: 혼합 트래픽 실행 후 엔드포인트별 처리량/p50/p99/오류율 보고
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(Arrays.copyOfRange(args, 1, args.length));
+        switch (args[0]) {
+            case "stub-ollama" -> new StubOllamaServer(options).start();
+            case "seed" -> new DatasetSeeder(options).seed();
+            case "run" -> System.exit(new LoadDriver(options).run());
+            default -> usage();
+        }
+    }
+
+    private static void usage() {
+        System.out.println("""
+                사용법: java -jar loadtest.jar <명령> [--옵션=값 ...]
+                
+                stub-ollama  --port=11500 --latency=300ms --jitter=100ms --token-interval=20ms
+                seed         --jdbc-url=jdbc:postgresql://localhost:5432/budgetbook --db-user=postgres --db-password=postgres
+                             --users=50 --years=3 --transactions-per-day=4 --seed=42 --password=loadtest1234
+                run          --base-url=http://localhost:8080/api/v1 --users=50 --concurrency=50
+                             --duration=2m --warmup=30s --think-time=0ms --password=loadtest1234
+                             --mix=list:30,monthly:20,yearly:10,create:20,chat:10,login:10
+                             --report=target/loadtest-report.json
+                """);
+    }
+}
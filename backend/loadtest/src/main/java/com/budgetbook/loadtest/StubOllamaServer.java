@@ -0,0 +1,139 @@
+package com.budgetbook.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ollama /api/generate 스텁
+ * - 응답 시작까지 latency ± jitter 지연 (모델 로딩/프롬프트 처리 시간)
+ * - stream=true: 응답 텍스트를 토큰 크기 청크로 나눠 token-interval 간격으로 전송 (NDJSON)
+ * - stream=false: 전체 응답 한 번에 전송, 배치 프롬프트면 입력 건수만큼 JSON 배열 생성
+ * 클라이언트가 스트림을 중간에 끊으면 남은 청크는 보내지 않는다.
+ */
+public class StubOllamaServer {
+
+    private static final String CHAT_TEXT =
+            "{\"message\":\"네, 점심 식비 12,000원을 기록할게요.\",\"actionType\":\"TRANSACTION\",\"hasTransaction\":true,"
+            + "\"transaction\":{\"type\":\"EXPENSE\",\"amount\":12000,\"categoryName\":\"식비\",\"memo\":\"점심\"},"
+            + "\"category\":null,\"account\":null}";
+    private static final String PARSE_TEXT =
+            "{\"type\":\"EXPENSE\",\"amount\":12000,\"categoryName\":\"식비\",\"memo\":\"점심\"}";
+    private static final Pattern BATCH_INPUT = Pattern.compile("(?m)^\\s*\\[(\\d+)] ");
+    private static final int CHARS_PER_TOKEN = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int port;
+    private final Duration latency;
+    private final Duration jitter;
+    private final Duration tokenInterval;
+
+    public StubOllamaServer(LoadTestOptions options) {
+        this.port = options.getInt("port", 11500);
+        this.latency = options.getDuration("latency", Duration.ofMillis(300));
+        this.jitter = options.getDuration("jitter", Duration.ofMillis(100));
+        this.tokenInterval = options.getDuration("token-interval", Duration.ofMillis(20));
+    }
+
+    public void start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 256);
+        server.createContext("/api/generate", this::handleGenerate);
+        // 지연 중인 요청이 다른 요청을 막지 않도록 요청마다 스레드 사용
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        System.out.printf("스텁 Ollama 시작 - port: %d, latency: %dms ± %dms, token-interval: %dms%n",
+                port, latency.toMillis(), jitter.toMillis(), tokenInterval.toMillis());
+    }
+
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String prompt = request.path("prompt").asText("");
+            String model = request.path("model").asText("stub");
+            sleep(latency.plusMillis(jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(-jitter.toMillis(), jitter.toMillis() + 1)));
+
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, model, prompt);
+            } else {
+                respond(exchange, model, prompt);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 스트림을 취소한 경우 (JSON 객체 완성 후 연결 종료)
+        }
+    }
+
+    private void respond(HttpExchange exchange, String model, String prompt) throws IOException {
+        String text = responseText(prompt);
+        ObjectNode body = chunk(model, text, true);
+        body.put("prompt_eval_count", tokens(prompt));
+        body.put("eval_count", tokens(text));
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void stream(HttpExchange exchange, String model, String prompt) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        for (int i = 0; i < CHAT_TEXT.length(); i += CHARS_PER_TOKEN) {
+            String token = CHAT_TEXT.substring(i, Math.min(CHAT_TEXT.length(), i + CHARS_PER_TOKEN));
+            out.write(objectMapper.writeValueAsBytes(chunk(model, token, false)));
+            out.write('\n');
+            out.flush();
+            sleep(tokenInterval);
+        }
+        ObjectNode done = chunk(model, "", true);
+        done.put("prompt_eval_count", tokens(prompt));
+        done.put("eval_count", tokens(CHAT_TEXT));
+        out.write(objectMapper.writeValueAsBytes(done));
+        out.write('\n');
+    }
+
+    private String responseText(String prompt) {
+        Matcher matcher = BATCH_INPUT.matcher(prompt);
+        List<String> items = new ArrayList<>();
+        while (matcher.find()) {
+            items.add("{\"index\":" + matcher.group(1) + "," + PARSE_TEXT.substring(1));
+        }
+        return items.isEmpty() ? PARSE_TEXT : "[" + String.join(",", items) + "]";
+    }
+
+    private ObjectNode chunk(String model, String response, boolean done) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("model", model);
+        node.put("response", response);
+        node.put("done", done);
+        return node;
+    }
+
+    private static int tokens(String text) {
+        return Math.max(1, text.getBytes(StandardCharsets.UTF_8).length / 4);
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
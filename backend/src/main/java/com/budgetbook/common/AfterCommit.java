@@ -0,0 +1,27 @@
+package com.budgetbook.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행, 롤백되면 실행하지 않음)
+ * 캐시 무효화·Redis 사본 기록처럼 커밋 전에 하면 그 사이 조회가 변경 전 데이터를 다시 채울 수 있는 작업에 사용한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
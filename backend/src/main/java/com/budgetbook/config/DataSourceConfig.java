@@ -0,0 +1,109 @@
+package com.budgetbook.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 워크로드별 Hikari 커넥션 풀 (oltp / read / analytics)
+ * - 연결 정보는 spring.datasource.*, 풀별 설정은 datasource.pools.{풀 이름}.*
+ * - 풀 크기 0 = CPU 한도 기반 기본값 (WorkloadClass.defaultPoolSize)
+ *   컨테이너에서 availableProcessors는 CPU limit을 따르므로 (1000m → 1) 파드 스펙을 바꾸면 풀 크기도 함께 바뀐다.
+ *   CPU 1개 기준 oltp 4 + read 3 + analytics 2 = 파드당 9개, HPA 최대 10 replica × 9 = 90 ≤ PostgreSQL max_connections(100)
+ * - statement-timeout은 커넥션 생성 시 SET statement_timeout으로 적용 (0 = 제한 없음)
+ * - 메트릭: hikaricp.connections.*{pool="budgetbook-oltp" ...}
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    private final Map<WorkloadClass, HikariDataSource> pools = new EnumMap<>(WorkloadClass.class);
+
+    @Value("${datasource.pools.oltp.maximum-pool-size:0}")
+    private int oltpPoolSize;
+
+    @Value("${datasource.pools.oltp.connection-timeout:3s}")
+    private Duration oltpConnectionTimeout;
+
+    @Value("${datasource.pools.oltp.statement-timeout:5s}")
+    private Duration oltpStatementTimeout;
+
+    @Value("${datasource.pools.read.maximum-pool-size:0}")
+    private int readPoolSize;
+
+    @Value("${datasource.pools.read.connection-timeout:5s}")
+    private Duration readConnectionTimeout;
+
+    @Value("${datasource.pools.read.statement-timeout:10s}")
+    private Duration readStatementTimeout;
+
+    @Value("${datasource.pools.analytics.maximum-pool-size:0}")
+    private int analyticsPoolSize;
+
+    @Value("${datasource.pools.analytics.connection-timeout:3s}")
+    private Duration analyticsConnectionTimeout;
+
+    @Value("${datasource.pools.analytics.statement-timeout:60s}")
+    private Duration analyticsStatementTimeout;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        int cpus = Runtime.getRuntime().availableProcessors();
+        pools.put(WorkloadClass.OLTP, createPool(properties, metrics, WorkloadClass.OLTP,
+                poolSize(oltpPoolSize, WorkloadClass.OLTP, cpus), oltpConnectionTimeout, oltpStatementTimeout));
+        pools.put(WorkloadClass.READ, createPool(properties, metrics, WorkloadClass.READ,
+                poolSize(readPoolSize, WorkloadClass.READ, cpus), readConnectionTimeout, readStatementTimeout));
+        pools.put(WorkloadClass.ANALYTICS, createPool(properties, metrics, WorkloadClass.ANALYTICS,
+                poolSize(analyticsPoolSize, WorkloadClass.ANALYTICS, cpus), analyticsConnectionTimeout, analyticsStatementTimeout));
+        log.info("커넥션 풀 구성 - CPU: {}, oltp: {}, read: {}, analytics: {}", cpus,
+                pools.get(WorkloadClass.OLTP).getMaximumPoolSize(),
+                pools.get(WorkloadClass.READ).getMaximumPoolSize(),
+                pools.get(WorkloadClass.ANALYTICS).getMaximumPoolSize());
+
+        // 트랜잭션 시작 시점에는 커넥션을 잡지 않고 첫 SQL 실행 때 라우팅 (readOnly 여부가 정해진 뒤)
+        // 기본 속성을 먼저 지정해 두면 속성 확인용 커넥션을 미리 꺼내지 않음
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.setTargetDataSource(new WorkloadRoutingDataSource(pools));
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @PreDestroy
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, MicrometerMetricsTrackerFactory metrics,
+                                        WorkloadClass workload, int size,
+                                        Duration connectionTimeout, Duration statementTimeout) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("budgetbook-" + workload.getPoolName());
+        pool.setMaximumPoolSize(size);
+        // 요청 경로 풀은 고정 크기, 분석 풀은 배치/통계가 없을 때 1개만 유지
+        pool.setMinimumIdle(workload == WorkloadClass.ANALYTICS ? 1 : size);
+        pool.setConnectionTimeout(connectionTimeout.toMillis());
+        pool.setConnectionInitSql("SET statement_timeout = " + statementTimeout.toMillis());
+        pool.setMetricsTrackerFactory(metrics);
+        return pool;
+    }
+
+    private int poolSize(int configured, WorkloadClass workload, int cpus) {
+        return configured > 0 ? configured : workload.defaultPoolSize(cpus);
+    }
+}
@@ -1,9 +1,19 @@
 package com.budgetbook.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class OllamaConfig {
@@ -11,14 +21,79 @@ public class OllamaConfig {
     @Value("${ollama.base-url}")
     private String baseUrl;
 
+    // LLM 트래픽 전용 HTTP 클라이언트 설정
+    @Value("${ollama.http.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${ollama.http.pending-acquire-max-count:64}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${ollama.http.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${ollama.http.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${ollama.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${ollama.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${ollama.http.response-timeout:60s}")
+    private Duration responseTimeout;
+
+    @Value("${ollama.http.write-timeout:10s}")
+    private Duration writeTimeout;
+
+    @Value("${ollama.http.keep-alive-idle:30s}")
+    private Duration keepAliveIdle;
+
+    @Value("${ollama.http.max-in-memory-size:524288}")
+    private int maxInMemorySize;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ollamaConnectionProvider() {
+        return ConnectionProvider.builder("ollama")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .lifo()
+                // reactor.netty.connection.provider.* 게이지를 Micrometer 글로벌 레지스트리에 등록
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient ollamaWebClient() {
+    public WebClient ollamaWebClient(ConnectionProvider ollamaConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(ollamaConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                // 요청 단위 응답 타임아웃 (풀에 반납된 유휴 연결에는 적용되지 않음)
+                .responseTimeout(responseTimeout)
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        // 리눅스(epoll)에서는 TCP keepalive 주기를 직접 지정해 NAT/LB에 의해 끊긴 유휴 연결을 빨리 감지
+        if (Epoll.isAvailable()) {
+            int idleSeconds = (int) Math.max(1, keepAliveIdle.toSeconds());
+            httpClient = httpClient
+                    .option(EpollChannelOption.TCP_KEEPIDLE, idleSeconds)
+                    .option(EpollChannelOption.TCP_KEEPINTVL, Math.max(1, idleSeconds / 3))
+                    .option(EpollChannelOption.TCP_KEEPCNT, 3);
+        }
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Content-Type", "application/json")
+                // num_predict로 출력 길이가 제한되므로 응답 버퍼는 작게 유지
                 .codecs(configurer -> configurer
                         .defaultCodecs()
-                        .maxInMemorySize(16 * 1024 * 1024))
+                        .maxInMemorySize(maxInMemorySize))
                 .build();
     }
 }
@@ -0,0 +1,96 @@
+package com.budgetbook.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청당 SQL 실행 횟수 집계
+ * - 메트릭: http.server.requests.sql.statements{method, uri} (uri는 컨트롤러 매핑 패턴)
+ * - 예산: query-budget.enabled일 때 실행 횟수가 예산을 넘으면 경고 로그
+ *   목록 조회가 연관 엔티티를 행마다 지연 로딩(N+1)하면 실행 횟수가 예산을 넘으므로 경고 로그로 드러난다.
+ * 비동기 요청(통계 조회 WebAsyncTask)은 최초 요청에서 만든 카운터를 요청 속성에 두고,
+ * 작업 스레드가 같은 카운터로 센 뒤 결과를 전달하는 비동기 디스패치에서 기록한다.
+ */
+@Slf4j
+@Configuration
+public class QueryBudgetConfig {
+
+    private static final String METRIC_NAME = "http.server.requests.sql.statements";
+    private static final String COUNTER_ATTRIBUTE = QueryBudgetConfig.class.getName() + ".counter";
+
+    @Value("${query-budget.enabled:false}")
+    private boolean budgetEnabled;
+
+    @Value("${query-budget.max-statements:10}")
+    private int maxStatements;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> queryBudgetFilter(MeterRegistry meterRegistry) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected boolean shouldNotFilterAsyncDispatch() {
+                return false;
+            }
+
+            @Override
+            protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                            @NonNull HttpServletResponse response,
+                                            @NonNull FilterChain filterChain) throws ServletException, IOException {
+                AtomicInteger counter = (AtomicInteger) request.getAttribute(COUNTER_ATTRIBUTE);
+                if (counter != null) {
+                    QueryCountInspector.resume(counter);
+                } else {
+                    request.setAttribute(COUNTER_ATTRIBUTE, QueryCountInspector.begin());
+                }
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    int count = QueryCountInspector.end();
+                    // 비동기 요청은 작업 스레드가 끝난 뒤 비동기 디스패치에서 합계를 기록
+                    if (!request.isAsyncStarted()) {
+                        record(request, count);
+                    }
+                }
+            }
+
+            private void record(HttpServletRequest request, int count) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder(METRIC_NAME)
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                        .register(meterRegistry)
+                        .record(count);
+                if (budgetEnabled && count > maxStatements) {
+                    log.warn("요청당 쿼리 예산 초과 - {} {}, 실행: {}, 예산: {}",
+                            request.getMethod(), request.getRequestURI(), count, maxStatements);
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,94 @@
+package com.budgetbook.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 다른 스레드에서 실행 중인 조회 취소 (클라이언트 연결 종료, 응답 기한 초과 시)
+ * call() 안에서 얻은 커넥션을 기록해 두고, cancel()이 호출되면 PostgreSQL 취소 요청을 보내 실행 중인 SQL을 중단시킨다.
+ * 취소 후에는 새 커넥션을 내주지 않으므로 남은 조회도 실행되지 않는다.
+ * 커넥션 획득은 WorkloadRoutingDataSource가 알려준다.
+ * 반납(close)과 취소는 같은 락으로 순서를 맞춘다 - 취소 요청은 아직 이 요청이 쥐고 있는 커넥션에만 가고,
+ * 풀에 돌아가 다른 요청이 쓰는 커넥션의 조회는 취소하지 않는다.
+ */
+@Slf4j
+public class QueryCancellation {
+
+    private static final ThreadLocal<QueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private final List<Connection> connections = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    /**
+     * 현재 스레드에서 작업 실행 (작업 중 얻은 커넥션이 취소 대상)
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        CURRENT.set(this);
+        try {
+            return task.call();
+        } finally {
+            CURRENT.remove();
+            synchronized (this) {
+                connections.clear();
+            }
+        }
+    }
+
+    public synchronized void cancel() {
+        cancelled = true;
+        // 목록에 남은 커넥션은 아직 반납 전 (close가 같은 락을 잡고 목록에서 뺀 뒤 반납함)
+        for (Connection connection : connections) {
+            try {
+                connection.unwrap(PGConnection.class).cancelQuery();
+            } catch (SQLException e) {
+                log.debug("조회 취소 요청 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 현재 스레드가 call() 안이면 커넥션을 취소 대상으로 기록하고, close 시 목록에서 빼도록 감싸서 반환
+     */
+    static Connection track(Connection connection) throws SQLException {
+        QueryCancellation current = CURRENT.get();
+        if (current == null) {
+            return connection;
+        }
+        synchronized (current) {
+            if (current.cancelled) {
+                connection.close();
+                throw new SQLException("취소된 요청의 조회입니다");
+            }
+            current.connections.add(connection);
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        current.release(connection);
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private synchronized void release(Connection connection) throws SQLException {
+        connections.remove(connection);
+        connection.close();
+    }
+}
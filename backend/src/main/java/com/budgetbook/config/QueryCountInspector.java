@@ -0,0 +1,70 @@
+package com.budgetbook.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 스레드별 Hibernate SQL 실행 횟수 집계
+ * 집계 구간(begin/resume ~ end) 밖에서 실행된 SQL은 세지 않는다. (스케줄러 등)
+ * 요청이 비동기 작업(WebAsyncTask)으로 조회를 넘기면 propagate로 같은 카운터를 작업 스레드에 연결한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = COUNTER.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * 새 집계 시작 (반환한 카운터는 비동기 디스패치에서 resume으로 이어서 사용)
+     */
+    public static AtomicInteger begin() {
+        AtomicInteger counter = new AtomicInteger();
+        COUNTER.set(counter);
+        return counter;
+    }
+
+    public static void resume(AtomicInteger counter) {
+        COUNTER.set(counter);
+    }
+
+    /**
+     * 집계 종료 후 실행 횟수 반환
+     */
+    public static int end() {
+        AtomicInteger counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * 현재 스레드의 카운터를 다른 스레드에서 실행할 작업에 연결 (집계 중이 아니면 그대로 반환)
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        AtomicInteger counter = COUNTER.get();
+        if (counter == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = COUNTER.get();
+            COUNTER.set(counter);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    COUNTER.set(previous);
+                } else {
+                    COUNTER.remove();
+                }
+            }
+        };
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 public class RedisConfig {
@@ -50,8 +51,11 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonRedisSerializer))
                 .disableCachingNullValues();
 
+        // 캐시 메트릭(cache.gets hit/miss)은 기동 시점에 존재하는 캐시에만 바인딩되므로 미리 생성
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .initialCacheNames(Set.of("accounts", "categories", "user"))
+                .enableStatistics()
                 .build();
     }
 }
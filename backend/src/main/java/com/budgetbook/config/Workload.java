@@ -0,0 +1,20 @@
+package com.budgetbook.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 클래스/메서드가 사용할 커넥션 풀 지정 (WorkloadRoutingAspect)
+ * 트랜잭션이 처음 커넥션을 얻는 시점의 값이 적용되므로, 이미 진행 중인 트랜잭션 안에서 호출되면 바깥 트랜잭션의 풀을 그대로 쓴다.
+ * 지정하지 않으면 readOnly 트랜잭션은 READ, 나머지는 OLTP.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Workload {
+
+    WorkloadClass value();
+}
@@ -0,0 +1,33 @@
+package com.budgetbook.config;
+
+/**
+ * DB 커넥션 풀 구분 (워크로드 종류별로 풀을 나눠 느린 조회가 로그인/쓰기 커넥션을 고갈시키지 않게 함)
+ * 기본 크기는 파드 CPU 한도(availableProcessors) 기준: perCpu × CPU + extra
+ */
+public enum WorkloadClass {
+
+    /** 쓰기 트랜잭션, 로그인 등 짧은 요청 (readOnly가 아닌 트랜잭션, 트랜잭션 밖 조회) */
+    OLTP("oltp", 2, 2),
+    /** 목록/상세 조회 (@Transactional(readOnly = true)) */
+    READ("read", 2, 1),
+    /** 통계, 긴 기간 조회, 백그라운드 배치 (@Workload(ANALYTICS)로 지정) */
+    ANALYTICS("analytics", 1, 1);
+
+    private final String poolName;
+    private final int perCpu;
+    private final int extra;
+
+    WorkloadClass(String poolName, int perCpu, int extra) {
+        this.poolName = poolName;
+        this.perCpu = perCpu;
+        this.extra = extra;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int defaultPoolSize(int cpus) {
+        return perCpu * cpus + extra;
+    }
+}
@@ -0,0 +1,35 @@
+package com.budgetbook.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Workload가 붙은 서비스 호출 동안 커넥션 풀 지정
+ * 트랜잭션 인터셉터보다 먼저 실행되어야 트랜잭션 커넥션이 지정된 풀에서 나오므로 우선순위를 가장 높게 둔다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadRoutingAspect {
+
+    @Around("@within(com.budgetbook.config.Workload) || @annotation(com.budgetbook.config.Workload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+        }
+        WorkloadClass previous = WorkloadRoutingDataSource.use(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadRoutingDataSource.restore(previous);
+        }
+    }
+}
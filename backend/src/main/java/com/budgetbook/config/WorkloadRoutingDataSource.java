@@ -0,0 +1,64 @@
+package com.budgetbook.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워크로드별 커넥션 풀 라우팅
+ * 1) @Workload로 지정된 풀  2) readOnly 트랜잭션 → READ  3) 그 외 → OLTP
+ * readOnly 여부는 트랜잭션 시작 후에야 알 수 있으므로 LazyConnectionDataSourceProxy로 감싸
+ * 첫 SQL 실행 시점에 풀을 고르게 한다 (DataSourceConfig).
+ * 꺼낸 커넥션은 QueryCancellation에 알려 다른 스레드에서 조회를 취소할 수 있게 한다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    public WorkloadRoutingDataSource(Map<WorkloadClass, ? extends DataSource> pools) {
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(WorkloadClass.OLTP));
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return QueryCancellation.track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return QueryCancellation.track(super.getConnection(username, password));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        WorkloadClass workload = CURRENT.get();
+        if (workload != null) {
+            return workload;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? WorkloadClass.READ : WorkloadClass.OLTP;
+    }
+
+    /**
+     * 현재 스레드의 풀 지정 (이전 값을 반환하므로 호출자가 restore로 되돌림)
+     */
+    static WorkloadClass use(WorkloadClass workload) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(WorkloadClass previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.budgetbook.controller;
 
 import com.budgetbook.common.ApiResponse;
+import com.budgetbook.dto.account.AccountBalanceHistoryResponse;
+import com.budgetbook.dto.account.AccountBalanceResponse;
 import com.budgetbook.dto.account.AccountCreateRequest;
 import com.budgetbook.dto.account.AccountResponse;
+import com.budgetbook.service.AccountBalanceHistoryService;
 import com.budgetbook.service.AccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +24,7 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountBalanceHistoryService balanceHistoryService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<AccountResponse>>> getAccounts(
@@ -65,6 +71,27 @@ public class AccountController {
         return ResponseEntity.ok(ApiResponse.success(null, "계좌가 삭제되었습니다"));
     }
 
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<ApiResponse<AccountBalanceResponse>> getBalanceOn(
+            Authentication authentication,
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        Long userId = Long.parseLong(authentication.getName());
+        AccountBalanceResponse response = balanceHistoryService.getBalanceOn(userId, id, date);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/balance-history")
+    public ResponseEntity<ApiResponse<AccountBalanceHistoryResponse>> getBalanceHistory(
+            Authentication authentication,
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = Long.parseLong(authentication.getName());
+        AccountBalanceHistoryResponse response = balanceHistoryService.getBalanceHistory(userId, id, startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @lombok.Getter
     @lombok.Setter
     private static class AccountUpdateRequest {
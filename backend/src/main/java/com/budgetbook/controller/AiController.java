@@ -1,6 +1,7 @@
 package com.budgetbook.controller;
 
 import com.budgetbook.common.ApiResponse;
+import com.budgetbook.dto.ai.AiBatchParseRequest;
 import com.budgetbook.dto.ai.AiParseRequest;
 import com.budgetbook.dto.ai.AiParseResponse;
 import com.budgetbook.dto.ai.ChatRequest;
@@ -39,6 +40,15 @@ public class AiController {
         }
     }
 
+    @PostMapping("/parse-transactions")
+    public ResponseEntity<ApiResponse<List<AiParseResponse>>> parseTransactions(
+            Authentication authentication,
+            @Valid @RequestBody AiBatchParseRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        List<AiParseResponse> responses = aiService.parseTransactions(userId, request.getTexts());
+        return ResponseEntity.ok(ApiResponse.success(responses, "거래 내역 일괄 파싱 완료"));
+    }
+
     @PostMapping("/chat")
     public ResponseEntity<ApiResponse<ChatResponse>> chat(
             Authentication authentication,
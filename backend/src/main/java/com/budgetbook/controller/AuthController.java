@@ -6,6 +6,7 @@ import com.budgetbook.dto.auth.SignupRequest;
 import com.budgetbook.dto.auth.TokenResponse;
 import com.budgetbook.dto.user.UserResponse;
 import com.budgetbook.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,8 +22,10 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<UserResponse>> signup(@Valid @RequestBody SignupRequest request) {
-        var user = authService.signup(request);
+    public ResponseEntity<ApiResponse<UserResponse>> signup(
+            @Valid @RequestBody SignupRequest request,
+            HttpServletRequest httpRequest) {
+        var user = authService.signup(request, getClientIp(httpRequest));
         var response = UserResponse.builder()
                 .id(user.getId())
                 .name(user.getName())
@@ -37,8 +40,10 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
-        TokenResponse tokenResponse = authService.login(request);
+    public ResponseEntity<ApiResponse<TokenResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        TokenResponse tokenResponse = authService.login(request, getClientIp(httpRequest));
         return ResponseEntity.ok(ApiResponse.success(tokenResponse));
     }
 
@@ -67,6 +72,12 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // X-Forwarded-For는 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가 붙인 항목만 Tomcat RemoteIpValve가
+    // 반영하므로 remoteAddr가 실제 클라이언트 주소 (클라이언트가 보낸 헤더를 직접 읽으면 요청마다 바꿔 IP 제한을 우회할 수 있음)
+    private String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
     @lombok.Getter
     @lombok.Setter
     @lombok.AllArgsConstructor
@@ -0,0 +1,59 @@
+package com.budgetbook.controller;
+
+import com.budgetbook.common.ApiResponse;
+import com.budgetbook.dto.budget.BudgetCreateRequest;
+import com.budgetbook.dto.budget.BudgetResponse;
+import com.budgetbook.dto.budget.BudgetUpdateRequest;
+import com.budgetbook.service.BudgetService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/budgets")
+@RequiredArgsConstructor
+public class BudgetController {
+
+    private final BudgetService budgetService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BudgetResponse>>> getBudgets(Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        List<BudgetResponse> budgets = budgetService.getBudgets(userId);
+        return ResponseEntity.ok(ApiResponse.success(budgets));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<BudgetResponse>> createBudget(
+            Authentication authentication,
+            @Valid @RequestBody BudgetCreateRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        BudgetResponse response = budgetService.createBudget(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "예산이 생성되었습니다"));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<BudgetResponse>> updateBudget(
+            Authentication authentication,
+            @PathVariable Long id,
+            @Valid @RequestBody BudgetUpdateRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        BudgetResponse response = budgetService.updateBudget(userId, id, request);
+        return ResponseEntity.ok(ApiResponse.success(response, "예산이 수정되었습니다"));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteBudget(
+            Authentication authentication,
+            @PathVariable Long id) {
+        Long userId = Long.parseLong(authentication.getName());
+        budgetService.deleteBudget(userId, id);
+        return ResponseEntity.ok(ApiResponse.success(null, "예산이 삭제되었습니다"));
+    }
+}
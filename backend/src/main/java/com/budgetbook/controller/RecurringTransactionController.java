@@ -0,0 +1,62 @@
+package com.budgetbook.controller;
+
+import com.budgetbook.common.ApiResponse;
+import com.budgetbook.dto.recurring.RecurringTransactionCreateRequest;
+import com.budgetbook.dto.recurring.RecurringTransactionResponse;
+import com.budgetbook.dto.recurring.RecurringTransactionUpdateRequest;
+import com.budgetbook.service.RecurringTransactionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/recurring-transactions")
+@RequiredArgsConstructor
+public class RecurringTransactionController {
+
+    private final RecurringTransactionService recurringTransactionService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<RecurringTransactionResponse>>> getRecurringTransactions(
+            Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        List<RecurringTransactionResponse> recurringTransactions =
+                recurringTransactionService.getRecurringTransactions(userId);
+        return ResponseEntity.ok(ApiResponse.success(recurringTransactions));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<RecurringTransactionResponse>> createRecurringTransaction(
+            Authentication authentication,
+            @Valid @RequestBody RecurringTransactionCreateRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        RecurringTransactionResponse response = recurringTransactionService.createRecurringTransaction(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "정기 거래가 등록되었습니다"));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<RecurringTransactionResponse>> updateRecurringTransaction(
+            Authentication authentication,
+            @PathVariable Long id,
+            @Valid @RequestBody RecurringTransactionUpdateRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        RecurringTransactionResponse response =
+                recurringTransactionService.updateRecurringTransaction(userId, id, request);
+        return ResponseEntity.ok(ApiResponse.success(response, "정기 거래가 수정되었습니다"));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteRecurringTransaction(
+            Authentication authentication,
+            @PathVariable Long id) {
+        Long userId = Long.parseLong(authentication.getName());
+        recurringTransactionService.deleteRecurringTransaction(userId, id);
+        return ResponseEntity.ok(ApiResponse.success(null, "정기 거래가 삭제되었습니다"));
+    }
+}
@@ -2,60 +2,174 @@ package com.budgetbook.controller;
 
 import com.budgetbook.common.ApiResponse;
 import com.budgetbook.common.exception.BusinessException;
+import com.budgetbook.config.QueryCancellation;
+import com.budgetbook.config.QueryCountInspector;
 import com.budgetbook.dto.statistics.MonthlyStatisticsResponse;
+import com.budgetbook.dto.statistics.TrendStatisticsResponse;
 import com.budgetbook.dto.statistics.WeeklyStatisticsResponse;
 import com.budgetbook.dto.statistics.YearlyStatisticsResponse;
 import com.budgetbook.service.StatisticsService;
-import lombok.RequiredArgsConstructor;
+import com.budgetbook.service.StatisticsSnapshotStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
+
+/**
+ * 통계 조회 (엔드포인트별 응답 기한)
+ * - 조회는 전용 스레드 풀에서 실행하고, 기한(statistics.deadline.*)이 지나면 마지막 성공 결과를 대체 응답으로 반환
+ *   (X-Degraded: stale 헤더 + 계산 시각 안내 메시지, 저장된 결과가 없으면 503)
+ * - 같은 기한이 StatisticsService 트랜잭션 timeout으로 JDBC 조회 제한 시간(setQueryTimeout)에도 적용된다.
+ * - 기한 초과 또는 클라이언트 연결 종료 시 실행 중인 SQL에 취소 요청을 보내 커넥션을 바로 돌려받는다.
+ */
+@Slf4j
 @RestController
 @RequestMapping("/statistics")
-@RequiredArgsConstructor
 public class StatisticsController {
 
+    private static final String DEGRADED_HEADER = "X-Degraded";
+
     private final StatisticsService statisticsService;
+    private final StatisticsSnapshotStore snapshotStore;
+    private final ThreadPoolTaskExecutor queryExecutor;
+
+    @Value("${statistics.deadline.monthly:3}")
+    private int monthlyDeadlineSeconds;
+
+    @Value("${statistics.deadline.weekly:3}")
+    private int weeklyDeadlineSeconds;
+
+    @Value("${statistics.deadline.yearly:5}")
+    private int yearlyDeadlineSeconds;
+
+    @Value("${statistics.deadline.trend:8}")
+    private int trendDeadlineSeconds;
+
+    public StatisticsController(
+            StatisticsService statisticsService,
+            StatisticsSnapshotStore snapshotStore,
+            @Value("${statistics.executor.threads:8}") int threads,
+            @Value("${statistics.executor.queue-capacity:64}") int queueCapacity) {
+        this.statisticsService = statisticsService;
+        this.snapshotStore = snapshotStore;
+
+        // 요청 스레드(Tomcat)는 조회를 기다리지 않고 반환되며, 동시에 실행되는 통계 조회 수는 이 풀 크기로 제한
+        this.queryExecutor = new ThreadPoolTaskExecutor();
+        this.queryExecutor.setCorePoolSize(threads);
+        this.queryExecutor.setMaxPoolSize(threads);
+        this.queryExecutor.setQueueCapacity(queueCapacity);
+        this.queryExecutor.setThreadNamePrefix("statistics-query-");
+        this.queryExecutor.setRejectedExecutionHandler((task, executor) -> {
+            throw new BusinessException("STATISTICS_006", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요",
+                    HttpStatus.TOO_MANY_REQUESTS);
+        });
+        this.queryExecutor.initialize();
+    }
 
     @GetMapping("/monthly")
-    public ResponseEntity<ApiResponse<MonthlyStatisticsResponse>> getMonthlyStatistics(
+    public WebAsyncTask<ResponseEntity<ApiResponse<MonthlyStatisticsResponse>>> getMonthlyStatistics(
             Authentication authentication,
             @RequestParam int year,
             @RequestParam int month) {
-        try {
-            Long userId = Long.parseLong(authentication.getName());
-            MonthlyStatisticsResponse response = statisticsService.getMonthlyStatistics(userId, year, month);
-            return ResponseEntity.ok(ApiResponse.success(response));
-        } catch (Exception e) {
-            throw new BusinessException("STATISTICS_001", "월별 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        Long userId = Long.parseLong(authentication.getName());
+        return withDeadline(userId, "monthly:" + year + "-" + month, monthlyDeadlineSeconds,
+                MonthlyStatisticsResponse.class,
+                () -> statisticsService.getMonthlyStatistics(userId, year, month));
     }
 
     @GetMapping("/weekly")
-    public ResponseEntity<ApiResponse<WeeklyStatisticsResponse>> getWeeklyStatistics(
+    public WebAsyncTask<ResponseEntity<ApiResponse<WeeklyStatisticsResponse>>> getWeeklyStatistics(
             Authentication authentication,
             @RequestParam int year,
             @RequestParam int week) {
-        try {
-            Long userId = Long.parseLong(authentication.getName());
-            WeeklyStatisticsResponse response = statisticsService.getWeeklyStatistics(userId, year, week);
-            return ResponseEntity.ok(ApiResponse.success(response));
-        } catch (Exception e) {
-            throw new BusinessException("STATISTICS_002", "주간 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        Long userId = Long.parseLong(authentication.getName());
+        return withDeadline(userId, "weekly:" + year + "-" + week, weeklyDeadlineSeconds,
+                WeeklyStatisticsResponse.class,
+                () -> statisticsService.getWeeklyStatistics(userId, year, week));
     }
 
     @GetMapping("/yearly")
-    public ResponseEntity<ApiResponse<YearlyStatisticsResponse>> getYearlyStatistics(
+    public WebAsyncTask<ResponseEntity<ApiResponse<YearlyStatisticsResponse>>> getYearlyStatistics(
             Authentication authentication,
             @RequestParam int year) {
-        try {
-            Long userId = Long.parseLong(authentication.getName());
-            YearlyStatisticsResponse response = statisticsService.getYearlyStatistics(userId, year);
-            return ResponseEntity.ok(ApiResponse.success(response));
-        } catch (Exception e) {
-            throw new BusinessException("STATISTICS_003", "연간 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        Long userId = Long.parseLong(authentication.getName());
+        return withDeadline(userId, "yearly:" + year, yearlyDeadlineSeconds,
+                YearlyStatisticsResponse.class,
+                () -> statisticsService.getYearlyStatistics(userId, year));
+    }
+
+    @GetMapping("/trend")
+    public WebAsyncTask<ResponseEntity<ApiResponse<TrendStatisticsResponse>>> getTrendStatistics(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "MONTH") String period,
+            @RequestParam(defaultValue = "3") int movingAverageWindow) {
+        Long userId = Long.parseLong(authentication.getName());
+        return withDeadline(userId,
+                "trend:" + startDate + ":" + endDate + ":" + period + ":" + movingAverageWindow, trendDeadlineSeconds,
+                TrendStatisticsResponse.class,
+                () -> statisticsService.getTrendStatistics(userId, startDate, endDate, period, movingAverageWindow));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryExecutor.shutdown();
+    }
+
+    /**
+     * 기한 안에 끝나면 결과를 반환하고 스냅샷으로 저장, 기한을 넘기면 조회를 취소하고 대체 응답
+     * 검증 오류(BusinessException) 등 그 밖의 예외는 그대로 전역 예외 처리로 전달된다.
+     */
+    private <T> WebAsyncTask<ResponseEntity<ApiResponse<T>>> withDeadline(
+            Long userId, String query, int deadlineSeconds, Class<T> type, Callable<T> statistics) {
+        QueryCancellation cancellation = new QueryCancellation();
+        Callable<ResponseEntity<ApiResponse<T>>> lookup = () -> {
+            try {
+                T response = cancellation.call(statistics);
+                snapshotStore.save(userId, query, response);
+                return ResponseEntity.ok(ApiResponse.success(response));
+            } catch (QueryTimeoutException | TransactionTimedOutException e) {
+                // 트랜잭션 timeout(JDBC 조회 제한 시간)이 응답 기한보다 먼저 걸린 경우
+                log.warn("통계 조회 제한 시간 초과 - userId: {}, query: {}", userId, query);
+                return degraded(userId, query, type);
+            }
+        };
+        // 요청당 SQL 집계(QueryBudgetConfig)가 작업 스레드의 조회도 세도록 요청의 카운터를 연결
+        WebAsyncTask<ResponseEntity<ApiResponse<T>>> task = new WebAsyncTask<>(deadlineSeconds * 1000L, queryExecutor,
+                QueryCountInspector.propagate(lookup));
+        task.onTimeout(() -> {
+            cancellation.cancel();
+            log.warn("통계 조회 응답 기한 초과 - userId: {}, query: {}, 기한: {}초", userId, query, deadlineSeconds);
+            return degraded(userId, query, type);
+        });
+        task.onError(() -> {
+            // 클라이언트 연결 종료 등으로 응답을 보낼 수 없는 경우 (응답 본문은 전달되지 않음)
+            cancellation.cancel();
+            log.info("통계 조회 중단 - userId: {}, query: {}", userId, query);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        });
+        return task;
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> degraded(Long userId, String query, Class<T> type) {
+        return snapshotStore.find(userId, query, type)
+                .map(snapshot -> ResponseEntity.ok()
+                        .header(DEGRADED_HEADER, "stale")
+                        .body(ApiResponse.success(snapshot.getData(),
+                                "통계 계산이 지연되어 " + snapshot.getAsOf() + " 기준 결과를 표시합니다")))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(ApiResponse.error("STATISTICS_005", "통계 계산이 지연되고 있습니다. 잠시 후 다시 시도해 주세요")));
     }
 }
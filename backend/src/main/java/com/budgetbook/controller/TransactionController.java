@@ -2,6 +2,8 @@ package com.budgetbook.controller;
 
 import com.budgetbook.common.ApiResponse;
 import com.budgetbook.dto.transaction.TransactionCreateRequest;
+import com.budgetbook.dto.transaction.TransactionCursorResponse;
+import com.budgetbook.dto.transaction.TransactionFilterRequest;
 import com.budgetbook.dto.transaction.TransactionResponse;
 import com.budgetbook.service.TransactionService;
 import jakarta.validation.Valid;
@@ -40,6 +42,24 @@ public class TransactionController {
         }
     }
 
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<TransactionCursorResponse>> getFilteredTransactions(
+            Authentication authentication,
+            @Valid @ModelAttribute TransactionFilterRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        TransactionCursorResponse response = transactionService.getFilteredTransactions(userId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<TransactionCursorResponse>> searchTransactions(
+            Authentication authentication,
+            @Valid @ModelAttribute TransactionFilterRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        TransactionCursorResponse response = transactionService.searchTransactions(userId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<TransactionResponse>> createTransaction(
             Authentication authentication,
@@ -3,6 +3,7 @@ package com.budgetbook.controller;
 import com.budgetbook.common.ApiResponse;
 import com.budgetbook.dto.user.UserResponse;
 import com.budgetbook.dto.user.UserUpdateRequest;
+import com.budgetbook.service.AuthService;
 import com.budgetbook.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final AuthService authService;
 
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> getMyInfo(Authentication authentication) {
@@ -32,4 +34,15 @@ public class UserController {
         UserResponse response = userService.updateUser(userId, request);
         return ResponseEntity.ok(ApiResponse.success(response, "정보가 수정되었습니다"));
     }
+
+    /**
+     * 모든 기기에서 로그아웃 (사용자의 Refresh Token 전체 폐기)
+     * /auth/** 는 JWT 필터를 건너뛰므로 인증이 필요한 이 경로에 둔다.
+     */
+    @DeleteMapping("/me/sessions")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        authService.logoutAll(userId);
+        return ResponseEntity.ok(ApiResponse.success(null, "모든 기기에서 로그아웃되었습니다"));
+    }
 }
@@ -0,0 +1,150 @@
+package com.budgetbook.datagen;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * PostgreSQL COPY text 형식 행 버퍼 (열 구분 탭, 행 구분 개행)
+ * 숫자/날짜는 문자열 객체를 만들지 않고 바로 바이트로 기록한다.
+ */
+class CopyBuffer {
+
+    private byte[] bytes;
+    private int length;
+    private long rows;
+    private boolean rowStarted;
+
+    CopyBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    CopyBuffer add(long value) {
+        separator();
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        if (value == 0) {
+            put((byte) '0');
+            return this;
+        }
+        int start = length;
+        while (value > 0) {
+            put((byte) ('0' + value % 10));
+            value /= 10;
+        }
+        // 역순으로 기록한 자릿수 뒤집기
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte digit = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = digit;
+        }
+        return this;
+    }
+
+    /**
+     * 원 단위 금액을 DECIMAL(15, 2) 값으로 기록
+     */
+    CopyBuffer addAmount(long won) {
+        add(won);
+        ensure(3);
+        put((byte) '.');
+        put((byte) '0');
+        put((byte) '0');
+        return this;
+    }
+
+    /**
+     * 문자열 값 (역슬래시/탭/개행 이스케이프)
+     */
+    CopyBuffer add(String value) {
+        separator();
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        ensure(encoded.length * 2);
+        for (byte b : encoded) {
+            switch (b) {
+                case '\\' -> { bytes[length++] = '\\'; bytes[length++] = '\\'; }
+                case '\t' -> { bytes[length++] = '\\'; bytes[length++] = 't'; }
+                case '\n' -> { bytes[length++] = '\\'; bytes[length++] = 'n'; }
+                case '\r' -> { bytes[length++] = '\\'; bytes[length++] = 'r'; }
+                default -> bytes[length++] = b;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 이미 인코딩된 값 (이스케이프가 필요 없는 날짜/열거형 상수 등)
+     */
+    CopyBuffer addRaw(byte[] value) {
+        separator();
+        ensure(value.length);
+        System.arraycopy(value, 0, bytes, length, value.length);
+        length += value.length;
+        return this;
+    }
+
+    /**
+     * timestamp 값 (날짜 부분은 호출자가 "yyyy-MM-dd " 형식으로 캐시)
+     */
+    CopyBuffer addTimestamp(byte[] datePrefix, int hour, int minute) {
+        addRaw(datePrefix);
+        ensure(8);
+        twoDigits(hour);
+        put((byte) ':');
+        twoDigits(minute);
+        put((byte) ':');
+        put((byte) '0');
+        put((byte) '0');
+        return this;
+    }
+
+    void endRow() {
+        put((byte) '\n');
+        rowStarted = false;
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    int size() {
+        return length;
+    }
+
+    InputStream toInputStream() {
+        return new ByteArrayInputStream(bytes, 0, length);
+    }
+
+    void clear() {
+        length = 0;
+        rows = 0;
+        rowStarted = false;
+    }
+
+    private void separator() {
+        if (rowStarted) {
+            put((byte) '\t');
+        }
+        rowStarted = true;
+    }
+
+    private void twoDigits(int value) {
+        put((byte) ('0' + value / 10));
+        put((byte) ('0' + value % 10));
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        bytes[length++] = b;
+    }
+
+    private void ensure(int additional) {
+        if (length + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.budgetbook.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 합성 데이터 적재 (datagen 프로필)
+ * java -jar budgetbook-backend-1.0.0-exec.jar --spring.profiles.active=datagen --datagen.users=10000 --datagen.years=3
+ *
+ * - 사용자 묶음(users-per-batch) 단위로 행을 메모리에서 만들고 PostgreSQL COPY로 적재 (묶음마다 DB 트랜잭션 하나)
+ * - users/accounts/categories ID는 시퀀스에서 미리 구간을 예약해 계산하므로 행 단위 왕복이 없다.
+ * - 같은 seed, end-date면 같은 데이터 (end-date를 비우면 실행일 기준)
+ * 스키마는 애플리케이션(ddl-auto)이 만든 상태를 전제로 하며, 같은 email-prefix 사용자가 이미 있으면 중단한다.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class DataGenRunner implements ApplicationRunner {
+
+    private static final String COPY_USERS =
+            "COPY users (id, name, email, password, age, role, created_at, updated_at) FROM STDIN";
+    private static final String COPY_CATEGORIES =
+            "COPY categories (id, user_id, name, type, icon, created_at, updated_at) FROM STDIN";
+    private static final String COPY_ACCOUNTS =
+            "COPY accounts (id, user_id, bank_name, alias, balance, created_at, updated_at) FROM STDIN";
+    private static final String COPY_TRANSACTIONS =
+            "COPY transactions (account_id, category_id, type, amount, memo, transaction_date, created_at, updated_at) FROM STDIN";
+    private static final String COPY_DAILY_BALANCES =
+            "COPY account_daily_balances (account_id, balance_date, net_change, closing_balance) FROM STDIN";
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${datagen.users:1000}")
+    private int users;
+
+    @Value("${datagen.years:3}")
+    private int years;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.end-date:}")
+    private String endDate;
+
+    @Value("${datagen.threads:4}")
+    private int threads;
+
+    @Value("${datagen.users-per-batch:50}")
+    private int usersPerBatch;
+
+    @Value("${datagen.email-prefix:datagen}")
+    private String emailPrefix;
+
+    @Value("${datagen.password:datagen1234}")
+    private String password;
+
+    public DataGenRunner(DataSource dataSource, PasswordEncoder passwordEncoder, ConfigurableApplicationContext context) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.nanoTime();
+        LocalDate end = endDate.isBlank() ? LocalDate.now() : LocalDate.parse(endDate);
+        LocalDate start = end.minusYears(years).plusDays(1);
+        // 모든 사용자가 같은 비밀번호이므로 해시는 한 번만 계산
+        LedgerGenerator generator = new LedgerGenerator(seed, start, end, passwordEncoder.encode(password), emailPrefix);
+
+        long userBase;
+        long accountBase;
+        long categoryBase;
+        try (Connection connection = dataSource.getConnection()) {
+            checkNotGenerated(connection);
+            // 예약하는 동안 세 테이블의 INSERT(시퀀스 nextval)를 막아 구간이 겹치지 않게 함 (커밋 시 잠금 해제)
+            connection.setAutoCommit(false);
+            try {
+                lockForInsert(connection, "users", "accounts", "categories");
+                userBase = reserveIds(connection, "users", users);
+                accountBase = reserveIds(connection, "accounts", (long) users * LedgerGenerator.ACCOUNTS_PER_USER);
+                categoryBase = reserveIds(connection, "categories", (long) users * LedgerGenerator.CATEGORIES.length);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        log.info("합성 데이터 생성 시작 - 사용자: {}, 기간: {} ~ {}, seed: {}, 스레드: {}",
+                users, start, end, seed, threads);
+
+        AtomicInteger nextUser = new AtomicInteger();
+        AtomicLong transactionRows = new AtomicLong();
+        AtomicLong totalRows = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    LedgerGenerator.Batch batch = new LedgerGenerator.Batch();
+                    int from;
+                    while ((from = nextUser.getAndAdd(usersPerBatch)) < users) {
+                        int to = Math.min(from + usersPerBatch, users);
+                        batch.clear();
+                        for (int i = from; i < to; i++) {
+                            generator.generate(i, userBase + i,
+                                    accountBase + (long) i * LedgerGenerator.ACCOUNTS_PER_USER,
+                                    categoryBase + (long) i * LedgerGenerator.CATEGORIES.length, batch);
+                        }
+                        copy(batch);
+                        transactionRows.addAndGet(batch.transactions.rows());
+                        totalRows.addAndGet(batch.users.rows() + batch.categories.rows() + batch.accounts.rows()
+                                + batch.transactions.rows() + batch.dailyBalances.rows());
+                        log.info("적재 진행 - 사용자 {}/{}, 거래 {}건", to, users, transactionRows.get());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("합성 데이터 적재 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long loadedNanos = System.nanoTime() - started;
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            // 적재 직후 통계가 비어 있으면 첫 조회들이 잘못된 실행 계획을 쓰므로 바로 갱신
+            statement.execute("ANALYZE users, categories, accounts, transactions, account_daily_balances");
+        }
+        double seconds = loadedNanos / 1_000_000_000.0;
+        log.info("합성 데이터 생성 완료 - 사용자: {}, 거래: {}건, 전체 {}행, 적재 {}초 ({}행/초), ANALYZE 포함 {}초",
+                users, transactionRows.get(), totalRows.get(), String.format("%.1f", seconds),
+                Math.round(totalRows.get() / seconds),
+                String.format("%.1f", (System.nanoTime() - started) / 1_000_000_000.0));
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private void copy(LedgerGenerator.Batch batch) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                // 외래 키 순서: users → categories/accounts → transactions/account_daily_balances
+                copyManager.copyIn(COPY_USERS, batch.users.toInputStream());
+                copyManager.copyIn(COPY_CATEGORIES, batch.categories.toInputStream());
+                copyManager.copyIn(COPY_ACCOUNTS, batch.accounts.toInputStream());
+                copyManager.copyIn(COPY_TRANSACTIONS, batch.transactions.toInputStream());
+                copyManager.copyIn(COPY_DAILY_BALANCES, batch.dailyBalances.toInputStream());
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void checkNotGenerated(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?")) {
+            statement.setString(1, emailPrefix + "-%@budgetbook.local");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                if (resultSet.getLong(1) > 0) {
+                    throw new IllegalStateException("이미 생성된 합성 데이터가 있습니다 - email-prefix: " + emailPrefix
+                            + " (다른 email-prefix를 쓰거나 기존 사용자를 삭제하세요)");
+                }
+            }
+        }
+    }
+
+    /**
+     * SHARE ROW EXCLUSIVE는 INSERT가 잡는 ROW EXCLUSIVE와 충돌하므로, 잠근 뒤에는 다른 세션이 시퀀스를 진행시키지 못한다.
+     * 조회는 막지 않으며, 진행 중인 INSERT가 끝날 때까지 기다린다.
+     */
+    private void lockForInsert(Connection connection, String... tables) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LOCK TABLE " + String.join(", ", tables) + " IN SHARE ROW EXCLUSIVE MODE");
+        }
+    }
+
+    /**
+     * 시퀀스에서 count개 ID 구간을 예약하고 첫 ID 반환
+     * nextval과 setval이 한 문장이어도 원자적이지 않으므로 lockForInsert와 같은 트랜잭션에서 호출해야 한다.
+     */
+    private long reserveIds(Connection connection, String table, long count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT setval(pg_get_serial_sequence(?, 'id'), nextval(pg_get_serial_sequence(?, 'id')) + ? - 1)")) {
+            statement.setString(1, table);
+            statement.setString(2, table);
+            statement.setLong(3, count);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) - count + 1;
+            }
+        }
+    }
+}
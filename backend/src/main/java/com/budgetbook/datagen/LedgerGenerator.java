@@ -0,0 +1,328 @@
+package com.budgetbook.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * 사용자 한 명의 다년치 가계부를 COPY 행으로 생성
+ * - 계좌 3개 (급여 통장 / 생활비 카드 계좌 / 저축), 기본 카테고리 12개
+ * - 고정 거래: 월급(상여 1·7월), 생활비 입금, 월세, 통신비, 구독료, 학원비
+ * - 변동 거래: 평일 점심·출퇴근, 저녁/카페, 계절 가중치가 붙은 쇼핑, 주말 문화생활, 간헐적 의료비·경조사
+ * 난수는 (seed, 사용자 번호)로만 정해지므로 스레드 수·배치 크기와 무관하게 같은 데이터가 나온다.
+ * 금액은 원 단위 정수로 다루고 기록할 때만 DECIMAL(15, 2) 형식으로 쓴다.
+ */
+class LedgerGenerator {
+
+    static final int ACCOUNTS_PER_USER = 3;
+
+    // init.sql 기본 카테고리와 같은 구성 (이름, 유형, 아이콘)
+    static final String[][] CATEGORIES = {
+            {"급여", "INCOME", "payments"}, {"부수입", "INCOME", "attach_money"}, {"용돈", "INCOME", "account_balance_wallet"},
+            {"식비", "EXPENSE", "restaurant"}, {"교통비", "EXPENSE", "directions_bus"}, {"쇼핑", "EXPENSE", "shopping_cart"},
+            {"의료비", "EXPENSE", "local_hospital"}, {"통신비", "EXPENSE", "phone_android"}, {"주거비", "EXPENSE", "home"},
+            {"교육비", "EXPENSE", "school"}, {"문화생활", "EXPENSE", "movie"}, {"기타", "EXPENSE", "more_horiz"}
+    };
+    private static final int SALARY = 0, SIDE_INCOME = 1, ALLOWANCE = 2, FOOD = 3, TRANSPORT = 4, SHOPPING = 5,
+            MEDICAL = 6, TELECOM = 7, HOUSING = 8, EDUCATION = 9, CULTURE = 10, ETC = 11;
+
+    private static final int PAYROLL = 0, SPENDING = 1, SAVINGS = 2;
+    private static final String[] ACCOUNT_ALIASES = {"급여 통장", "생활비", "저축"};
+    private static final String[] BANKS = {"국민은행", "신한은행", "우리은행", "하나은행", "농협은행", "카카오뱅크", "토스뱅크"};
+
+    // 월별 쇼핑 가중치 (1·9월 명절, 5월 가정의 달, 11월 할인 행사, 12월 연말)
+    private static final double[] SHOPPING_SEASON = {1.5, 0.8, 0.9, 0.9, 1.4, 0.9, 1.0, 1.0, 1.5, 1.0, 1.9, 2.1};
+
+    private static final byte[] INCOME = bytes("INCOME");
+    private static final byte[] EXPENSE = bytes("EXPENSE");
+    private static final byte[] ROLE_USER = bytes("USER");
+    private static final byte[][] CATEGORY_TYPES = new byte[CATEGORIES.length][];
+
+    private static final byte[] MEMO_SALARY = bytes("월급");
+    private static final byte[] MEMO_BONUS = bytes("상여금");
+    private static final byte[] MEMO_RENT = bytes("월세");
+    private static final byte[] MEMO_TELECOM = bytes("휴대폰 요금");
+    private static final byte[] MEMO_SUBSCRIPTION = bytes("넷플릭스");
+    private static final byte[] MEMO_ACADEMY = bytes("학원비");
+    private static final byte[] MEMO_LIVING_ALLOWANCE = bytes("생활비 입금");
+    private static final byte[] MEMO_HOLIDAY_ALLOWANCE = bytes("명절 용돈");
+    private static final byte[][] MEMO_SIDE_INCOME = bytes("외주 작업", "중고 거래", "이자");
+    private static final byte[][] MEMO_LUNCH = bytes("점심 김치찌개", "점심 국밥", "점심 돈까스", "편의점 도시락", "구내식당");
+    private static final byte[][] MEMO_DINNER = bytes("저녁 배달", "저녁 외식", "마트 장보기", "치킨", "편의점");
+    private static final byte[][] MEMO_CAFE = bytes("카페 라떼", "아메리카노", "빵집");
+    private static final byte[] MEMO_COMMUTE = bytes("출퇴근 교통카드");
+    private static final byte[] MEMO_TAXI = bytes("택시");
+    private static final byte[][] MEMO_SHOPPING = bytes("온라인 쇼핑", "옷", "생활용품", "전자제품", "선물");
+    private static final byte[][] MEMO_MEDICAL = bytes("병원", "약국", "치과");
+    private static final byte[][] MEMO_CULTURE = bytes("영화", "공연", "전시회", "도서");
+    private static final byte[][] MEMO_ETC = bytes("경조사", "기타 지출");
+
+    static {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            CATEGORY_TYPES[i] = bytes(CATEGORIES[i][1]);
+        }
+    }
+
+    private final long seed;
+    private final int days;
+    private final byte[] encodedPassword;
+    private final String emailPrefix;
+    // 일자별 캐시 (모든 스레드가 읽기만 함)
+    private final byte[][] datePrefixes;
+    private final byte[][] dates;
+    private final int[] months;
+    private final int[] daysOfMonth;
+    private final DayOfWeek[] daysOfWeek;
+
+    /**
+     * @param end 마지막 거래일 (포함)
+     */
+    LedgerGenerator(long seed, LocalDate start, LocalDate end, String encodedPassword, String emailPrefix) {
+        this.seed = seed;
+        this.days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        this.encodedPassword = bytes(encodedPassword);
+        this.emailPrefix = emailPrefix;
+        this.datePrefixes = new byte[days][];
+        this.dates = new byte[days][];
+        this.months = new int[days];
+        this.daysOfMonth = new int[days];
+        this.daysOfWeek = new DayOfWeek[days];
+        for (int d = 0; d < days; d++) {
+            LocalDate date = start.plusDays(d);
+            dates[d] = bytes(date.toString());
+            datePrefixes[d] = bytes(date + " ");
+            months[d] = date.getMonthValue();
+            daysOfMonth[d] = date.getDayOfMonth();
+            daysOfWeek[d] = date.getDayOfWeek();
+        }
+    }
+
+    /**
+     * 사용자 한 명의 users/categories/accounts/transactions/account_daily_balances 행을 batch에 추가
+     */
+    void generate(int userIndex, long userId, long firstAccountId, long firstCategoryId, Batch batch) {
+        SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (userIndex + 1L)));
+        byte[] createdAt = datePrefixes[0];
+
+        batch.users.add(userId).add("사용자" + userIndex).add(emailPrefix + "-" + userIndex + "@budgetbook.local")
+                .addRaw(encodedPassword).add(20 + random.nextInt(45)).addRaw(ROLE_USER)
+                .addTimestamp(createdAt, 9, 0).addTimestamp(createdAt, 9, 0).endRow();
+
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            batch.categories.add(firstCategoryId + c).add(userId).add(CATEGORIES[c][0]).addRaw(CATEGORY_TYPES[c])
+                    .add(CATEGORIES[c][2]).addTimestamp(createdAt, 9, 0).addTimestamp(createdAt, 9, 0).endRow();
+        }
+
+        // 사용자별 생활 패턴
+        long salary = won(2_400_000 + random.nextInt(46) * 100_000L);
+        int payday = random.nextBoolean() ? 25 : 10;
+        long rent = won(350_000 + random.nextInt(56) * 10_000L);
+        long telecom = won(45_000 + random.nextInt(50) * 1_000L);
+        boolean subscriber = random.nextDouble() < 0.6;
+        long academy = random.nextDouble() < 0.3 ? won(120_000 + random.nextInt(29) * 10_000L) : 0;
+        boolean commuter = random.nextDouble() < 0.8;
+        double foodScale = 0.7 + random.nextDouble() * 0.8;
+        double shoppingScale = 0.5 + random.nextDouble();
+        // 생활비 계좌의 월 지출 규모만큼 매월 입금 (계좌 잔액이 한쪽으로 계속 쏠리지 않게)
+        long livingAllowance = Math.round((700_000 * foodScale + 250_000 * shoppingScale) / 10_000) * 10_000;
+
+        long[] balances = {
+                won(3_000_000 + random.nextInt(7_000) * 1_000L),
+                won(1_000_000 + random.nextInt(3_000) * 1_000L),
+                won(5_000_000 + random.nextInt(25_000) * 1_000L)
+        };
+        long[] dayNet = new long[ACCOUNTS_PER_USER];
+        boolean[] touched = new boolean[ACCOUNTS_PER_USER];
+        int sideIncomeDay = -1;
+        boolean holidayAllowancePaid = false;
+
+        Ledger ledger = new Ledger(batch.transactions, firstAccountId, firstCategoryId, balances, dayNet, touched);
+        for (int d = 0; d < days; d++) {
+            ledger.day = datePrefixes[d];
+            int month = months[d];
+            int dayOfMonth = daysOfMonth[d];
+            boolean weekend = daysOfWeek[d] == DayOfWeek.SATURDAY || daysOfWeek[d] == DayOfWeek.SUNDAY;
+
+            if (dayOfMonth == 1) {
+                sideIncomeDay = random.nextDouble() < 0.25 ? 1 + random.nextInt(28) : -1;
+                holidayAllowancePaid = false;
+            }
+
+            // 고정 거래
+            if (dayOfMonth == payday) {
+                ledger.income(PAYROLL, SALARY, salary, 9, 0, MEMO_SALARY);
+                ledger.income(SPENDING, ALLOWANCE, livingAllowance, 9, 10, MEMO_LIVING_ALLOWANCE);
+                if (month == 1 || month == 7) {
+                    ledger.income(PAYROLL, SALARY, won(salary * (50 + random.nextInt(101)) / 100), 9, 5, MEMO_BONUS);
+                }
+            }
+            if (dayOfMonth == 1) {
+                ledger.expense(PAYROLL, HOUSING, rent, 10, 0, MEMO_RENT);
+            }
+            if (dayOfMonth == 15) {
+                ledger.expense(SPENDING, TELECOM, telecom, 10, 0, MEMO_TELECOM);
+            }
+            if (subscriber && dayOfMonth == 5) {
+                ledger.expense(SPENDING, CULTURE, 13_500, 0, 10, MEMO_SUBSCRIPTION);
+            }
+            if (academy > 0 && dayOfMonth == 20) {
+                ledger.expense(PAYROLL, EDUCATION, academy, 11, 0, MEMO_ACADEMY);
+            }
+            if (dayOfMonth == sideIncomeDay) {
+                ledger.income(SAVINGS, SIDE_INCOME, won(100_000 + random.nextInt(70) * 10_000L),
+                        14, random.nextInt(60), pick(random, MEMO_SIDE_INCOME));
+            }
+            if ((month == 1 || month == 2 || month == 9) && !holidayAllowancePaid && random.nextDouble() < 0.04) {
+                ledger.income(SAVINGS, ALLOWANCE, won(50_000 + random.nextInt(26) * 10_000L),
+                        12, random.nextInt(60), MEMO_HOLIDAY_ALLOWANCE);
+                holidayAllowancePaid = true;
+            }
+
+            // 변동 거래
+            if (!weekend && random.nextDouble() < 0.85) {
+                ledger.expense(spendingAccount(random), FOOD, won((8_000 + random.nextInt(7_000)) * foodScale),
+                        11 + random.nextInt(2), random.nextInt(60), pick(random, MEMO_LUNCH));
+            }
+            if (random.nextDouble() < (weekend ? 0.7 : 0.45)) {
+                ledger.expense(spendingAccount(random), FOOD, won((10_000 + random.nextInt(30_000)) * foodScale),
+                        18 + random.nextInt(3), random.nextInt(60), pick(random, MEMO_DINNER));
+            }
+            if (random.nextDouble() < 0.55) {
+                ledger.expense(SPENDING, FOOD, won(4_000 + random.nextInt(3_500)),
+                        8 + random.nextInt(8), random.nextInt(60), pick(random, MEMO_CAFE));
+            }
+            if (commuter && !weekend) {
+                ledger.expense(SPENDING, TRANSPORT, 2_900, 8, random.nextInt(60), MEMO_COMMUTE);
+            }
+            if (random.nextDouble() < 0.05) {
+                ledger.expense(SPENDING, TRANSPORT, won(8_000 + random.nextInt(17_000)),
+                        22 + random.nextInt(2), random.nextInt(60), MEMO_TAXI);
+            }
+            double shoppingChance = 0.1 * SHOPPING_SEASON[month - 1] * (weekend ? 1.5 : 1.0);
+            if (random.nextDouble() < shoppingChance) {
+                // 지수분포: 대부분 소액, 가끔 큰 지출
+                long amount = won((10_000 - Math.log(1 - random.nextDouble()) * 60_000) * shoppingScale);
+                ledger.expense(spendingAccount(random), SHOPPING, Math.min(amount, 3_000_000),
+                        10 + random.nextInt(12), random.nextInt(60), pick(random, MEMO_SHOPPING));
+            }
+            if (random.nextDouble() < 0.03) {
+                ledger.expense(SPENDING, MEDICAL, won(5_000 + random.nextInt(75_000)),
+                        9 + random.nextInt(9), random.nextInt(60), pick(random, MEMO_MEDICAL));
+            }
+            if (weekend && random.nextDouble() < 0.35) {
+                ledger.expense(SPENDING, CULTURE, won(12_000 + random.nextInt(48_000)),
+                        13 + random.nextInt(8), random.nextInt(60), pick(random, MEMO_CULTURE));
+            }
+            if (random.nextDouble() < 0.02) {
+                ledger.expense(PAYROLL, ETC, won(50_000 + random.nextInt(6) * 10_000L),
+                        12 + random.nextInt(8), random.nextInt(60), pick(random, MEMO_ETC));
+            }
+
+            // 거래가 있었던 계좌만 일별 스냅샷 기록 (애플리케이션의 스냅샷 재생성과 같은 기준)
+            for (int a = 0; a < ACCOUNTS_PER_USER; a++) {
+                if (touched[a]) {
+                    batch.dailyBalances.add(firstAccountId + a).addRaw(dates[d])
+                            .addAmount(dayNet[a]).addAmount(balances[a]).endRow();
+                    dayNet[a] = 0;
+                    touched[a] = false;
+                }
+            }
+        }
+
+        // 계좌 잔액은 전체 거래 반영 후 값
+        for (int a = 0; a < ACCOUNTS_PER_USER; a++) {
+            batch.accounts.add(firstAccountId + a).add(userId).add(BANKS[random.nextInt(BANKS.length)])
+                    .add(ACCOUNT_ALIASES[a]).addAmount(balances[a])
+                    .addTimestamp(createdAt, 9, 0).addTimestamp(createdAt, 9, 0).endRow();
+        }
+    }
+
+    private static int spendingAccount(SplittableRandom random) {
+        return random.nextInt(4) == 0 ? PAYROLL : SPENDING;
+    }
+
+    private static byte[] pick(SplittableRandom random, byte[][] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // 100원 단위 반올림
+    private static long won(double amount) {
+        return Math.round(amount / 100) * 100;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] bytes(String... values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = bytes(values[i]);
+        }
+        return encoded;
+    }
+
+    /**
+     * 거래 행 기록 + 계좌 잔액/일별 변화 누적
+     */
+    private static class Ledger {
+        private final CopyBuffer transactions;
+        private final long firstAccountId;
+        private final long firstCategoryId;
+        private final long[] balances;
+        private final long[] dayNet;
+        private final boolean[] touched;
+        private byte[] day;
+
+        Ledger(CopyBuffer transactions, long firstAccountId, long firstCategoryId,
+               long[] balances, long[] dayNet, boolean[] touched) {
+            this.transactions = transactions;
+            this.firstAccountId = firstAccountId;
+            this.firstCategoryId = firstCategoryId;
+            this.balances = balances;
+            this.dayNet = dayNet;
+            this.touched = touched;
+        }
+
+        void income(int account, int category, long amount, int hour, int minute, byte[] memo) {
+            write(account, category, INCOME, amount, hour, minute, memo);
+            balances[account] += amount;
+            dayNet[account] += amount;
+        }
+
+        void expense(int account, int category, long amount, int hour, int minute, byte[] memo) {
+            write(account, category, EXPENSE, amount, hour, minute, memo);
+            balances[account] -= amount;
+            dayNet[account] -= amount;
+        }
+
+        private void write(int account, int category, byte[] type, long amount, int hour, int minute, byte[] memo) {
+            touched[account] = true;
+            transactions.add(firstAccountId + account).add(firstCategoryId + category).addRaw(type)
+                    .addAmount(amount).addRaw(memo)
+                    .addTimestamp(day, hour, minute).addTimestamp(day, hour, minute).addTimestamp(day, hour, minute)
+                    .endRow();
+        }
+    }
+
+    /**
+     * 한 번의 COPY 묶음으로 적재할 테이블별 행 버퍼
+     */
+    static class Batch {
+        final CopyBuffer users = new CopyBuffer(64 * 1024);
+        final CopyBuffer categories = new CopyBuffer(256 * 1024);
+        final CopyBuffer accounts = new CopyBuffer(64 * 1024);
+        final CopyBuffer transactions = new CopyBuffer(16 * 1024 * 1024);
+        final CopyBuffer dailyBalances = new CopyBuffer(4 * 1024 * 1024);
+
+        void clear() {
+            users.clear();
+            categories.clear();
+            accounts.clear();
+            transactions.clear();
+            dailyBalances.clear();
+        }
+    }
+}
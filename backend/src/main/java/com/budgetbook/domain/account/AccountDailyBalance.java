@@ -0,0 +1,49 @@
+package com.budgetbook.domain.account;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 계좌 일별 잔액 스냅샷 (거래가 있었던 날만 저장)
+ * closingBalance는 해당 일자 마지막 시점의 잔액이며, 거래가 없는 날은 직전 스냅샷의 잔액과 같다.
+ */
+@Entity
+@Table(name = "account_daily_balances", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_account_daily_balances_account_date", columnNames = {"account_id", "balance_date"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AccountDailyBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(nullable = false)
+    private LocalDate balanceDate;
+
+    // 해당 일자 거래로 인한 잔액 변화 (수입 - 지출, 잔액 직접 수정분 포함)
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal netChange;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Builder
+    public AccountDailyBalance(Account account, LocalDate balanceDate, BigDecimal netChange, BigDecimal closingBalance) {
+        this.account = account;
+        this.balanceDate = balanceDate;
+        this.netChange = netChange;
+        this.closingBalance = closingBalance;
+    }
+}
@@ -0,0 +1,89 @@
+package com.budgetbook.domain.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountDailyBalanceRepository extends JpaRepository<AccountDailyBalance, Long> {
+
+    // 해당 일자 이전(포함) 가장 최근 스냅샷 → 그 날의 잔액
+    Optional<DailyBalancePoint> findFirstByAccountIdAndBalanceDateLessThanEqualOrderByBalanceDateDesc(
+            Long accountId, LocalDate date);
+
+    Optional<DailyBalancePoint> findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(
+            Long accountId, LocalDate date);
+
+    Optional<DailyBalancePoint> findFirstByAccountIdAndBalanceDateGreaterThanOrderByBalanceDateAsc(
+            Long accountId, LocalDate date);
+
+    Optional<DailyBalancePoint> findFirstByAccountIdOrderByBalanceDateAsc(Long accountId);
+
+    List<DailyBalancePoint> findByAccountIdAndBalanceDateBetweenOrderByBalanceDateAsc(
+            Long accountId, LocalDate startDate, LocalDate endDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountDailyBalance b " +
+           "SET b.netChange = b.netChange + :delta, b.closingBalance = b.closingBalance + :delta " +
+           "WHERE b.account.id = :accountId AND b.balanceDate = :date")
+    int addToDay(
+        @Param("accountId") Long accountId,
+        @Param("date") LocalDate date,
+        @Param("delta") BigDecimal delta
+    );
+
+    // 새 일자 스냅샷 생성 - 동시에 같은 일자 첫 거래가 먼저 들어왔으면 그 행에 변화분만 더함
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO account_daily_balances (account_id, balance_date, net_change, closing_balance) " +
+                   "VALUES (:accountId, :date, :delta, :closingBalance) " +
+                   "ON CONFLICT (account_id, balance_date) DO UPDATE " +
+                   "SET net_change = account_daily_balances.net_change + EXCLUDED.net_change, " +
+                   "closing_balance = account_daily_balances.closing_balance + EXCLUDED.net_change",
+           nativeQuery = true)
+    int upsertDay(
+        @Param("accountId") Long accountId,
+        @Param("date") LocalDate date,
+        @Param("delta") BigDecimal delta,
+        @Param("closingBalance") BigDecimal closingBalance
+    );
+
+    // 거래 내역으로 계좌 스냅샷 전체 생성 (INSERT ... SELECT 한 번, 마이그레이션과 같은 계산)
+    // 일자별 잔액 = 현재 잔액 - 전체 변화 합계 + 해당 일자까지의 누적 변화
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO account_daily_balances (account_id, balance_date, net_change, closing_balance) " +
+                   "SELECT :accountId, d.balance_date, d.net_change, " +
+                   ":balance - SUM(d.net_change) OVER () + SUM(d.net_change) OVER (ORDER BY d.balance_date) " +
+                   "FROM (" +
+                   "SELECT CAST(t.transaction_date AS DATE) AS balance_date, " +
+                   "SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END) AS net_change " +
+                   "FROM transactions t WHERE t.account_id = :accountId " +
+                   "GROUP BY CAST(t.transaction_date AS DATE)" +
+                   ") d",
+           nativeQuery = true)
+    int insertFromTransactions(
+        @Param("accountId") Long accountId,
+        @Param("balance") BigDecimal balance
+    );
+
+    // 변경 일자 이후 스냅샷 잔액을 한 번에 보정 (과거 일자 수정 시 뒤쪽 구간 재계산)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountDailyBalance b " +
+           "SET b.closingBalance = b.closingBalance + :delta " +
+           "WHERE b.account.id = :accountId AND b.balanceDate > :date")
+    int shiftAfter(
+        @Param("accountId") Long accountId,
+        @Param("date") LocalDate date,
+        @Param("delta") BigDecimal delta
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AccountDailyBalance b WHERE b.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
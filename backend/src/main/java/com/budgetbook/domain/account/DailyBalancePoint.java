@@ -0,0 +1,13 @@
+package com.budgetbook.domain.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 잔액 스냅샷 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public interface DailyBalancePoint {
+    LocalDate getBalanceDate();
+    BigDecimal getNetChange();
+    BigDecimal getClosingBalance();
+}
@@ -0,0 +1,90 @@
+package com.budgetbook.domain.budget;
+
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리별 예산 (지출 카테고리, 주기당 하나)
+ */
+@Entity
+@Table(name = "budgets", indexes = {
+    @Index(name = "idx_budgets_user_id", columnList = "user_id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_budgets_category_period", columnNames = {"category_id", "period"})
+})
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Budget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private BudgetPeriod period;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    // 경고 알림 기준 (예산 대비 사용률 %)
+    @Column(nullable = false)
+    private Integer alertThreshold;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Budget(User user, Category category, BudgetPeriod period, BigDecimal amount, Integer alertThreshold) {
+        this.user = user;
+        this.category = category;
+        this.period = period;
+        this.amount = amount;
+        this.alertThreshold = alertThreshold;
+    }
+
+    public void update(BigDecimal amount, Integer alertThreshold) {
+        if (amount != null) {
+            this.amount = amount;
+        }
+        if (alertThreshold != null) {
+            this.alertThreshold = alertThreshold;
+        }
+    }
+
+    public BudgetAlertLevel alertLevelOf(BigDecimal spent) {
+        if (spent.compareTo(amount) > 0) {
+            return BudgetAlertLevel.EXCEEDED;
+        }
+        // spent * 100 >= amount * threshold
+        if (spent.movePointRight(2).compareTo(amount.multiply(BigDecimal.valueOf(alertThreshold))) >= 0) {
+            return BudgetAlertLevel.WARNING;
+        }
+        return BudgetAlertLevel.NONE;
+    }
+}
@@ -0,0 +1,7 @@
+package com.budgetbook.domain.budget;
+
+public enum BudgetAlertLevel {
+    NONE,      // 임계치 미만
+    WARNING,   // 임계치(alertThreshold %) 이상
+    EXCEEDED   // 예산 초과
+}
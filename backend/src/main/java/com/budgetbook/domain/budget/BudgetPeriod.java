@@ -0,0 +1,6 @@
+package com.budgetbook.domain.budget;
+
+public enum BudgetPeriod {
+    WEEKLY,   // 주간 (statistics.week-start 기준 주)
+    MONTHLY   // 월간
+}
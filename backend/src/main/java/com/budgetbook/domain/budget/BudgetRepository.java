@@ -0,0 +1,35 @@
+package com.budgetbook.domain.budget;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category WHERE b.user.id = :userId ORDER BY b.id")
+    List<Budget> findByUserIdWithCategory(@Param("userId") Long userId);
+
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category WHERE b.id = :id AND b.user.id = :userId")
+    Optional<Budget> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    List<Budget> findByCategoryId(Long categoryId);
+
+    boolean existsByCategoryIdAndPeriod(Long categoryId, BudgetPeriod period);
+
+    // 주기 누계 행을 처음 만들 때 동시 생성을 막기 위한 예산 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Budget b WHERE b.id = :id")
+    Optional<Budget> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Budget b WHERE b.category.id = :categoryId")
+    int deleteByCategoryId(@Param("categoryId") Long categoryId);
+}
@@ -0,0 +1,69 @@
+package com.budgetbook.domain.budget;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 예산 주기별 지출 누계 (거래 저장 시 변화분만큼 증감하는 카운터)
+ * 행 잠금으로 갱신하며, version은 갱신마다 증가해 Redis 사본의 최신 여부 판단에 쓰인다.
+ */
+@Entity
+@Table(name = "budget_spends", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_budget_spends_budget_period", columnNames = {"budget_id", "period_start"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BudgetSpend {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "budget_id", nullable = false)
+    private Budget budget;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal spent;
+
+    // 마지막으로 알린 단계 (같은 주기에 같은 알림을 반복하지 않도록 기록)
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private BudgetAlertLevel alertLevel;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Builder
+    public BudgetSpend(Budget budget, LocalDate periodStart, BigDecimal spent) {
+        this.budget = budget;
+        this.periodStart = periodStart;
+        this.spent = spent;
+        this.alertLevel = budget.alertLevelOf(spent);
+    }
+
+    /**
+     * 누계 증감 후 알림 단계 갱신
+     * @return 단계가 올라갔으면 새 단계, 아니면 null (내려간 경우 다시 올라갈 때 알림)
+     */
+    public BudgetAlertLevel add(BigDecimal delta) {
+        this.spent = this.spent.add(delta);
+        return refreshAlertLevel();
+    }
+
+    public BudgetAlertLevel refreshAlertLevel() {
+        BudgetAlertLevel previous = this.alertLevel;
+        this.alertLevel = budget.alertLevelOf(spent);
+        return alertLevel.compareTo(previous) > 0 ? alertLevel : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.budgetbook.domain.budget;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface BudgetSpendRepository extends JpaRepository<BudgetSpend, Long> {
+
+    Optional<BudgetSpend> findByBudgetIdAndPeriodStart(Long budgetId, LocalDate periodStart);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BudgetSpend s WHERE s.budget.id = :budgetId AND s.periodStart = :periodStart")
+    Optional<BudgetSpend> findForUpdate(
+        @Param("budgetId") Long budgetId,
+        @Param("periodStart") LocalDate periodStart
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM BudgetSpend s WHERE s.budget.id IN :budgetIds")
+    int deleteByBudgetIdIn(@Param("budgetIds") Collection<Long> budgetIds);
+}
@@ -0,0 +1,168 @@
+package com.budgetbook.domain.recurring;
+
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 매월 반복되는 정기 거래 규칙 (월세, 급여, 통신비 등)
+ * nextRunDate는 아직 생성하지 않은 가장 이른 발생일이며, 스케줄러가 거래를 생성할 때마다 다음 달로 넘어간다.
+ * 발생일은 dayOfMonth이고, 그 달에 없는 날짜(31일 등)는 말일로 맞춘다.
+ */
+@Entity
+@Table(name = "recurring_transactions", indexes = {
+    @Index(name = "idx_recurring_transactions_user_id", columnList = "user_id"),
+    @Index(name = "idx_recurring_transactions_due", columnList = "active,next_run_date")
+})
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class RecurringTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(columnDefinition = "TEXT")
+    private String memo;
+
+    @Column(nullable = false)
+    private Integer dayOfMonth;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private LocalDate nextRunDate;
+
+    @Column(nullable = false)
+    private Boolean active;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public RecurringTransaction(User user, Account account, Category category, TransactionType type,
+                                BigDecimal amount, String memo, Integer dayOfMonth,
+                                LocalDate startDate, LocalDate endDate) {
+        this.user = user;
+        this.account = account;
+        this.category = category;
+        this.type = type;
+        this.amount = amount;
+        this.memo = memo;
+        this.dayOfMonth = dayOfMonth;
+        this.startDate = startDate;
+        this.endDate = endDate;
+
+        LocalDate first = occurrenceIn(YearMonth.from(startDate), dayOfMonth);
+        this.nextRunDate = first.isBefore(startDate)
+                ? occurrenceIn(YearMonth.from(startDate).plusMonths(1), dayOfMonth)
+                : first;
+        this.active = endDate == null || !nextRunDate.isAfter(endDate);
+    }
+
+    /**
+     * @param today 발생일 변경 시 기준일 (이미 지난 날짜로 옮겨 즉시 생성되지 않도록)
+     */
+    public void update(BigDecimal amount, String memo, Integer dayOfMonth, LocalDate endDate, LocalDate today) {
+        if (amount != null) {
+            this.amount = amount;
+        }
+        if (memo != null) {
+            this.memo = memo;
+        }
+        if (endDate != null) {
+            this.endDate = endDate;
+        }
+        if (dayOfMonth != null) {
+            // 아직 생성하지 않은 달의 발생일만 바꿈 (이미 생성된 달은 다시 생성하지 않음)
+            // 시작일, 오늘(밀린 발생분이면 기존 발생일) 이전으로는 옮기지 않고 그 경우 다음 달 발생일로 넘김
+            YearMonth month = YearMonth.from(nextRunDate);
+            LocalDate notBefore = max(max(startDate, month.atDay(1)), nextRunDate.isBefore(today) ? nextRunDate : today);
+            this.dayOfMonth = dayOfMonth;
+            LocalDate occurrence = occurrenceIn(month, dayOfMonth);
+            this.nextRunDate = occurrence.isBefore(notBefore) ? occurrenceAfter(occurrence) : occurrence;
+            if (this.endDate != null && nextRunDate.isAfter(this.endDate)) {
+                this.active = false;
+            }
+        }
+    }
+
+    public void activate() {
+        this.active = endDate == null || !nextRunDate.isAfter(endDate);
+    }
+
+    public void deactivate() {
+        this.active = false;
+    }
+
+    /**
+     * 이번 발생분 생성 후 다음 달 발생일로 이동 (종료일을 넘으면 비활성화)
+     */
+    public void advance() {
+        this.nextRunDate = occurrenceAfter(nextRunDate);
+        if (endDate != null && nextRunDate.isAfter(endDate)) {
+            this.active = false;
+        }
+    }
+
+    /**
+     * 주어진 발생일 다음 달의 발생일
+     */
+    public LocalDate occurrenceAfter(LocalDate occurrence) {
+        return occurrenceIn(YearMonth.from(occurrence).plusMonths(1), dayOfMonth);
+    }
+
+    public boolean isOwner(Long userId) {
+        return this.user.getId().equals(userId);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate occurrenceIn(YearMonth month, int dayOfMonth) {
+        return month.atDay(Math.min(dayOfMonth, month.lengthOfMonth()));
+    }
+}
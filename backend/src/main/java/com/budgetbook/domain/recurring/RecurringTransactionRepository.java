@@ -0,0 +1,48 @@
+package com.budgetbook.domain.recurring;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+
+    @Query("SELECT r FROM RecurringTransaction r JOIN FETCH r.account JOIN FETCH r.category " +
+           "WHERE r.user.id = :userId ORDER BY r.id")
+    List<RecurringTransaction> findByUserIdWithAccountAndCategory(@Param("userId") Long userId);
+
+    @Query("SELECT r FROM RecurringTransaction r JOIN FETCH r.account JOIN FETCH r.category " +
+           "WHERE r.id = :id AND r.user.id = :userId")
+    Optional<RecurringTransaction> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 파티션 내 발생일이 된 규칙을 ID 순으로 선점
+     * 다른 파드/스레드가 잠근 행은 건너뛰므로(SKIP LOCKED) 같은 규칙이 중복 생성되지 않고 대기도 없다.
+     * 파티션은 계좌 ID 기준이라 한 계좌의 규칙은 항상 같은 파티션에서 처리된다.
+     */
+    @Query(value = "SELECT * FROM recurring_transactions " +
+                   "WHERE active = true AND next_run_date <= :today " +
+                   "AND MOD(account_id, :partitions) = :partition AND id > :afterId " +
+                   "ORDER BY id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<RecurringTransaction> claimDue(
+        @Param("today") LocalDate today,
+        @Param("partition") int partition,
+        @Param("partitions") int partitions,
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
+    );
+
+    boolean existsByCategoryId(Long categoryId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RecurringTransaction r WHERE r.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,21 @@
+package com.budgetbook.domain.transaction;
+
+import com.budgetbook.domain.category.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일자 × 카테고리 × 거래 유형별 합계 (추이 통계 집계 쿼리 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyCategoryTotal {
+    private LocalDate date;
+    private Long categoryId;
+    private String categoryName;
+    private TransactionType type;
+    private BigDecimal amount;
+}
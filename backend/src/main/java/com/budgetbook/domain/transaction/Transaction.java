@@ -15,18 +15,25 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+// account_id, category_id 단독 조회/외래 키 검사는 복합 인덱스의 선두 컬럼으로 처리 (단일 컬럼 인덱스는 두지 않음)
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_transactions_account_id", columnList = "account_id"),
-    @Index(name = "idx_transactions_category_id", columnList = "category_id"),
     @Index(name = "idx_transactions_type", columnList = "type"),
     @Index(name = "idx_transactions_date", columnList = "transaction_date"),
-    @Index(name = "idx_transactions_account_date", columnList = "account_id,transaction_date")
+    @Index(name = "idx_transactions_account_date", columnList = "account_id,transaction_date"),
+    @Index(name = "idx_transactions_category_date", columnList = "category_id,transaction_date")
+})
+// 목록 조회용 fetch plan: 응답에 계좌/카테고리 이름이 포함되므로 한 번의 조인으로 함께 로드
+@NamedEntityGraph(name = Transaction.WITH_ACCOUNT_AND_CATEGORY, attributeNodes = {
+    @NamedAttributeNode("account"),
+    @NamedAttributeNode("category")
 })
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Transaction {
 
+    public static final String WITH_ACCOUNT_AND_CATEGORY = "Transaction.withAccountAndCategory";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
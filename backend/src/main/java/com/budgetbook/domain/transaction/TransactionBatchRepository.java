@@ -0,0 +1,43 @@
+package com.budgetbook.domain.transaction;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 일괄 삽입 (JDBC 배치)
+ * Transaction은 IDENTITY 키라 JPA saveAll이 건별 INSERT가 되므로, 대량 생성 경로는 이 저장소를 사용한다.
+ * 넘긴 엔티티는 값만 읽고 영속화하지 않는다 (ID가 필요 없는 생성 전용).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (account_id, category_id, type, amount, memo, transaction_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, BATCH_SIZE, (ps, transaction) -> {
+            ps.setLong(1, transaction.getAccount().getId());
+            ps.setLong(2, transaction.getCategory().getId());
+            ps.setString(3, transaction.getType().name());
+            ps.setBigDecimal(4, transaction.getAmount());
+            ps.setString(5, transaction.getMemo());
+            ps.setObject(6, transaction.getTransactionDate());
+            ps.setObject(7, now);
+            ps.setObject(8, now);
+        });
+    }
+}
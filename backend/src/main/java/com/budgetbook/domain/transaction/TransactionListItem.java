@@ -0,0 +1,28 @@
+package com.budgetbook.domain.transaction;
+
+import com.budgetbook.domain.category.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 목록 한 행 (거래/계좌/카테고리 컬럼만 조회하는 프로젝션, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionListItem {
+    private Long id;
+    private Long accountId;
+    private String accountAlias;
+    private String accountBankName;
+    private TransactionType type;
+    private BigDecimal amount;
+    private Long categoryId;
+    private String categoryName;
+    private String memo;
+    private LocalDateTime transactionDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,27 +1,28 @@
 package com.budgetbook.domain.transaction;
 
-import com.budgetbook.domain.category.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionSearchRepository {
     
+    // 목록 조회는 모두 계좌/카테고리를 함께 로드 (응답 변환 시 행마다 추가 조회 방지, COUNT 쿼리에는 조인 없음)
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     Page<Transaction> findByAccountUserId(Long userId, Pageable pageable);
     
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     Page<Transaction> findByAccountUserIdAndAccountId(Long userId, Long accountId, Pageable pageable);
     
-    Page<Transaction> findByAccountUserIdAndType(Long userId, TransactionType type, Pageable pageable);
-    
-    Page<Transaction> findByAccountUserIdAndCategoryId(Long userId, Long categoryId, Pageable pageable);
-    
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     @Query("SELECT t FROM Transaction t " +
            "WHERE t.account.user.id = :userId " +
            "AND t.transactionDate >= :startDate AND t.transactionDate <= :endDate")
@@ -31,6 +32,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("endDate") LocalDateTime endDate
     );
     
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     @Query("SELECT t FROM Transaction t " +
            "WHERE t.account.user.id = :userId " +
            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
@@ -40,6 +42,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("endDate") LocalDateTime endDate
     );
     
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     @Query("SELECT t FROM Transaction t " +
            "WHERE t.account.user.id = :userId " +
            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
@@ -49,6 +52,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("endDate") LocalDateTime endDate
     );
     
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     @Query("SELECT t FROM Transaction t " +
            "WHERE t.account.user.id = :userId " +
            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
@@ -58,6 +62,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("endDate") LocalDateTime endDate
     );
     
+    @EntityGraph(Transaction.WITH_ACCOUNT_AND_CATEGORY)
     @Query("SELECT t FROM Transaction t " +
            "WHERE t.account.user.id = :userId " +
            "AND t.transactionDate >= :startDate AND t.transactionDate <= :endDate " +
@@ -69,6 +74,32 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("accountId") Long accountId
     );
     
+    /**
+     * 기간 내 거래를 일자/카테고리/유형별로 합산 (주/월 버킷 분류는 애플리케이션에서 수행)
+     */
+    @Query("SELECT new com.budgetbook.domain.transaction.DailyCategoryTotal(" +
+           "CAST(t.transactionDate AS LocalDate), c.id, c.name, t.type, SUM(t.amount)) " +
+           "FROM Transaction t JOIN t.category c " +
+           "WHERE t.account.user.id = :userId " +
+           "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate " +
+           "GROUP BY CAST(t.transactionDate AS LocalDate), c.id, c.name, t.type")
+    List<DailyCategoryTotal> sumDailyByCategory(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    // 예산 주기 누계 초기값 (주기당 한 번만 실행되고 이후에는 증감으로 유지)
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
+           "WHERE t.category.id = :categoryId " +
+           "AND t.type = com.budgetbook.domain.category.TransactionType.EXPENSE " +
+           "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
+    BigDecimal sumExpenseByCategoryId(
+        @Param("categoryId") Long categoryId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
     boolean existsByCategoryId(Long categoryId);
     
     @Query("SELECT COUNT(t) > 0 FROM Transaction t " +
@@ -0,0 +1,30 @@
+package com.budgetbook.domain.transaction;
+
+import com.budgetbook.domain.category.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 검색 조건 (userId와 limit 외에는 null/빈 목록이면 조건에서 제외)
+ * 정렬은 거래일시 내림차순, 같은 일시는 ID 내림차순이며 커서는 직전 페이지 마지막 행의 (거래일시, ID)다.
+ */
+@Getter
+@Builder
+public class TransactionSearchCondition {
+    private final Long userId;
+    private final String keyword;
+    private final LocalDateTime startDate;   // 포함
+    private final LocalDateTime endDate;     // 미포함
+    private final List<Long> accountIds;
+    private final List<Long> categoryIds;
+    private final TransactionType type;
+    private final BigDecimal minAmount;
+    private final BigDecimal maxAmount;
+    private final LocalDateTime cursorDate;
+    private final Long cursorId;
+    private final int limit;
+}
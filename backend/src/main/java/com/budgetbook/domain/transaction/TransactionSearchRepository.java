@@ -0,0 +1,8 @@
+package com.budgetbook.domain.transaction;
+
+import java.util.List;
+
+public interface TransactionSearchRepository {
+
+    List<TransactionListItem> search(TransactionSearchCondition condition);
+}
@@ -0,0 +1,105 @@
+package com.budgetbook.domain.transaction;
+
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.category.Category;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조건이 주어진 항목만 WHERE 절에 넣는 동적 검색 쿼리
+ * (":param IS NULL OR ..." 형태를 쓰지 않으므로 조건 조합마다 인덱스를 쓸 수 있는 실행 계획이 나온다)
+ * 결과는 응답에 필요한 컬럼만 담은 프로젝션이며, 조인은 소유자 확인/응답 표시용 계좌와 카테고리 둘뿐이다.
+ * 메모 검색은 ILIKE '%키워드%'이며 transactions.memo의 pg_trgm GIN 인덱스
+ * (db/migration/add_transaction_memo_search_index.sql)로 처리된다.
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionListItem> search(TransactionSearchCondition condition) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<TransactionListItem> query = cb.createQuery(TransactionListItem.class);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        Join<Transaction, Account> account = transaction.join("account");
+        Join<Transaction, Category> category = transaction.join("category");
+
+        Path<LocalDateTime> transactionDate = transaction.get("transactionDate");
+        Path<Long> id = transaction.get("id");
+        Path<BigDecimal> amount = transaction.get("amount");
+
+        query.select(cb.construct(TransactionListItem.class,
+                id, account.get("id"), account.get("alias"), account.get("bankName"),
+                transaction.get("type"), amount, category.get("id"), category.get("name"),
+                transaction.get("memo"), transactionDate,
+                transaction.get("createdAt"), transaction.get("updatedAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(account.get("user").get("id"), condition.getUserId()));
+        if (condition.getKeyword() != null) {
+            predicates.add(cb.ilike(transaction.get("memo"),
+                    "%" + escapeLike(condition.getKeyword()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(transactionDate, condition.getStartDate()));
+        }
+        if (condition.getEndDate() != null) {
+            predicates.add(cb.lessThan(transactionDate, condition.getEndDate()));
+        }
+        if (condition.getAccountIds() != null && !condition.getAccountIds().isEmpty()) {
+            predicates.add(idMatches(cb, transaction.get("account").get("id"), condition.getAccountIds()));
+        }
+        if (condition.getCategoryIds() != null && !condition.getCategoryIds().isEmpty()) {
+            predicates.add(idMatches(cb, transaction.get("category").get("id"), condition.getCategoryIds()));
+        }
+        if (condition.getType() != null) {
+            predicates.add(cb.equal(transaction.get("type"), condition.getType()));
+        }
+        if (condition.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount, condition.getMinAmount()));
+        }
+        if (condition.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount, condition.getMaxAmount()));
+        }
+        if (condition.getCursorDate() != null && condition.getCursorId() != null) {
+            // 키셋 페이징: 직전 페이지 마지막 행 (거래일시, ID) 이후
+            predicates.add(cb.or(
+                    cb.lessThan(transactionDate, condition.getCursorDate()),
+                    cb.and(cb.equal(transactionDate, condition.getCursorDate()),
+                            cb.lessThan(id, condition.getCursorId()))));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(transactionDate), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(condition.getLimit())
+                .getResultList();
+    }
+
+    // 하나면 =, 여럿이면 IN (외래 키 컬럼을 직접 비교하므로 조인 테이블 조건이 아닌 인덱스 조건이 됨)
+    private static Predicate idMatches(HibernateCriteriaBuilder cb, Path<Long> column, List<Long> ids) {
+        return ids.size() == 1 ? cb.equal(column, ids.get(0)) : column.in(ids);
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
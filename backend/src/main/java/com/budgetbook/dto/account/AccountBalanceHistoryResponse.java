@@ -0,0 +1,31 @@
+package com.budgetbook.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceHistoryResponse {
+    private Long accountId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<DailyBalance> balances;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyBalance {
+        private LocalDate date;
+        private BigDecimal balance;
+        private BigDecimal netChange;
+    }
+}
@@ -0,0 +1,19 @@
+package com.budgetbook.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceResponse {
+    private Long accountId;
+    private LocalDate date;
+    private BigDecimal balance;     // 해당 일자 마지막 시점 잔액
+}
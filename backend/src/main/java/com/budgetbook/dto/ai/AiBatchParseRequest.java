@@ -0,0 +1,20 @@
+package com.budgetbook.dto.ai;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiBatchParseRequest {
+
+    @NotEmpty(message = "입력 텍스트 목록은 필수입니다")
+    @Size(max = 500, message = "한 번에 최대 500건까지 파싱할 수 있습니다")
+    private List<@NotBlank(message = "입력 텍스트는 비어 있을 수 없습니다") String> texts;
+}
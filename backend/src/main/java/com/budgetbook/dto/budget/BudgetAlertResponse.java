@@ -0,0 +1,26 @@
+package com.budgetbook.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 거래 저장으로 예산 알림 단계(경고/초과)에 새로 도달했을 때의 알림
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetAlertResponse {
+    private Long budgetId;
+    private Long categoryId;
+    private String period;
+    private LocalDate periodStartDate;
+    private BigDecimal amount;
+    private BigDecimal spent;
+    private String alertLevel;
+}
@@ -0,0 +1,30 @@
+package com.budgetbook.dto.budget;
+
+import com.budgetbook.domain.budget.BudgetPeriod;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+public class BudgetCreateRequest {
+
+    @NotNull(message = "카테고리 ID는 필수입니다")
+    private Long categoryId;
+
+    @NotNull(message = "주기는 필수입니다")
+    private BudgetPeriod period;
+
+    @NotNull(message = "예산 금액은 필수입니다")
+    @Positive(message = "예산 금액은 0보다 커야 합니다")
+    private BigDecimal amount;
+
+    @Min(value = 1, message = "알림 기준은 1% 이상이어야 합니다")
+    @Max(value = 100, message = "알림 기준은 100% 이하여야 합니다")
+    private Integer alertThreshold;
+}
@@ -0,0 +1,31 @@
+package com.budgetbook.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 예산과 현재 주기 사용 현황
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetResponse {
+    private Long id;
+    private Long categoryId;
+    private String categoryName;
+    private String period;
+    private BigDecimal amount;
+    private Integer alertThreshold;
+    private LocalDate periodStartDate;
+    private LocalDate periodEndDate;
+    private BigDecimal spent;
+    private BigDecimal remaining;
+    private Double usageRate;   // 사용률 (%)
+    private String alertLevel;
+}
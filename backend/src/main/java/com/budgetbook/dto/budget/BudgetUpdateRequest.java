@@ -0,0 +1,21 @@
+package com.budgetbook.dto.budget;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+public class BudgetUpdateRequest {
+
+    @Positive(message = "예산 금액은 0보다 커야 합니다")
+    private BigDecimal amount;
+
+    @Min(value = 1, message = "알림 기준은 1% 이상이어야 합니다")
+    @Max(value = 100, message = "알림 기준은 100% 이하여야 합니다")
+    private Integer alertThreshold;
+}
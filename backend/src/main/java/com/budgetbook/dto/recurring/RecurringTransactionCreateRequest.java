@@ -0,0 +1,42 @@
+package com.budgetbook.dto.recurring;
+
+import com.budgetbook.domain.category.TransactionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class RecurringTransactionCreateRequest {
+
+    @NotNull(message = "계좌 ID는 필수입니다")
+    private Long accountId;
+
+    @NotNull(message = "카테고리 ID는 필수입니다")
+    private Long categoryId;
+
+    @NotNull(message = "타입은 필수입니다")
+    private TransactionType type;
+
+    @NotNull(message = "금액은 필수입니다")
+    @Positive(message = "금액은 0보다 커야 합니다")
+    private BigDecimal amount;
+
+    private String memo;
+
+    @NotNull(message = "발생일은 필수입니다")
+    @Min(value = 1, message = "발생일은 1일 이상이어야 합니다")
+    @Max(value = 31, message = "발생일은 31일 이하여야 합니다")
+    private Integer dayOfMonth;
+
+    // 생략 시 오늘부터
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+}
@@ -0,0 +1,32 @@
+package com.budgetbook.dto.recurring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTransactionResponse {
+    private Long id;
+    private Long accountId;
+    private String accountAlias;
+    private Long categoryId;
+    private String categoryName;
+    private String type;
+    private BigDecimal amount;
+    private String memo;
+    private Integer dayOfMonth;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate nextRunDate;
+    private Boolean active;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
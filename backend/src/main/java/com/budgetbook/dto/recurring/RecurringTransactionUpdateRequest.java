@@ -0,0 +1,28 @@
+package com.budgetbook.dto.recurring;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class RecurringTransactionUpdateRequest {
+
+    @Positive(message = "금액은 0보다 커야 합니다")
+    private BigDecimal amount;
+
+    private String memo;
+
+    @Min(value = 1, message = "발생일은 1일 이상이어야 합니다")
+    @Max(value = 31, message = "발생일은 31일 이하여야 합니다")
+    private Integer dayOfMonth;
+
+    private LocalDate endDate;
+
+    private Boolean active;
+}
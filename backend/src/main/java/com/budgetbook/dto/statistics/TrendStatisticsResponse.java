@@ -0,0 +1,60 @@
+package com.budgetbook.dto.statistics;
+
+import com.budgetbook.domain.category.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendStatisticsResponse {
+    private String period;                 // MONTH or WEEK
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int movingAverageWindow;
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private BigDecimal balance;
+    private List<TrendPoint> points;
+    private List<CategorySeries> categorySeries;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendPoint {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private BigDecimal income;
+        private BigDecimal expense;
+        private BigDecimal balance;
+        // 직전 구간 대비 증감 (첫 구간은 null)
+        private BigDecimal incomeChange;
+        private BigDecimal expenseChange;
+        private BigDecimal balanceChange;
+        private Double expenseChangeRate;  // 직전 지출이 0이면 null
+        // 최근 movingAverageWindow개 구간 이동 평균 (앞부분은 있는 구간만으로 계산)
+        private BigDecimal incomeMovingAverage;
+        private BigDecimal expenseMovingAverage;
+        private BigDecimal balanceMovingAverage;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategorySeries {
+        private Long categoryId;
+        private String categoryName;
+        private TransactionType type;
+        private BigDecimal total;
+        private List<BigDecimal> amounts;  // points와 같은 순서
+    }
+}
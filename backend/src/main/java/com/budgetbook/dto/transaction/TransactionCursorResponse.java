@@ -0,0 +1,21 @@
+package com.budgetbook.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키셋 페이징 거래 목록 (다음 페이지는 nextCursor로 요청, 마지막 페이지면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCursorResponse {
+    private List<TransactionResponse> transactions;
+    private String nextCursor;
+    private boolean hasNext;
+}
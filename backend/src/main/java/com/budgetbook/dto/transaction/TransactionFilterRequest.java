@@ -0,0 +1,54 @@
+package com.budgetbook.dto.transaction;
+
+import com.budgetbook.domain.category.TransactionType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래 목록 필터 (쿼리 파라미터, 모두 생략 가능하며 지정한 조건만 AND로 결합)
+ * 목록형 파라미터는 accountIds=1,2 또는 accountIds=1&accountIds=2 형태로 전달한다.
+ */
+@Getter
+@Setter
+public class TransactionFilterRequest {
+
+    // 메모 검색어 (/transactions/search에서는 필수)
+    @Size(max = 100, message = "검색어는 100자 이하여야 합니다")
+    private String q;
+
+    @Size(max = 50, message = "계좌는 50개까지 지정할 수 있습니다")
+    private List<Long> accountIds;
+
+    @Size(max = 50, message = "카테고리는 50개까지 지정할 수 있습니다")
+    private List<Long> categoryIds;
+
+    private TransactionType type;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    @PositiveOrZero(message = "최소 금액은 0 이상이어야 합니다")
+    private BigDecimal minAmount;
+
+    @PositiveOrZero(message = "최대 금액은 0 이상이어야 합니다")
+    private BigDecimal maxAmount;
+
+    // 직전 응답의 nextCursor (첫 페이지는 생략)
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다")
+    private Integer size = 20;
+}
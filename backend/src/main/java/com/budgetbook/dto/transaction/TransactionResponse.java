@@ -1,5 +1,7 @@
 package com.budgetbook.dto.transaction;
 
+import com.budgetbook.dto.budget.BudgetAlertResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -25,4 +28,8 @@ public class TransactionResponse {
     private LocalDateTime transactionDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 거래 생성/수정으로 새로 도달한 예산 알림 (없으면 생략)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<BudgetAlertResponse> budgetAlerts;
 }
@@ -0,0 +1,206 @@
+package com.budgetbook.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 관리
+ * - hmac 모드: 기존 jwt.secret 단일 키 사용 (kid 없음)
+ * - asymmetric 모드: 로컬 PKCS12 키스토어의 별칭을 kid로 사용
+ *   활성 kid의 개인키(Ed25519/ES256)로 서명하고, 키스토어의 모든 공개키로 검증한다.
+ *   키스토어 파일이 바뀌면 refresh-interval 주기로 다시 읽으므로 파드 재시작 없이 키를 교체할 수 있다.
+ *   kid 없는 기존 HMAC 토큰은 legacy-hmac-until 시각까지만 허용 (비워 두면 허용하지 않음)
+ *   저장소에 공개된 기본 jwt.secret으로는 기동하지 않는다 (전환 기간에 위조 토큰이 통과하지 않도록).
+ *
+ * 키 교체 절차: 새 키를 키스토어에 추가 → 전 파드 반영 후 active-kid 변경 → 이전 토큰 만료 후 이전 키 삭제
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    public static final String MODE_HMAC = "hmac";
+    public static final String MODE_ASYMMETRIC = "asymmetric";
+
+    // application.yml에 커밋된 개발용 기본값
+    private static final String DEFAULT_SECRET = "your-secret-key-change-in-production-minimum-256-bits";
+
+    private final String mode;
+    private final SecretKey hmacKey;
+    private final Instant legacyHmacUntil;
+    private final Path keystorePath;
+    private final char[] keystorePassword;
+    private final String activeKid;
+    private final long refreshIntervalNanos;
+
+    // 불변 스냅샷을 통째로 교체하므로 조회 경로에는 락이 없다
+    private volatile KeySet keySet;
+    private volatile long nextCheckAt;
+    private volatile long loadedModifiedTime;
+
+    public JwtKeyRing(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.mode:hmac}") String mode,
+            @Value("${jwt.keystore.path:}") String keystorePath,
+            @Value("${jwt.keystore.password:}") String keystorePassword,
+            @Value("${jwt.keystore.active-kid:}") String activeKid,
+            @Value("${jwt.keystore.refresh-interval:60s}") Duration refreshInterval,
+            @Value("${jwt.keystore.legacy-hmac-until:}") String legacyHmacUntil) {
+        this.mode = mode;
+        this.hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.legacyHmacUntil = legacyHmacUntil.isBlank() ? null : Instant.parse(legacyHmacUntil);
+        this.keystorePath = keystorePath.isBlank() ? null : Path.of(keystorePath);
+        this.keystorePassword = keystorePassword.toCharArray();
+        this.activeKid = activeKid;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+
+        if (isAsymmetric()) {
+            if (this.keystorePath == null || activeKid.isBlank()) {
+                throw new IllegalStateException("asymmetric 모드에는 jwt.keystore.path와 jwt.keystore.active-kid가 필요합니다");
+            }
+            if (DEFAULT_SECRET.equals(secret)) {
+                throw new IllegalStateException("asymmetric 모드에서는 기본 jwt.secret을 사용할 수 없습니다 (JWT_SECRET 설정 필요)");
+            }
+            if (this.legacyHmacUntil != null) {
+                log.info("kid 없는 HMAC 토큰 허용 기한: {}", this.legacyHmacUntil);
+            }
+            // 기동 시에는 키스토어를 반드시 읽을 수 있어야 함
+            reload();
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return MODE_ASYMMETRIC.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 현재 서명 키 (asymmetric 모드에서는 kid 포함)
+     */
+    public SigningKey signingKey() {
+        if (!isAsymmetric()) {
+            return new SigningKey(null, hmacKey);
+        }
+        refreshIfDue();
+        KeySet current = keySet;
+        return new SigningKey(current.getActiveKid(), current.getSigningKey());
+    }
+
+    /**
+     * JwtParser용 키 조회기 (JWS 헤더의 kid로 검증 키 선택)
+     */
+    public LocatorAdapter<Key> locator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return verificationKey(header.getKeyId());
+            }
+        };
+    }
+
+    /**
+     * 이 kid로 서명된 토큰을 지금도 받아들이는지 (검증 캐시 적중 시 확인)
+     * 키스토어에서 삭제된 kid나 전환 기한이 지난 kid 없는 HMAC 토큰은 캐시에 남아 있어도 거부된다.
+     */
+    public boolean accepts(String kid) {
+        return verificationKey(kid) != null;
+    }
+
+    private Key verificationKey(String kid) {
+        if (!isAsymmetric()) {
+            return hmacKey;
+        }
+        if (kid == null) {
+            // asymmetric 전환 이전에 발급된 HMAC 토큰 (전환 기간에만)
+            return legacyHmacUntil != null && Instant.now().isBefore(legacyHmacUntil) ? hmacKey : null;
+        }
+        refreshIfDue();
+        return keySet.getVerificationKeys().get(kid);
+    }
+
+    private void refreshIfDue() {
+        long now = System.nanoTime();
+        if (now - nextCheckAt < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (now - nextCheckAt < 0) {
+                return;
+            }
+            nextCheckAt = now + refreshIntervalNanos;
+            try {
+                if (Files.getLastModifiedTime(keystorePath).toMillis() != loadedModifiedTime) {
+                    reload();
+                }
+            } catch (Exception e) {
+                // 읽기 실패 시 기존 키를 그대로 사용
+                log.warn("JWT 키스토어 갱신 실패 - 기존 키 유지: {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void reload() {
+        try (InputStream in = Files.newInputStream(keystorePath)) {
+            long modifiedTime = Files.getLastModifiedTime(keystorePath).toMillis();
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, keystorePassword);
+
+            Map<String, PublicKey> verificationKeys = new HashMap<>();
+            for (String alias : Collections.list(keyStore.aliases())) {
+                Certificate certificate = keyStore.getCertificate(alias);
+                if (certificate != null) {
+                    verificationKeys.put(alias, certificate.getPublicKey());
+                }
+            }
+
+            Key signingKey = keyStore.getKey(activeKid, keystorePassword);
+            if (!(signingKey instanceof PrivateKey privateKey)) {
+                throw new IllegalStateException("활성 kid의 개인키가 키스토어에 없습니다: " + activeKid);
+            }
+
+            keySet = new KeySet(activeKid, privateKey, Map.copyOf(verificationKeys));
+            loadedModifiedTime = modifiedTime;
+            nextCheckAt = System.nanoTime() + refreshIntervalNanos;
+            log.info("JWT 키스토어 로드 - 활성 kid: {}, 검증 키: {}", activeKid, verificationKeys.keySet());
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("JWT 키스토어 로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SigningKey {
+        private final String kid;
+        private final Key key;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class KeySet {
+        private final String activeKid;
+        private final PrivateKey signingKey;
+        private final Map<String, PublicKey> verificationKeys;
+    }
+}
@@ -1,59 +1,150 @@
 package com.budgetbook.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
+    // JwtParser는 불변 객체이므로 한 번만 생성해 스레드 간에 공유 (검증 키는 kid로 키링에서 조회)
+    private final JwtParser jwtParser;
+
+    // 이미 검증된 토큰 캐시 (키: 토큰 SHA-256 해시, 토큰의 exp 시점에 만료)
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
     public JwtTokenProvider(
-            @Value("${jwt.secret}") String secret,
+            JwtKeyRing keyRing,
             @Value("${jwt.access-token-expiration}") long accessTokenValidityInMilliseconds,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenValidityInMilliseconds) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenValidityInMilliseconds,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        this.keyRing = keyRing;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing.locator())
+                .build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        long remainingMillis = token.getExpiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateAccessToken(Long userId, String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
-        return Jwts.builder()
+        return signedBuilder()
                 .subject(userId.toString())
                 .claim("email", email)
                 .claim("type", "ACCESS")
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
                 .compact();
     }
 
-    public String generateRefreshToken(Long userId, String tokenId) {
+    /**
+     * Refresh Token 생성
+     * 갱신 시 사용자 조회 없이 Access Token을 발급할 수 있도록 email을 함께 담는다.
+     */
+    public String generateRefreshToken(Long userId, String email, String tokenId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
-        return Jwts.builder()
+        return signedBuilder()
                 .subject(userId.toString())
+                .claim("email", email)
                 .claim("tokenId", tokenId)
+                .claim("familyId", familyId)
                 .claim("type", "REFRESH")
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
                 .compact();
     }
 
+    // 활성 키로 서명 (asymmetric 모드에서는 헤더에 kid 포함, 알고리즘은 키 타입에 따라 EdDSA/ES256 등으로 결정)
+    private JwtBuilder signedBuilder() {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.getKid() != null) {
+            builder.header().keyId(signingKey.getKid());
+        }
+        return builder.signWith(signingKey.getKey());
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하고 필요한 클레임을 반환
+     * 이미 검증된 토큰은 캐시에서 바로 반환하므로 서명 검증과 JSON 파싱을 생략한다.
+     * @return 서명이 유효하고 만료되지 않았으면 클레임, 아니면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String cacheKey = sha256(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            // 캐시에 넣은 뒤 키스토어에서 빠진 kid나 기한이 지난 기존 HMAC 토큰은 다시 거부
+            if (cached.isExpired() || !keyRing.accepts(cached.getKid())) {
+                verifiedTokenCache.invalidate(cacheKey);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+
+        try {
+            Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+            VerifiedToken verified = new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("type", String.class),
+                    claims.get("tokenId", String.class),
+                    claims.get("familyId", String.class),
+                    claims.getExpiration().getTime(),
+                    jws.getHeader().getKeyId());
+            if (verified.isExpired()) {
+                return Optional.empty();
+            }
+            verifiedTokenCache.put(cacheKey, verified);
+            return Optional.of(verified);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
     public Long getUserIdFromToken(String token) {
         Claims claims = getClaimsFromToken(token);
         return Long.parseLong(claims.getSubject());
@@ -70,19 +161,23 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
+
+    // 토큰 원문 대신 보관/비교하는 해시 (검증 캐시 키, Refresh Token 저장소)
+    static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.budgetbook.security;
+
+import com.budgetbook.common.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로그인/회원가입 요청 제한
+ * 1차: 파드 로컬 토큰 버킷 (IP별, 이메일별) - Redis 왕복 없이 폭주를 바로 차단
+ * 2차: Redis 분 단위 카운터 - 여러 파드에 분산된 요청까지 합산해 제한
+ * Redis 장애 시에는 로컬 제한만 적용한다.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final Duration WINDOW_TTL = Duration.ofMinutes(2);
+
+    // ARGV[1]=ttl(ms) / 증가와 만료 설정을 한 번에 실행 (따로 호출하면 그 사이 장애 시 만료 없는 키가 남음)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then
+              redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, TokenBucket> localBuckets;
+
+    private final int ipCapacity;
+    private final int emailCapacity;
+    private final int ipPerMinute;
+    private final int emailPerMinute;
+
+    public LoginRateLimiter(
+            StringRedisTemplate redisTemplate,
+            @Value("${security.rate-limit.local.ip-capacity:20}") int ipCapacity,
+            @Value("${security.rate-limit.local.email-capacity:5}") int emailCapacity,
+            @Value("${security.rate-limit.redis.ip-per-minute:60}") int ipPerMinute,
+            @Value("${security.rate-limit.redis.email-per-minute:10}") int emailPerMinute) {
+        this.redisTemplate = redisTemplate;
+        this.ipCapacity = ipCapacity;
+        this.emailCapacity = emailCapacity;
+        this.ipPerMinute = ipPerMinute;
+        this.emailPerMinute = emailPerMinute;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        String normalizedEmail = email == null ? "" : email.trim().toLowerCase();
+        check("login:ip:" + clientIp, ipCapacity, ipPerMinute);
+        check("login:email:" + normalizedEmail, emailCapacity, emailPerMinute);
+    }
+
+    public void checkSignup(String clientIp) {
+        check("signup:ip:" + clientIp, ipCapacity, ipPerMinute);
+    }
+
+    private void check(String key, int capacity, int perMinute) {
+        // 버킷은 capacity만큼 연속 허용하고 분당 perMinute 속도로 다시 채워진다
+        TokenBucket bucket = localBuckets.get(key, k -> new TokenBucket(capacity, perMinute / 60.0));
+        if (!bucket.tryConsume()) {
+            throw tooManyRequests(key);
+        }
+
+        Long count = incrementWindow(key);
+        if (count != null && count > perMinute) {
+            throw tooManyRequests(key);
+        }
+    }
+
+    private Long incrementWindow(String key) {
+        long window = System.currentTimeMillis() / 60_000;
+        String redisKey = KEY_PREFIX + key + ":" + window;
+        try {
+            return redisTemplate.execute(INCREMENT_SCRIPT, List.of(redisKey), String.valueOf(WINDOW_TTL.toMillis()));
+        } catch (Exception e) {
+            log.warn("Redis 요청 제한 확인 실패 - 로컬 제한만 적용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private BusinessException tooManyRequests(String key) {
+        log.warn("요청 제한 초과 - {}", key);
+        return new BusinessException("AUTH_004", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요",
+                HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private static final class TokenBucket {
+        private final int capacity;
+        private final double refillPerMilli;
+        private double tokens;
+        private long lastRefillAt;
+
+        private TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerMilli = refillPerSecond / 1000.0;
+            this.tokens = capacity;
+            this.lastRefillAt = System.currentTimeMillis();
+        }
+
+        private synchronized boolean tryConsume() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerMilli);
+            lastRefillAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.budgetbook.security;
+
+import com.budgetbook.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비밀번호 해싱 전용 풀
+ * BCrypt/Argon2는 CPU를 많이 쓰므로 요청 스레드 대신 크기가 제한된 전용 풀에서 실행한다.
+ * 크리덴셜 스터핑 등으로 대기열이 가득 차면 즉시 429를 반환해 일반 트래픽이 굶지 않도록 한다.
+ * 존재하지 않는 이메일의 대기도 같은 풀을 거치므로 대기열 포화 여부(429)로도 계정 존재를 구분할 수 없다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer simulatedTimer;
+    private final Timer rejectedTimer;
+
+    // 존재하지 않는 이메일 응답 시간을 실제 검증과 맞추기 위한 검증 소요 시간 이동 평균
+    private final AtomicLong averageMatchNanos = new AtomicLong();
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing-threads:0}") int hashingThreads,
+            @Value("${security.password.hashing-queue-size:64}") int queueSize,
+            @Value("${security.password.hashing-wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        int threads = hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hashing")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.simulatedTimer = Timer.builder("auth.password.hashing")
+                .tag("operation", "simulated")
+                .register(meterRegistry);
+        this.rejectedTimer = Timer.builder("auth.password.hashing")
+                .tag("operation", "rejected")
+                .register(meterRegistry);
+
+        // 초기 평균값은 더미 해시 한 번으로 측정
+        long start = System.nanoTime();
+        passwordEncoder.matches("warm-up", passwordEncoder.encode("warm-up"));
+        averageMatchNanos.set((System.nanoTime() - start) / 2);
+        log.info("비밀번호 해싱 풀 초기화 - 스레드: {}, 대기열: {}, 검증 소요: {}ms",
+                threads, queueSize, TimeUnit.NANOSECONDS.toMillis(averageMatchNanos.get()));
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matched = submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+        long elapsed = System.nanoTime() - start;
+        averageMatchNanos.updateAndGet(avg -> avg + (elapsed - avg) / 8);
+        return matched;
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(작업 계수/알고리즘)보다 약하면 true → 로그인 성공 시 재해싱
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 존재하지 않는 이메일: 실제 검증과 같은 대기열/스레드를 차지하고 평균 검증 시간만큼 대기
+     * CPU는 쓰지 않지만 대기열 대기 시간과 포화 시 429 응답이 실제 검증과 같아
+     * 응답 시간이나 상태 코드로 계정 존재 여부를 알 수 없다.
+     */
+    public void simulateMatches() {
+        long parkNanos = averageMatchNanos.get();
+        submit(() -> {
+            LockSupport.parkNanos(parkNanos);
+            return Boolean.FALSE;
+        }, simulatedTimer);
+    }
+
+    private <T> T submit(Callable<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedTimer.record(0, TimeUnit.NANOSECONDS);
+            log.warn("비밀번호 해싱 대기열 초과 - active: {}, queued: {}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw tooManyRequests();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw tooManyRequests();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해싱 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private BusinessException tooManyRequests() {
+        return new BusinessException("AUTH_004", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요",
+                HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
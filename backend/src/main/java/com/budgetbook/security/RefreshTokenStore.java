@@ -0,0 +1,218 @@
+package com.budgetbook.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 Refresh Token 저장소
+ * - refresh_tokens:{userId}        Hash   familyId → "현재 tokenId|토큰 SHA-256 해시" (JWT 원문은 저장하지 않음)
+ * - refresh_tokens:{userId}:expiry Sorted Set familyId → 만료 시각(ms)
+ * 토큰 패밀리는 로그인 한 번에서 시작해 갱신마다 교체되는 토큰 묶음(기기 세션 하나)이며, 패밀리당 현재 토큰 하나만 유효하다.
+ * 키의 {userId} 부분은 Redis Cluster 해시 태그이므로 두 키는 항상 같은 슬롯에 있어 Lua 스크립트로 함께 다룰 수 있다.
+ * 만료된 항목은 별도 스케줄러 없이 저장/교체 시점에 정리하고, 두 키 모두 가장 늦은 만료 시각에 통째로 만료된다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh_tokens:";
+    private static final String LEGACY_KEY_PREFIX = "refresh_token:";
+
+    // KEYS[1]=hash, KEYS[2]=zset / ARGV[1]=now
+    private static final String SWEEP_EXPIRED = """
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            if #expired > 0 then
+              redis.call('HDEL', KEYS[1], unpack(expired))
+              redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            end
+            """;
+
+    private static final String EXPIRE_AT_LATEST = """
+            local latest = redis.call('ZRANGE', KEYS[2], -1, -1, 'WITHSCORES')
+            if #latest > 0 then
+              redis.call('PEXPIREAT', KEYS[1], latest[2])
+              redis.call('PEXPIREAT', KEYS[2], latest[2])
+            end
+            """;
+
+    // ARGV[2]=familyId, ARGV[3]=tokenId, ARGV[4]=tokenHash, ARGV[5]=expiresAt
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(SWEEP_EXPIRED + """
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3] .. '|' .. ARGV[4])
+            redis.call('ZADD', KEYS[2], ARGV[5], ARGV[2])
+            """ + EXPIRE_AT_LATEST + """
+            return #expired
+            """, Long.class);
+
+    // ARGV[2]=familyId, ARGV[3]=tokenId, ARGV[4]=tokenHash, ARGV[5]=newTokenId, ARGV[6]=newTokenHash, ARGV[7]=expiresAt
+    // 반환: 1 교체됨, 0 없는(만료/폐기된) 패밀리, -1 이미 교체된 토큰 재사용 → 패밀리 폐기
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(SWEEP_EXPIRED + """
+            local stored = redis.call('HGET', KEYS[1], ARGV[2])
+            if not stored then
+              return 0
+            end
+            if stored ~= ARGV[3] .. '|' .. ARGV[4] then
+              redis.call('HDEL', KEYS[1], ARGV[2])
+              redis.call('ZREM', KEYS[2], ARGV[2])
+              return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[5] .. '|' .. ARGV[6])
+            redis.call('ZADD', KEYS[2], ARGV[7], ARGV[2])
+            """ + EXPIRE_AT_LATEST + """
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=hash, KEYS[2]=zset, KEYS[3]=legacy-revoked / ARGV[1]=now, ARGV[2]=tokenId, ARGV[3]=tokenHash
+    // 반환: 1 소비됨, 0 유효하지 않음, 2 해시에 없음 → 개별 키 확인 필요
+    private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('HGET', KEYS[1], ARGV[2])
+            local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[2])
+            if stored and expiresAt then
+              if stored ~= ARGV[3] or tonumber(expiresAt) <= tonumber(ARGV[1]) then
+                return 0
+              end
+              redis.call('HDEL', KEYS[1], ARGV[2])
+              redis.call('ZREM', KEYS[2], ARGV[2])
+              return 1
+            end
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+              return 0
+            end
+            return 2
+            """, Long.class);
+
+    // KEYS[1]=refresh_token:{userId}:{tokenId} / ARGV[1]=기대 값 (같을 때만 삭제)
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long refreshTokenValidityInMilliseconds;
+
+    public RefreshTokenStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenValidityInMilliseconds) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+    }
+
+    /**
+     * 새 패밀리의 첫 토큰 저장 (같은 호출에서 만료된 항목 정리)
+     */
+    public void save(Long userId, String familyId, String tokenId, String refreshToken) {
+        long now = System.currentTimeMillis();
+        Long swept = redisTemplate.execute(SAVE_SCRIPT, keys(userId),
+                String.valueOf(now), familyId, tokenId, JwtTokenProvider.sha256(refreshToken),
+                String.valueOf(now + refreshTokenValidityInMilliseconds));
+        if (swept != null && swept > 0) {
+            log.debug("만료된 Refresh Token 정리 - userId: {}, count: {}", userId, swept);
+        }
+    }
+
+    /**
+     * 확인/삭제/삽입을 한 번의 Lua 호출로 수행하는 토큰 교체
+     * 이미 교체된 토큰이 다시 제출되면 탈취로 보고 해당 패밀리 전체를 폐기한다.
+     */
+    public RotationResult rotate(Long userId, String familyId, String tokenId, String refreshToken,
+                                 String newTokenId, String newRefreshToken) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, keys(userId),
+                String.valueOf(now), familyId, tokenId, JwtTokenProvider.sha256(refreshToken),
+                newTokenId, JwtTokenProvider.sha256(newRefreshToken),
+                String.valueOf(now + refreshTokenValidityInMilliseconds));
+
+        if (result == null || result == 0L) {
+            return RotationResult.INVALID;
+        }
+        return result == 1L ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    /**
+     * 패밀리 도입 이전에 발급된 토큰 확인 후 소비 (확인과 삭제를 한 번의 Lua 호출로 처리해 같은 토큰이 두 번 소비되지 않음)
+     * - refresh_tokens:{userId} 의 tokenId 필드 (값은 해시만 저장)
+     * - refresh_token:{userId}:{tokenId} 개별 키 (최대 7일간만 존재)
+     * 개별 키는 해시 태그가 없어 다른 슬롯에 있을 수 있으므로 별도 스크립트로 비교 후 삭제한다.
+     * @return 유효했으면 true (해당 토큰은 삭제되므로 호출자가 새 패밀리를 발급)
+     */
+    public boolean consumeLegacy(Long userId, String tokenId, String refreshToken) {
+        String legacyKey = LEGACY_KEY_PREFIX + userId + ":" + tokenId;
+        Long result = redisTemplate.execute(CONSUME_LEGACY_SCRIPT,
+                List.of(hashKey(userId), expiryKey(userId), legacyRevokedKey(userId)),
+                String.valueOf(System.currentTimeMillis()), tokenId, JwtTokenProvider.sha256(refreshToken));
+
+        if (result != null && result == 1L) {
+            redisTemplate.delete(legacyKey);
+            return true;
+        }
+        if (result == null || result != 2L) {
+            return false;
+        }
+        // 기존 값은 JSON 직렬화된 문자열("...")로 저장되어 있음
+        Long deleted = redisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(legacyKey), "\"" + refreshToken + "\"");
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 패밀리(기기 세션) 하나 폐기 (HDEL/ZREM 파이프라인)
+     * 패밀리 도입 이전 토큰은 tokenId로 폐기한다.
+     */
+    public void revoke(Long userId, String familyOrTokenId) {
+        String hashKey = hashKey(userId);
+        String expiryKey = expiryKey(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hDel(hashKey, familyOrTokenId);
+            stringConnection.zRem(expiryKey, familyOrTokenId);
+            stringConnection.del(LEGACY_KEY_PREFIX + userId + ":" + familyOrTokenId);
+            return null;
+        });
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기 (전체 기기 로그아웃) - 키 두 개 삭제로 끝나므로 키스페이스 스캔이 없다
+     */
+    public void revokeAll(Long userId) {
+        String hashKey = hashKey(userId);
+        String expiryKey = expiryKey(userId);
+        String legacyRevokedKey = legacyRevokedKey(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(hashKey, expiryKey);
+            // 개별 키로 남아 있는 기존 토큰은 스캔 없이 찾을 수 없으므로 사용을 막는 표시만 남김
+            stringConnection.pSetEx(legacyRevokedKey, refreshTokenValidityInMilliseconds, "1");
+            return null;
+        });
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(hashKey(userId), expiryKey(userId));
+    }
+
+    private String hashKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String expiryKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:expiry";
+    }
+
+    private String legacyRevokedKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:legacy-revoked";
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        INVALID,
+        REUSED
+    }
+}
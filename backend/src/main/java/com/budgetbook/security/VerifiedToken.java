@@ -0,0 +1,23 @@
+package com.budgetbook.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 (필터/서비스에서 필요한 값만 보관)
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final Long userId;
+    private final String email;
+    private final String type;        // ACCESS or REFRESH
+    private final String tokenId;     // REFRESH 토큰만 존재
+    private final String familyId;    // REFRESH 토큰만 존재 (로그인 한 번에서 교체되며 이어지는 토큰 묶음)
+    private final long expiresAtMillis;
+    private final String kid;         // 서명 키 ID (HMAC 모드와 기존 HMAC 토큰은 null)
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,172 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.exception.BusinessException;
+import com.budgetbook.config.Workload;
+import com.budgetbook.config.WorkloadClass;
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.account.AccountDailyBalanceRepository;
+import com.budgetbook.domain.account.AccountRepository;
+import com.budgetbook.domain.account.DailyBalancePoint;
+import com.budgetbook.dto.account.AccountBalanceHistoryResponse;
+import com.budgetbook.dto.account.AccountBalanceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 일별 잔액 이력 (account_daily_balances)
+ * 거래 생성/수정/삭제 시 TransactionService가 잔액 변화분을 넘기면 해당 일자 스냅샷과
+ * 그 이후 스냅샷만 보정하므로, 최근 일자 거래는 사실상 O(1)이고 과거 일자 수정도 전체 재계산이 필요 없다.
+ * 특정 일자 잔액은 (account_id, balance_date) 유니크 인덱스 조회 한 번으로 구한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountBalanceHistoryService {
+
+    private static final int MAX_SERIES_DAYS = 1096;
+
+    private final AccountDailyBalanceRepository dailyBalanceRepository;
+    private final AccountRepository accountRepository;
+
+    /**
+     * 잔액 변화 반영 (계좌 잔액을 바꾼 직후, 같은 트랜잭션에서 호출)
+     * @param delta 해당 일자 잔액 변화 (수입 +, 지출 -)
+     * @return 스냅샷이 없어 거래 내역으로 전체를 다시 만들었으면 true (이미 최종 상태가 반영됨)
+     */
+    @Transactional
+    public boolean applyChange(Account account, LocalDate date, BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return false;
+        }
+        Long accountId = account.getId();
+
+        // 1. 이미 스냅샷이 있는 일자 (같은 날 추가 거래)
+        if (dailyBalanceRepository.addToDay(accountId, date, delta) == 0) {
+            // 2. 새 일자: 직전 스냅샷 잔액(없으면 최초 스냅샷의 시작 잔액)에서 이어서 생성
+            Optional<BigDecimal> previousClosing = dailyBalanceRepository
+                    .findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(accountId, date)
+                    .map(DailyBalancePoint::getClosingBalance)
+                    .or(() -> dailyBalanceRepository
+                            .findFirstByAccountIdAndBalanceDateGreaterThanOrderByBalanceDateAsc(accountId, date)
+                            .map(next -> next.getClosingBalance().subtract(next.getNetChange())));
+            if (previousClosing.isEmpty()) {
+                // 3. 스냅샷이 전혀 없는 계좌 (첫 거래 또는 이력 도입 이전 계좌) → 거래 내역으로 전체 생성
+                rebuild(account);
+                return true;
+            }
+
+            // 조회 후 삽입 사이에 다른 트랜잭션이 같은 일자를 먼저 만들 수 있으므로 upsert
+            dailyBalanceRepository.upsertDay(accountId, date, delta, previousClosing.get().add(delta));
+        }
+
+        // 이후 일자 잔액 보정 (최근 일자 거래면 대상이 없음)
+        int shifted = dailyBalanceRepository.shiftAfter(accountId, date, delta);
+        if (shifted > 0) {
+            log.debug("과거 일자 잔액 변경 - 이후 스냅샷 보정 - accountId: {}, date: {}, count: {}", accountId, date, shifted);
+        }
+        return false;
+    }
+
+    /**
+     * 거래 내역으로 계좌 스냅샷 전체를 다시 생성
+     * 시작 잔액은 현재 잔액에서 전체 거래 변화분을 뺀 값 (계좌 생성 시 입력한 초기 잔액 등)
+     * 계좌 행을 먼저 잠가 같은 계좌의 동시 재생성/일자 추가와 순서를 맞춘다 (잠금 이후 문장은 커밋된 거래를 모두 봄).
+     */
+    @Transactional
+    public void rebuild(Account account) {
+        accountRepository.findAllByIdForUpdate(List.of(account.getId()));
+        dailyBalanceRepository.deleteByAccountId(account.getId());
+        int days = dailyBalanceRepository.insertFromTransactions(account.getId(), account.getBalance());
+        log.info("계좌 잔액 이력 재생성 - accountId: {}, 일자 수: {}", account.getId(), days);
+    }
+
+    @Transactional
+    public void deleteHistory(Long accountId) {
+        dailyBalanceRepository.deleteByAccountId(accountId);
+    }
+
+    public AccountBalanceResponse getBalanceOn(Long userId, Long accountId, LocalDate date) {
+        Account account = getOwnedAccount(userId, accountId);
+        return AccountBalanceResponse.builder()
+                .accountId(accountId)
+                .date(date)
+                .balance(balanceOn(account, date))
+                .build();
+    }
+
+    /**
+     * 기간 일별 잔액 (시작일 전날 잔액 조회 1회 + 기간 내 스냅샷 범위 조회 1회)
+     */
+    @Workload(WorkloadClass.ANALYTICS)
+    public AccountBalanceHistoryResponse getBalanceHistory(Long userId, Long accountId,
+                                                           LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException("ACCOUNT_003", "종료일은 시작일 이후여야 합니다");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_SERIES_DAYS) {
+            throw new BusinessException("ACCOUNT_003", "조회 기간은 최대 " + MAX_SERIES_DAYS + "일까지 가능합니다");
+        }
+
+        Account account = getOwnedAccount(userId, accountId);
+        BigDecimal balance = balanceOn(account, startDate.minusDays(1));
+        List<DailyBalancePoint> snapshots = dailyBalanceRepository
+                .findByAccountIdAndBalanceDateBetweenOrderByBalanceDateAsc(accountId, startDate, endDate);
+
+        // 스냅샷이 없는 날은 직전 잔액을 그대로 이어감
+        List<AccountBalanceHistoryResponse.DailyBalance> balances = new ArrayList<>((int) days);
+        int next = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            BigDecimal netChange = BigDecimal.ZERO;
+            if (next < snapshots.size() && snapshots.get(next).getBalanceDate().equals(date)) {
+                DailyBalancePoint snapshot = snapshots.get(next++);
+                balance = snapshot.getClosingBalance();
+                netChange = snapshot.getNetChange();
+            }
+            balances.add(AccountBalanceHistoryResponse.DailyBalance.builder()
+                    .date(date)
+                    .balance(balance)
+                    .netChange(netChange)
+                    .build());
+        }
+
+        return AccountBalanceHistoryResponse.builder()
+                .accountId(accountId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .balances(balances)
+                .build();
+    }
+
+    private BigDecimal balanceOn(Account account, LocalDate date) {
+        Optional<DailyBalancePoint> snapshot = dailyBalanceRepository
+                .findFirstByAccountIdAndBalanceDateLessThanEqualOrderByBalanceDateDesc(account.getId(), date);
+        if (snapshot.isPresent()) {
+            return snapshot.get().getClosingBalance();
+        }
+        // 첫 스냅샷 이전: 시작 잔액, 스냅샷이 없으면 거래가 없는 계좌이므로 현재 잔액
+        return dailyBalanceRepository.findFirstByAccountIdOrderByBalanceDateAsc(account.getId())
+                .map(first -> first.getClosingBalance().subtract(first.getNetChange()))
+                .orElse(account.getBalance());
+    }
+
+    @SuppressWarnings("null")
+    private Account getOwnedAccount(Long userId, Long accountId) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new BusinessException("ACCOUNT_001", "계좌를 찾을 수 없습니다"));
+        if (!account.isOwner(userId)) {
+            throw new BusinessException("ACCOUNT_002", "계좌 소유권이 없습니다");
+        }
+        return account;
+    }
+}
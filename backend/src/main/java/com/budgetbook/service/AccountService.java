@@ -3,14 +3,14 @@ package com.budgetbook.service;
 import com.budgetbook.common.exception.BusinessException;
 import com.budgetbook.domain.account.Account;
 import com.budgetbook.domain.account.AccountRepository;
+import com.budgetbook.domain.recurring.RecurringTransactionRepository;
 import com.budgetbook.domain.user.User;
-import com.budgetbook.domain.user.UserRepository;
 import com.budgetbook.dto.account.AccountCreateRequest;
 import com.budgetbook.dto.account.AccountResponse;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import org.springframework.cache.annotation.CacheEvict;
+import java.time.LocalDate;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,9 +24,12 @@ import java.util.stream.Collectors;
 public class AccountService {
 
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final UserCacheGeneration userCacheGeneration;
+    private final AccountBalanceHistoryService balanceHistoryService;
+    private final RecurringTransactionRepository recurringTransactionRepository;
 
-    @Cacheable(value = "accounts", key = "#userId")
+    @Cacheable(value = "accounts", key = "#userId + ':' + @userCacheGeneration.current(#userId, 'accounts')")
     public List<AccountResponse> getAccounts(Long userId) {
         List<Account> accounts = accountRepository.findByUserId(userId);
         return accounts.stream()
@@ -34,7 +37,7 @@ public class AccountService {
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "accounts", key = "#userId + ':' + #bankName")
+    @Cacheable(value = "accounts", key = "#userId + ':' + @userCacheGeneration.current(#userId, 'accounts') + ':' + #bankName")
     public List<AccountResponse> getAccountsByBank(Long userId, String bankName) {
         List<Account> accounts = accountRepository.findByUserIdAndBankName(userId, bankName);
         return accounts.stream()
@@ -43,11 +46,9 @@ public class AccountService {
     }
 
     @Transactional
-    @CacheEvict(value = "accounts", key = "#userId")
     @SuppressWarnings("null")
     public AccountResponse createAccount(Long userId, AccountCreateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("USER_001", "사용자를 찾을 수 없습니다"));
+        User user = userIdentityCache.getReference(userId);
 
         Account account = Account.builder()
                 .user(user)
@@ -57,11 +58,11 @@ public class AccountService {
                 .build();
 
         Account savedAccount = accountRepository.save(account);
+        userCacheGeneration.bump(userId, "accounts");
         return toResponse(savedAccount);
     }
 
     @Transactional
-    @CacheEvict(value = "accounts", key = "#userId")
     @SuppressWarnings("null")
     public AccountResponse updateAccount(Long userId, Long accountId, String alias, BigDecimal balance) {
         Account account = accountRepository.findById(accountId)
@@ -75,14 +76,17 @@ public class AccountService {
             account.updateAlias(alias);
         }
         if (balance != null) {
+            BigDecimal adjustment = balance.subtract(account.getBalance());
             account.updateBalance(balance);
+            // 잔액 직접 수정은 오늘 일자 변화로 기록
+            balanceHistoryService.applyChange(account, LocalDate.now(), adjustment);
         }
         Account savedAccount = accountRepository.save(account);
+        userCacheGeneration.bump(userId, "accounts");
         return toResponse(savedAccount);
     }
 
     @Transactional
-    @CacheEvict(value = "accounts", key = "#userId")
     @SuppressWarnings("null")
     public void deleteAccount(Long userId, Long accountId) {
         Account account = accountRepository.findById(accountId)
@@ -92,7 +96,10 @@ public class AccountService {
             throw new BusinessException("ACCOUNT_002", "계좌 소유권이 없습니다");
         }
 
+        balanceHistoryService.deleteHistory(accountId);
+        recurringTransactionRepository.deleteByAccountId(accountId);
         accountRepository.delete(account);
+        userCacheGeneration.bump(userId, "accounts");
     }
 
     private AccountResponse toResponse(Account account) {
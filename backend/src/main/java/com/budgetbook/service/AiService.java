@@ -1,24 +1,35 @@
 package com.budgetbook.service;
 
-import com.budgetbook.domain.category.Category;
-import com.budgetbook.domain.category.CategoryRepository;
+import com.budgetbook.common.exception.BusinessException;
 import com.budgetbook.domain.category.TransactionType;
 import com.budgetbook.dto.ai.AiParseResponse;
 import com.budgetbook.dto.ai.ChatResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -26,17 +37,30 @@ import java.util.stream.Collectors;
 public class AiService {
 
     private final WebClient ollamaWebClient;
-    private final CategoryRepository categoryRepository;
+    private final CategoryIndexCache categoryIndexCache;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 배치 프롬프트에서 항목당 허용하는 출력 토큰 수
+    private static final int BATCH_NUM_PREDICT_PER_ITEM = 96;
 
     @Value("${ollama.model}")
     private String model;
 
+    @Value("${ollama.batch.size:20}")
+    private int batchSize;
+
+    @Value("${ollama.batch.parallelism:4}")
+    private int batchParallelism;
+
     public AiParseResponse parseTransaction(Long userId, String userInput) {
+        // 사용자의 카테고리 목록 가져오기
+        CategoryIndex categories = categoryIndexCache.get(userId);
+        return parseTransaction(userInput, categories);
+    }
+
+    private AiParseResponse parseTransaction(String userInput, CategoryIndex categories) {
         try {
-            // 사용자의 카테고리 목록 가져오기
-            List<Category> categories = categoryRepository.findByUserId(userId);
-            
             String prompt = buildPrompt(userInput, categories);
             String response = callOllamaApi(prompt);
             
@@ -50,17 +74,11 @@ public class AiService {
         }
     }
 
-    private String buildPrompt(String userInput, List<Category> categories) {
+    private String buildPrompt(String userInput, CategoryIndex categories) {
         // 카테고리를 타입별로 분류
-        String expenseCategories = categories.stream()
-                .filter(c -> c.getType() == TransactionType.EXPENSE)
-                .map(Category::getName)
-                .collect(Collectors.joining(", "));
+        String expenseCategories = String.join(", ", categories.names(TransactionType.EXPENSE));
         
-        String incomeCategories = categories.stream()
-                .filter(c -> c.getType() == TransactionType.INCOME)
-                .map(Category::getName)
-                .collect(Collectors.joining(", "));
+        String incomeCategories = String.join(", ", categories.names(TransactionType.INCOME));
 
         return String.format("""
             당신은 가계부 앱의 거래 내역 파싱 도우미입니다.
@@ -92,34 +110,233 @@ public class AiService {
             JSON만 출력:""", expenseCategories, incomeCategories, userInput);
     }
 
+    /**
+     * 여러 건의 자연어 입력을 묶어서 파싱 (문자 내역 등 대량 가져오기용)
+     * 입력을 batchSize 단위로 나눠 하나의 프롬프트로 요청하고, 배치는 batchParallelism 만큼만 동시에 실행한다.
+     * 배치 응답에서 누락되었거나 파싱에 실패한 항목만 단건 파싱으로 재시도한다.
+     * Ollama 호출 자체가 실패하면(연결 오류, 시간 초과 등) 단건으로 나눠 재시도하지 않고 503으로 응답한다
+     * (장애/지연 시 호출 수와 지연 시간이 배치 크기만큼 늘어나지 않도록).
+     */
+    public List<AiParseResponse> parseTransactions(Long userId, List<String> userInputs) {
+        CategoryIndex categories = categoryIndexCache.get(userId);
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < userInputs.size(); i += batchSize) {
+            batches.add(userInputs.subList(i, Math.min(i + batchSize, userInputs.size())));
+        }
+
+        long startTime = System.nanoTime();
+        List<AiParseResponse> results;
+        try {
+            results = Flux.fromIterable(batches)
+                    .flatMapSequential(batch -> parseBatch(batch, categories), batchParallelism)
+                    .flatMapIterable(batchResults -> batchResults)
+                    .collectList()
+                    .block();
+        } catch (RuntimeException e) {
+            log.warn("AI 배치 파싱 실패 - userId: {}, 건수: {}, error: {}", userId, userInputs.size(), e.getMessage());
+            throw new BusinessException("AI_001", "AI 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        log.info("AI 배치 파싱 완료 - userId: {}, 건수: {}, 배치 수: {}, 소요: {}s, 처리량: {} items/s",
+                userId, userInputs.size(), batches.size(), String.format("%.2f", elapsedSeconds),
+                String.format("%.1f", userInputs.size() / Math.max(elapsedSeconds, 0.001)));
+        return results;
+    }
+
+    private Mono<List<AiParseResponse>> parseBatch(List<String> inputs, CategoryIndex categories) {
+        String prompt = buildBatchPrompt(inputs, categories);
+        // 호출 오류는 그대로 전달하고, 응답에서 빠진 항목만 단건으로 다시 요청
+        return generate(prompt, 0.1, BATCH_NUM_PREDICT_PER_ITEM * inputs.size())
+                .map(response -> parseBatchResponse(response, inputs.size(), categories))
+                .flatMap(parsed -> {
+                    long missing = parsed.stream().filter(Objects::isNull).count();
+                    if (missing > 0) {
+                        log.debug("AI 배치 응답 누락 항목 단건 재시도 - 건수: {}/{}", missing, inputs.size());
+                    }
+                    return Flux.range(0, inputs.size())
+                            .concatMap(i -> parsed.get(i) != null
+                                    ? Mono.just(parsed.get(i))
+                                    : parseSingle(inputs.get(i), categories))
+                            .collectList();
+                });
+    }
+
+    private Mono<AiParseResponse> parseSingle(String userInput, CategoryIndex categories) {
+        return generate(buildPrompt(userInput, categories), 0.1, 256)
+                .map(response -> parseOllamaResponse(response, categories));
+    }
+
+    private String buildBatchPrompt(List<String> inputs, CategoryIndex categories) {
+        String expenseCategories = String.join(", ", categories.names(TransactionType.EXPENSE));
+        
+        String incomeCategories = String.join(", ", categories.names(TransactionType.INCOME));
+
+        String numberedInputs = IntStream.range(0, inputs.size())
+                .mapToObj(i -> "[" + i + "] " + inputs.get(i).replace('\n', ' '))
+                .collect(Collectors.joining("\n"));
+
+        return String.format("""
+            당신은 가계부 앱의 거래 내역 파싱 도우미입니다.
+            번호가 붙은 여러 건의 자연어 입력을 각각 분석하여 JSON 배열로 추출하세요.
+            
+            반드시 다음 JSON 배열 형식만 출력하세요 (다른 텍스트 없이):
+            [{"index":번호,"type":"INCOME 또는 EXPENSE","amount":금액숫자,"categoryName":"카테고리명","memo":"추가메모"}]
+            
+            규칙:
+            1. index: 입력 앞의 [번호]를 그대로 사용, 입력 하나당 객체 하나
+            2. type: 수입이면 "INCOME", 지출이면 "EXPENSE"
+            3. amount: 반드시 원 단위 숫자로 변환
+            4. categoryName: 아래 카테고리 중 가장 적합한 것 선택
+            5. memo: 구체적인 내용 (없으면 빈 문자열)
+            
+            지출 카테고리: %s
+            수입 카테고리: %s
+            
+            카테고리가 없거나 맞는 게 없으면 가장 비슷한 것을 선택하거나 "기타"로 설정하세요.
+            
+            예시:
+            입력:
+            [0] 점심에 김밥 5천원 먹었어
+            [1] 이번달 월급 300만원 들어왔어
+            출력: [{"index":0,"type":"EXPENSE","amount":5000,"categoryName":"식비","memo":"점심 김밥"},{"index":1,"type":"INCOME","amount":3000000,"categoryName":"월급","memo":"이번달 월급"}]
+            
+            사용자 입력:
+            %s
+            
+            JSON 배열만 출력:""", expenseCategories, incomeCategories, numberedInputs);
+    }
+
+    /**
+     * 배치 응답을 입력 순서대로 정렬된 목록으로 변환 (파싱하지 못한 위치는 null)
+     */
+    private List<AiParseResponse> parseBatchResponse(String response, int size, CategoryIndex categories) {
+        List<AiParseResponse> results = Arrays.asList(new AiParseResponse[size]);
+        try {
+            String text = objectMapper.readTree(response).path("response").asText();
+            Optional<JsonNode> items = IncrementalJsonExtractor.extractArray(objectMapper, text);
+            log.debug("추출된 배치 JSON: {}", items.orElse(null));
+            if (items.isEmpty()) {
+                return results;
+            }
+            for (JsonNode item : items.get()) {
+                int index = item.path("index").asInt(-1);
+                if (index < 0 || index >= size || results.get(index) != null) {
+                    continue;
+                }
+                if (!item.hasNonNull("type") || item.path("amount").asLong() <= 0) {
+                    continue;
+                }
+                results.set(index, toParseResponse(item, categories));
+            }
+        } catch (Exception e) {
+            log.warn("AI 배치 응답 파싱 실패: {}", e.getMessage());
+        }
+        return results;
+    }
+
     private String callOllamaApi(String prompt) {
+        String response = generate(prompt, 0.1, 256).block();
+
+        log.debug("Ollama 응답: {}", response);
+        return response;
+    }
+
+    private Mono<String> generate(String prompt, double temperature, int numPredict) {
         Map<String, Object> requestBody = Map.of(
             "model", model,
             "prompt", prompt,
             "stream", false,
             "options", Map.of(
-                "temperature", 0.1,
-                "num_predict", 256
+                "temperature", temperature,
+                "num_predict", numPredict
             )
         );
 
-        String response = ollamaWebClient.post()
-                .uri("/api/generate")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(60))
-                .onErrorResume(e -> {
-                    log.error("Ollama API 호출 실패: {}", e.getMessage());
-                    return Mono.error(new RuntimeException("Ollama API 호출 실패: " + e.getMessage()));
-                })
-                .block();
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return ollamaWebClient.post()
+                    .uri("/api/generate")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(Duration.ofSeconds(60))
+                    .doOnSuccess(body -> {
+                        stopOllamaTimer(sample, "generate", "success");
+                        recordGenerateTokens(body);
+                    })
+                    .doOnError(e -> stopOllamaTimer(sample, "generate", "error"))
+                    .onErrorResume(e -> {
+                        log.error("Ollama API 호출 실패: {}", e.getMessage());
+                        return Mono.error(new RuntimeException("Ollama API 호출 실패: " + e.getMessage()));
+                    });
+        });
+    }
 
-        log.debug("Ollama 응답: {}", response);
-        return response;
+    /**
+     * Ollama 호출 시간 (ollama.requests{operation, outcome})
+     */
+    private void stopOllamaTimer(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("ollama.requests")
+                .tag("model", model)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 호출당 토큰 수 (ollama.tokens{operation, type})
+     */
+    private void recordTokens(String operation, String type, long count) {
+        DistributionSummary.builder("ollama.tokens")
+                .baseUnit("tokens")
+                .tag("model", model)
+                .tag("operation", operation)
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(count);
     }
 
-    private AiParseResponse parseOllamaResponse(String response, List<Category> categories) {
+    /**
+     * 스트리밍 호출당 수신 청크 수 (ollama.stream.chunks{operation}) - 토큰 수와 단위가 달라 따로 기록
+     */
+    private void recordStreamChunks(String operation, long count) {
+        DistributionSummary.builder("ollama.stream.chunks")
+                .baseUnit("chunks")
+                .tag("model", model)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    // 스트리밍 최종 청크(done=true)에만 prompt_eval_count, eval_count가 포함됨
+    private void recordChatTokens(JsonNode finalChunk) {
+        if (finalChunk.has("prompt_eval_count")) {
+            recordTokens("chat", "prompt", finalChunk.path("prompt_eval_count").asLong());
+        }
+        if (finalChunk.has("eval_count")) {
+            recordTokens("chat", "completion", finalChunk.path("eval_count").asLong());
+        }
+    }
+
+    // 비스트리밍 응답에는 prompt_eval_count(입력), eval_count(출력) 토큰 수가 포함됨
+    private void recordGenerateTokens(String body) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root.has("prompt_eval_count")) {
+                recordTokens("generate", "prompt", root.path("prompt_eval_count").asLong());
+            }
+            if (root.has("eval_count")) {
+                recordTokens("generate", "completion", root.path("eval_count").asLong());
+            }
+        } catch (Exception e) {
+            log.debug("Ollama 토큰 수 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private AiParseResponse parseOllamaResponse(String response, CategoryIndex categories) {
         try {
             JsonNode root = objectMapper.readTree(response);
             String text = root.path("response").asText();
@@ -131,50 +348,17 @@ public class AiService {
                         .build();
             }
 
-            // JSON 부분 추출 (마크다운 코드 블록 제거)
-            String jsonText = extractJson(text);
-            log.debug("추출된 JSON: {}", jsonText);
-            
-            JsonNode parsed = objectMapper.readTree(jsonText);
-
-            String type = parsed.path("type").asText();
-            Long amount = parsed.path("amount").asLong();
-            String categoryName = parsed.path("categoryName").asText();
-            String memo = parsed.path("memo").asText("");
-
-            // 카테고리 ID 찾기
-            TransactionType transactionType = "INCOME".equals(type) ? 
-                    TransactionType.INCOME : TransactionType.EXPENSE;
-            
-            Optional<Category> matchedCategory = categories.stream()
-                    .filter(c -> c.getName().equals(categoryName) && c.getType() == transactionType)
-                    .findFirst();
-
-            // 정확한 매칭이 없으면 이름만으로 검색
-            if (matchedCategory.isEmpty()) {
-                matchedCategory = categories.stream()
-                        .filter(c -> c.getName().equals(categoryName))
-                        .findFirst();
-            }
-            
-            // 여전히 없으면 부분 매칭 시도
-            if (matchedCategory.isEmpty()) {
-                final String searchName = categoryName;
-                matchedCategory = categories.stream()
-                        .filter(c -> c.getName().contains(searchName) || searchName.contains(c.getName()))
-                        .filter(c -> c.getType() == transactionType)
-                        .findFirst();
+            // 첫 번째 완성된 JSON 객체 추출 (마크다운 코드 블록/잡담 무시)
+            Optional<JsonNode> parsed = IncrementalJsonExtractor.extractObject(objectMapper, text);
+            log.debug("추출된 JSON: {}", parsed.orElse(null));
+            if (parsed.isEmpty()) {
+                return AiParseResponse.builder()
+                        .success(false)
+                        .errorMessage("AI 응답에서 JSON을 찾을 수 없습니다")
+                        .build();
             }
 
-            return AiParseResponse.builder()
-                    .success(true)
-                    .type(type)
-                    .amount(amount)
-                    .categoryName(categoryName)
-                    .categoryId(matchedCategory.map(Category::getId).orElse(null))
-                    .memo(memo)
-                    .confidence(0.9)
-                    .build();
+            return toParseResponse(parsed.get(), categories);
 
         } catch (Exception e) {
             log.error("Ollama 응답 파싱 실패: {}", e.getMessage(), e);
@@ -185,28 +369,26 @@ public class AiService {
         }
     }
 
-    private String extractJson(String text) {
-        text = text.trim();
-        
-        // 마크다운 코드 블록 제거
-        if (text.startsWith("```json")) {
-            text = text.substring(7);
-        } else if (text.startsWith("```")) {
-            text = text.substring(3);
-        }
-        if (text.endsWith("```")) {
-            text = text.substring(0, text.length() - 3);
-        }
-        
-        // JSON 객체 부분만 추출
-        int startIndex = text.indexOf('{');
-        int endIndex = text.lastIndexOf('}');
-        
-        if (startIndex != -1 && endIndex != -1 && endIndex > startIndex) {
-            text = text.substring(startIndex, endIndex + 1);
-        }
-        
-        return text.trim();
+    private AiParseResponse toParseResponse(JsonNode txNode, CategoryIndex categories) {
+        String type = txNode.path("type").asText();
+        Long amount = txNode.path("amount").asLong();
+        String categoryName = txNode.path("categoryName").asText();
+        String memo = txNode.path("memo").asText("");
+
+        // 카테고리 ID 찾기 (정확 → 정규화 → n-gram 유사도 순)
+        TransactionType transactionType = "INCOME".equals(type) ? 
+                TransactionType.INCOME : TransactionType.EXPENSE;
+        Optional<CategoryIndex.Match> matchedCategory = categories.match(categoryName, transactionType);
+
+        return AiParseResponse.builder()
+                .success(true)
+                .type(type)
+                .amount(amount)
+                .categoryName(categoryName)
+                .categoryId(matchedCategory.map(CategoryIndex.Match::getCategoryId).orElse(null))
+                .memo(memo)
+                .confidence(matchedCategory.map(m -> Math.min(0.9, m.getScore())).orElse(0.9))
+                .build();
     }
 
     /**
@@ -214,9 +396,9 @@ public class AiService {
      */
     public ChatResponse chat(Long userId, String userMessage) {
         try {
-            List<Category> categories = categoryRepository.findByUserId(userId);
+            CategoryIndex categories = categoryIndexCache.get(userId);
             String prompt = buildChatPrompt(userMessage, categories);
-            String response = callOllamaApiForChat(prompt);
+            StreamedChat response = callOllamaApiForChat(prompt);
             
             return parseChatResponse(response, categories);
         } catch (Exception e) {
@@ -232,16 +414,10 @@ public class AiService {
         }
     }
 
-    private String buildChatPrompt(String userMessage, List<Category> categories) {
-        String expenseCategories = categories.stream()
-                .filter(c -> c.getType() == TransactionType.EXPENSE)
-                .map(Category::getName)
-                .collect(Collectors.joining(", "));
+    private String buildChatPrompt(String userMessage, CategoryIndex categories) {
+        String expenseCategories = String.join(", ", categories.names(TransactionType.EXPENSE));
         
-        String incomeCategories = categories.stream()
-                .filter(c -> c.getType() == TransactionType.INCOME)
-                .map(Category::getName)
-                .collect(Collectors.joining(", "));
+        String incomeCategories = String.join(", ", categories.names(TransactionType.INCOME));
 
         return String.format("""
             당신은 가계부 앱의 친근한 AI 어시스턴트입니다.
@@ -297,40 +473,66 @@ public class AiService {
             JSON만 출력:""", expenseCategories, incomeCategories, userMessage);
     }
 
-    private String callOllamaApiForChat(String prompt) {
+    /**
+     * 채팅 응답을 스트리밍으로 받으면서 JSON 객체를 점진적으로 추출
+     * 객체가 완성되면 스트림을 취소하므로 뒤따르는 잡담 토큰은 생성/수신하지 않는다.
+     */
+    private StreamedChat callOllamaApiForChat(String prompt) {
         Map<String, Object> requestBody = Map.of(
             "model", model,
             "prompt", prompt,
-            "stream", false,
+            "stream", true,
             "options", Map.of(
                 "temperature", 0.7,
                 "num_predict", 512
             )
         );
 
-        String response = ollamaWebClient.post()
-                .uri("/api/generate")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(60))
-                .onErrorResume(e -> {
-                    log.error("Ollama API 호출 실패: {}", e.getMessage());
-                    return Mono.error(new RuntimeException("Ollama API 호출 실패: " + e.getMessage()));
-                })
-                .block();
-
-        log.debug("Ollama 채팅 응답: {}", response);
-        return response;
+        IncrementalJsonExtractor extractor = IncrementalJsonExtractor.forObject(objectMapper);
+        StringBuilder text = new StringBuilder();
+
+        // 스트림을 중간에 취소하면 최종 청크(done=true)의 토큰 수를 받지 못하므로
+        // 토큰 수는 최종 청크를 받았을 때만 기록하고, 수신 청크 수는 ollama.stream.chunks로 따로 기록
+        AtomicInteger chunks = new AtomicInteger();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ollamaWebClient.post()
+                    .uri("/api/generate")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToFlux(JsonNode.class)
+                    .timeout(Duration.ofSeconds(60))
+                    .takeUntil(chunk -> {
+                        chunks.incrementAndGet();
+                        if (chunk.path("done").asBoolean(false)) {
+                            recordChatTokens(chunk);
+                        }
+                        String delta = chunk.path("response").asText("");
+                        text.append(delta);
+                        return extractor.feed(delta);
+                    })
+                    .onErrorResume(e -> {
+                        log.error("Ollama API 호출 실패: {}", e.getMessage());
+                        return Mono.error(new RuntimeException("Ollama API 호출 실패: " + e.getMessage()));
+                    })
+                    .blockLast();
+            outcome = "success";
+        } finally {
+            stopOllamaTimer(sample, "chat", outcome);
+            recordStreamChunks("chat", chunks.get());
+        }
+
+        log.debug("Ollama 채팅 응답: {}", text);
+        return new StreamedChat(text.toString(), extractor.getResult().orElse(null));
     }
 
-    private ChatResponse parseChatResponse(String response, List<Category> categories) {
+    private ChatResponse parseChatResponse(StreamedChat response, CategoryIndex categories) {
         try {
-            JsonNode root = objectMapper.readTree(response);
-            String text = root.path("response").asText();
+            String text = response.getText();
             
             if (text == null || text.isEmpty()) {
-                log.warn("Ollama 응답이 비어있습니다. 원본 응답: {}", response);
+                log.warn("Ollama 응답이 비어있습니다.");
                 return ChatResponse.builder()
                         .message("응답을 생성하지 못했습니다. 다시 시도해주세요.")
                         .actionType("CHAT")
@@ -338,10 +540,10 @@ public class AiService {
                         .build();
             }
 
-            String jsonText = extractJson(text);
-            log.debug("추출된 채팅 JSON: {}", jsonText);
+            JsonNode parsed = response.getJson();
+            log.debug("추출된 채팅 JSON: {}", parsed);
             
-            if (jsonText == null || jsonText.isEmpty() || !jsonText.trim().startsWith("{")) {
+            if (parsed == null) {
                 log.warn("JSON 추출 실패. 원본 텍스트: {}", text);
                 // JSON이 없으면 일반 대화로 처리
                 return ChatResponse.builder()
@@ -351,8 +553,6 @@ public class AiService {
                         .build();
             }
             
-            JsonNode parsed = objectMapper.readTree(jsonText);
-            
             String message = parsed.path("message").asText("네, 말씀하세요!");
             String actionType = parsed.path("actionType").asText("CHAT");
             boolean hasTransaction = parsed.path("hasTransaction").asBoolean(false);
@@ -360,42 +560,7 @@ public class AiService {
             // 거래 데이터 파싱
             AiParseResponse transaction = null;
             if (hasTransaction && parsed.has("transaction") && !parsed.path("transaction").isNull()) {
-                JsonNode txNode = parsed.path("transaction");
-                String type = txNode.path("type").asText();
-                Long amount = txNode.path("amount").asLong();
-                String categoryName = txNode.path("categoryName").asText();
-                String memo = txNode.path("memo").asText("");
-                
-                TransactionType transactionType = "INCOME".equals(type) ? 
-                        TransactionType.INCOME : TransactionType.EXPENSE;
-                
-                Optional<Category> matchedCategory = categories.stream()
-                        .filter(c -> c.getName().equals(categoryName) && c.getType() == transactionType)
-                        .findFirst();
-
-                if (matchedCategory.isEmpty()) {
-                    matchedCategory = categories.stream()
-                            .filter(c -> c.getName().equals(categoryName))
-                            .findFirst();
-                }
-                
-                if (matchedCategory.isEmpty()) {
-                    final String searchName = categoryName;
-                    matchedCategory = categories.stream()
-                            .filter(c -> c.getName().contains(searchName) || searchName.contains(c.getName()))
-                            .filter(c -> c.getType() == transactionType)
-                            .findFirst();
-                }
-
-                transaction = AiParseResponse.builder()
-                        .success(true)
-                        .type(type)
-                        .amount(amount)
-                        .categoryName(categoryName)
-                        .categoryId(matchedCategory.map(Category::getId).orElse(null))
-                        .memo(memo)
-                        .confidence(0.9)
-                        .build();
+                transaction = toParseResponse(parsed.path("transaction"), categories);
             }
 
             // 카테고리 데이터 파싱
@@ -438,4 +603,11 @@ public class AiService {
                     .build();
         }
     }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class StreamedChat {
+        private final String text;   // 수신한 응답 텍스트
+        private final JsonNode json; // 추출된 JSON 객체 (없으면 null)
+    }
 }
@@ -8,27 +8,41 @@ import com.budgetbook.dto.auth.LoginRequest;
 import com.budgetbook.dto.auth.SignupRequest;
 import com.budgetbook.dto.auth.TokenResponse;
 import com.budgetbook.security.JwtTokenProvider;
+import com.budgetbook.security.LoginRateLimiter;
+import com.budgetbook.security.PasswordHashingService;
+import com.budgetbook.security.RefreshTokenStore;
+import com.budgetbook.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserIdentityCache userIdentityCache;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginRateLimiter loginRateLimiter;
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
 
+    /**
+     * 회원가입/로그인은 트랜잭션 없이 실행하고 DB 접근(조회, 저장, 재해싱)은 리포지토리 호출마다 짧은 트랜잭션으로 처리한다.
+     * 해싱 대기(최대 hashing-wait-timeout-ms) 동안 커넥션을 잡고 있으면 로그인 폭주 시 OLTP 풀이 고갈되어 쓰기 요청까지 막힌다.
+     */
     @SuppressWarnings("null")
-    public User signup(SignupRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public User signup(SignupRequest request, String clientIp) {
+        loginRateLimiter.checkSignup(clientIp);
+
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BusinessException("USER_002", "이미 등록된 이메일입니다");
         }
@@ -36,7 +50,7 @@ public class AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .age(request.getAge())
                 .role(UserRole.USER)
                 .build();
@@ -45,64 +59,109 @@ public class AuthService {
     }
 
     @SuppressWarnings("null")
-    public TokenResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BusinessException("AUTH_001", "이메일 또는 비밀번호가 올바르지 않습니다"));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenResponse login(LoginRequest request, String clientIp) {
+        loginRateLimiter.checkLogin(clientIp, request.getEmail());
+
+        Optional<User> foundUser = userRepository.findByEmail(request.getEmail());
+        if (foundUser.isEmpty()) {
+            // 해싱 없이 평균 검증 시간만큼 대기 (응답 시간으로 계정 존재 여부 노출 방지)
+            passwordHashingService.simulateMatches();
+            throw new BusinessException("AUTH_001", "이메일 또는 비밀번호가 올바르지 않습니다");
+        }
+        User user = foundUser.get();
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new BusinessException("AUTH_001", "이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
+        // 작업 계수 변경/알고리즘 전환 시 로그인 성공 시점에 투명하게 재해싱
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(request.getPassword()));
+            log.info("비밀번호 재해싱 - userId: {}", user.getId());
+        }
+
+        return issueTokens(user.getId(), user.getEmail());
+    }
+
+    // 새 토큰 패밀리(기기 세션) 시작
+    private TokenResponse issueTokens(Long userId, String email) {
+        String familyId = UUID.randomUUID().toString();
         String tokenId = UUID.randomUUID().toString();
-        String accessToken = tokenProvider.generateAccessToken(user.getId(), user.getEmail());
-        String refreshToken = tokenProvider.generateRefreshToken(user.getId(), tokenId);
+        String accessToken = tokenProvider.generateAccessToken(userId, email);
+        String refreshToken = tokenProvider.generateRefreshToken(userId, email, tokenId, familyId);
 
-        // Refresh Token을 Redis에 저장 (7일)
-        String refreshTokenKey = "refresh_token:" + user.getId() + ":" + tokenId;
-        redisTemplate.opsForValue().set(
-                refreshTokenKey,
-                refreshToken,
-                Duration.ofDays(7)
-        );
+        // Refresh Token 해시를 사용자별 저장소에 등록 (7일)
+        refreshTokenStore.save(userId, familyId, tokenId, refreshToken);
 
-        return TokenResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .tokenType("Bearer")
-                .expiresIn(3600L)
-                .build();
+        return buildTokenResponse(accessToken, refreshToken);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void logout(Long userId, String refreshToken) {
-        String tokenId = tokenProvider.getTokenIdFromToken(refreshToken);
-        String refreshTokenKey = "refresh_token:" + userId + ":" + tokenId;
-        redisTemplate.delete(refreshTokenKey);
+        // 이미 만료/위조된 토큰이면 폐기할 대상이 없음
+        tokenProvider.verify(refreshToken)
+                .filter(token -> userId.equals(token.getUserId()))
+                .ifPresent(token -> refreshTokenStore.revoke(userId,
+                        token.getFamilyId() != null ? token.getFamilyId() : token.getTokenId()));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logoutAll(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+    }
+
+    /**
+     * Refresh Token 교체 발급
+     * 사용자 정보는 토큰 클레임에서 가져오므로 DB를 조회하지 않고, Redis도 Lua 스크립트 한 번만 호출한다.
+     */
     @SuppressWarnings("null")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse refreshToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException("AUTH_002", "토큰이 만료되었습니다");
+        VerifiedToken token = tokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new BusinessException("AUTH_002", "토큰이 만료되었습니다"));
+        if (!"REFRESH".equals(token.getType()) || token.getTokenId() == null) {
+            throw new BusinessException("AUTH_001", "유효하지 않은 토큰입니다");
         }
 
-        Long userId = tokenProvider.getUserIdFromToken(refreshToken);
-        String tokenId = tokenProvider.getTokenIdFromToken(refreshToken);
-        String refreshTokenKey = "refresh_token:" + userId + ":" + tokenId;
+        if (token.getFamilyId() == null) {
+            return refreshLegacyToken(token, refreshToken);
+        }
 
-        // Redis에서 Refresh Token 확인
-        Object storedToken = redisTemplate.opsForValue().get(refreshTokenKey);
-        if (storedToken == null || !storedToken.equals(refreshToken)) {
+        String newTokenId = UUID.randomUUID().toString();
+        String newRefreshToken = tokenProvider.generateRefreshToken(
+                token.getUserId(), token.getEmail(), newTokenId, token.getFamilyId());
+
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(token.getUserId(),
+                token.getFamilyId(), token.getTokenId(), refreshToken, newTokenId, newRefreshToken);
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            log.warn("Refresh Token 재사용 감지 - 토큰 패밀리 폐기 - userId: {}, familyId: {}",
+                    token.getUserId(), token.getFamilyId());
+        }
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
             throw new BusinessException("AUTH_001", "유효하지 않은 토큰입니다");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("USER_001", "사용자를 찾을 수 없습니다"));
+        String newAccessToken = tokenProvider.generateAccessToken(token.getUserId(), token.getEmail());
+        return buildTokenResponse(newAccessToken, newRefreshToken);
+    }
 
-        // 새로운 Access Token 생성
-        String newAccessToken = tokenProvider.generateAccessToken(user.getId(), user.getEmail());
+    // 패밀리 도입 이전 토큰: 한 번 소비하고 새 패밀리로 전환 (email 클레임이 없으면 사용자 캐시에서 조회)
+    private TokenResponse refreshLegacyToken(VerifiedToken token, String refreshToken) {
+        if (!refreshTokenStore.consumeLegacy(token.getUserId(), token.getTokenId(), refreshToken)) {
+            throw new BusinessException("AUTH_001", "유효하지 않은 토큰입니다");
+        }
+
+        String email = token.getEmail();
+        if (email == null) {
+            email = userIdentityCache.get(token.getUserId()).getEmail();
+        }
+        return issueTokens(token.getUserId(), email);
+    }
 
+    private TokenResponse buildTokenResponse(String accessToken, String refreshToken) {
         return TokenResponse.builder()
-                .accessToken(newAccessToken)
+                .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .tokenType("Bearer")
                 .expiresIn(3600L)
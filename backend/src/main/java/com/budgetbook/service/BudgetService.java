@@ -0,0 +1,327 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.exception.BusinessException;
+import com.budgetbook.domain.budget.Budget;
+import com.budgetbook.domain.budget.BudgetAlertLevel;
+import com.budgetbook.domain.budget.BudgetPeriod;
+import com.budgetbook.domain.budget.BudgetRepository;
+import com.budgetbook.domain.budget.BudgetSpend;
+import com.budgetbook.domain.budget.BudgetSpendRepository;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.CategoryRepository;
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.transaction.Transaction;
+import com.budgetbook.domain.transaction.TransactionRepository;
+import com.budgetbook.dto.budget.BudgetAlertResponse;
+import com.budgetbook.dto.budget.BudgetCreateRequest;
+import com.budgetbook.dto.budget.BudgetResponse;
+import com.budgetbook.dto.budget.BudgetUpdateRequest;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 카테고리 예산과 주기별 지출 누계
+ * 누계(budget_spends)는 TransactionService가 거래를 저장하는 같은 트랜잭션에서 변화분만큼 증감하므로
+ * 거래 저장마다 월/주 집계를 다시 실행하지 않는다. 누계 행은 주기마다 처음 필요할 때 한 번만 집계로 만든다.
+ * 알림 단계는 누계 행에 함께 기록해 임계치를 새로 넘은 거래에서만 한 번 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BudgetService {
+
+    private static final int DEFAULT_ALERT_THRESHOLD = 80;
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetSpendRepository budgetSpendRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final CalendarBuckets calendarBuckets;
+    private final BudgetSpendMirror spendMirror;
+
+    /**
+     * 예산별 현재 주기 사용 현황 (누계는 Redis 사본 → 누계 행 → 집계 순으로 조회)
+     */
+    public List<BudgetResponse> getBudgets(Long userId) {
+        List<Budget> budgets = budgetRepository.findByUserIdWithCategory(userId);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BudgetSpendMirror.Entry> mirrored = spendMirror.read(userId);
+        LocalDate today = LocalDate.now();
+        List<BudgetResponse> responses = new ArrayList<>(budgets.size());
+        for (Budget budget : budgets) {
+            LocalDate periodStart = periodStart(budget.getPeriod(), today);
+            BudgetSpendMirror.Entry entry = mirrored.get(budget.getId());
+            BigDecimal spent = entry != null && entry.getPeriodStart().equals(periodStart)
+                    ? entry.getSpent()
+                    : currentSpent(userId, budget, periodStart);
+            responses.add(toResponse(budget, periodStart, spent));
+        }
+        return responses;
+    }
+
+    @Transactional
+    @SuppressWarnings("null")
+    public BudgetResponse createBudget(Long userId, BudgetCreateRequest request) {
+        Category category = categoryRepository.findByIdAndUserId(request.getCategoryId(), userId)
+                .orElseThrow(() -> new BusinessException("CATEGORY_001", "카테고리를 찾을 수 없습니다"));
+        if (category.getType() != TransactionType.EXPENSE) {
+            throw new BusinessException("BUDGET_002", "지출 카테고리에만 예산을 설정할 수 있습니다");
+        }
+        if (budgetRepository.existsByCategoryIdAndPeriod(category.getId(), request.getPeriod())) {
+            throw new BusinessException("BUDGET_003", "이미 같은 주기의 예산이 있는 카테고리입니다");
+        }
+
+        Budget budget = budgetRepository.save(Budget.builder()
+                .user(userIdentityCache.getReference(userId))
+                .category(category)
+                .period(request.getPeriod())
+                .amount(request.getAmount())
+                .alertThreshold(request.getAlertThreshold() != null
+                        ? request.getAlertThreshold() : DEFAULT_ALERT_THRESHOLD)
+                .build());
+
+        // 주기 중간에 만든 예산도 이미 있는 지출부터 누계
+        LocalDate periodStart = periodStart(budget.getPeriod(), LocalDate.now());
+        BudgetSpend spend = budgetSpendRepository.save(BudgetSpend.builder()
+                .budget(budget)
+                .periodStart(periodStart)
+                .spent(sumExpense(budget, periodStart))
+                .build());
+        spendMirror.write(userId, spend);
+
+        return toResponse(budget, periodStart, spend.getSpent());
+    }
+
+    @Transactional
+    public BudgetResponse updateBudget(Long userId, Long budgetId, BudgetUpdateRequest request) {
+        Budget budget = getOwnedBudget(userId, budgetId);
+        budget.update(request.getAmount(), request.getAlertThreshold());
+
+        // 예산 금액/기준이 바뀌면 현재 주기 알림 단계만 다시 계산 (누계는 그대로)
+        LocalDate periodStart = periodStart(budget.getPeriod(), LocalDate.now());
+        BigDecimal spent = budgetSpendRepository.findForUpdate(budgetId, periodStart)
+                .map(spend -> {
+                    spend.refreshAlertLevel();
+                    return spend.getSpent();
+                })
+                .orElseGet(() -> sumExpense(budget, periodStart));
+        return toResponse(budget, periodStart, spent);
+    }
+
+    @Transactional
+    public void deleteBudget(Long userId, Long budgetId) {
+        Budget budget = getOwnedBudget(userId, budgetId);
+        budgetSpendRepository.deleteByBudgetIdIn(List.of(budgetId));
+        budgetRepository.delete(budget);
+        spendMirror.remove(userId, List.of(budgetId));
+    }
+
+    /**
+     * 카테고리 삭제 전 해당 카테고리 예산 정리
+     */
+    @Transactional
+    public void deleteByCategory(Long userId, Long categoryId) {
+        List<Long> budgetIds = budgetRepository.findByCategoryId(categoryId).stream()
+                .map(Budget::getId)
+                .toList();
+        if (budgetIds.isEmpty()) {
+            return;
+        }
+        budgetSpendRepository.deleteByBudgetIdIn(budgetIds);
+        budgetRepository.deleteByCategoryId(categoryId);
+        spendMirror.remove(userId, budgetIds);
+    }
+
+    /**
+     * 거래 저장에 따른 누계 증감 (TransactionService의 거래 저장 직후, 같은 트랜잭션에서 호출)
+     * 수정 시 이전/이후 값이 같은 예산·주기에 속하면 차액만 한 번 반영한다.
+     * @param before 변경 전 거래 (생성이면 null)
+     * @param after  변경 후 거래 (삭제면 null)
+     * @return 이번 변경으로 새로 도달한 알림
+     */
+    @Transactional
+    public List<BudgetAlertResponse> applyTransactionChange(Long userId, ExpenseEntry before, ExpenseEntry after) {
+        return applyExpenseChanges(userId,
+                before != null ? List.of(before) : List.of(),
+                after != null ? List.of(after) : List.of());
+    }
+
+    /**
+     * 여러 거래의 누계 증감을 한 번에 반영 (정기 거래 일괄 생성 등)
+     * 같은 예산·주기에 속한 변화분은 합산해 누계 행을 한 번만 갱신한다.
+     */
+    @Transactional
+    public List<BudgetAlertResponse> applyExpenseChanges(Long userId, List<ExpenseEntry> removed, List<ExpenseEntry> added) {
+        // 예산 ID → 주기 시작일 → 변화분 (ID 순으로 잠가 교착을 피함)
+        Map<Long, Map<LocalDate, BigDecimal>> deltas = new TreeMap<>();
+        Map<Long, Budget> budgets = new HashMap<>();
+        Map<Long, List<Budget>> budgetsByCategory = new HashMap<>();
+        removed.forEach(entry -> collectDelta(entry, true, deltas, budgets, budgetsByCategory));
+        added.forEach(entry -> collectDelta(entry, false, deltas, budgets, budgetsByCategory));
+
+        List<BudgetAlertResponse> alerts = new ArrayList<>();
+        deltas.forEach((budgetId, periodDeltas) -> periodDeltas.forEach((periodStart, delta) -> {
+            if (delta.signum() != 0) {
+                applyDelta(userId, budgets.get(budgetId), periodStart, delta).ifPresent(alerts::add);
+            }
+        }));
+        return alerts;
+    }
+
+    private void collectDelta(ExpenseEntry entry, boolean reverse,
+                              Map<Long, Map<LocalDate, BigDecimal>> deltas,
+                              Map<Long, Budget> budgets,
+                              Map<Long, List<Budget>> budgetsByCategory) {
+        if (entry == null) {
+            return;
+        }
+        BigDecimal delta = reverse ? entry.getAmount().negate() : entry.getAmount();
+        for (Budget budget : budgetsByCategory.computeIfAbsent(entry.getCategoryId(), budgetRepository::findByCategoryId)) {
+            budgets.put(budget.getId(), budget);
+            deltas.computeIfAbsent(budget.getId(), id -> new TreeMap<>())
+                    .merge(periodStart(budget.getPeriod(), entry.getDate()), delta, BigDecimal::add);
+        }
+    }
+
+    private Optional<BudgetAlertResponse> applyDelta(Long userId, Budget budget, LocalDate periodStart, BigDecimal delta) {
+        BudgetAlertLevel raised;
+        BudgetSpend spend = budgetSpendRepository.findForUpdate(budget.getId(), periodStart).orElse(null);
+        if (spend != null) {
+            raised = spend.add(delta);
+        } else {
+            // 지난 주기는 누계를 새로 만들지 않음 (현황은 현재 주기만 제공)
+            if (periodStart.isBefore(periodStart(budget.getPeriod(), LocalDate.now()))) {
+                return Optional.empty();
+            }
+            // 같은 주기 누계 행 동시 생성 방지: 예산 행을 잠근 뒤 다시 확인
+            budgetRepository.findByIdForUpdate(budget.getId());
+            spend = budgetSpendRepository.findForUpdate(budget.getId(), periodStart).orElse(null);
+            if (spend != null) {
+                raised = spend.add(delta);
+            } else {
+                // 집계 쿼리 전에 거래 변경이 flush되므로 이번 변경까지 포함된 값으로 생성 (변화분을 따로 더하지 않음)
+                spend = budgetSpendRepository.save(BudgetSpend.builder()
+                        .budget(budget)
+                        .periodStart(periodStart)
+                        .spent(sumExpense(budget, periodStart))
+                        .build());
+                raised = delta.signum() > 0 && spend.getAlertLevel() != BudgetAlertLevel.NONE
+                        ? spend.getAlertLevel() : null;
+            }
+        }
+        spendMirror.write(userId, spend);
+
+        if (raised == null) {
+            return Optional.empty();
+        }
+        log.info("예산 알림 - userId: {}, budgetId: {}, 단계: {}, 누계: {}, 예산: {}",
+                userId, budget.getId(), raised, spend.getSpent(), budget.getAmount());
+        return Optional.of(BudgetAlertResponse.builder()
+                .budgetId(budget.getId())
+                .categoryId(budget.getCategory().getId())
+                .period(budget.getPeriod().name())
+                .periodStartDate(periodStart)
+                .amount(budget.getAmount())
+                .spent(spend.getSpent())
+                .alertLevel(raised.name())
+                .build());
+    }
+
+    private BigDecimal currentSpent(Long userId, Budget budget, LocalDate periodStart) {
+        Optional<BudgetSpend> spend = budgetSpendRepository.findByBudgetIdAndPeriodStart(budget.getId(), periodStart);
+        if (spend.isPresent()) {
+            spendMirror.write(userId, spend.get());
+            return spend.get().getSpent();
+        }
+        // 이번 주기 거래가 아직 없는 예산 (누계 행은 첫 거래 저장 시 생성)
+        return sumExpense(budget, periodStart);
+    }
+
+    private BigDecimal sumExpense(Budget budget, LocalDate periodStart) {
+        return transactionRepository.sumExpenseByCategoryId(budget.getCategory().getId(),
+                periodStart.atStartOfDay(), periodEnd(budget.getPeriod(), periodStart).plusDays(1).atStartOfDay());
+    }
+
+    private LocalDate periodStart(BudgetPeriod period, LocalDate date) {
+        if (period == BudgetPeriod.WEEKLY) {
+            return calendarBuckets.weekStartOfIndex(calendarBuckets.weekIndex(date));
+        }
+        return date.withDayOfMonth(1);
+    }
+
+    private LocalDate periodEnd(BudgetPeriod period, LocalDate periodStart) {
+        if (period == BudgetPeriod.WEEKLY) {
+            return periodStart.plusDays(6);
+        }
+        return periodStart.plusMonths(1).minusDays(1);
+    }
+
+    private Budget getOwnedBudget(Long userId, Long budgetId) {
+        return budgetRepository.findByIdAndUserId(budgetId, userId)
+                .orElseThrow(() -> new BusinessException("BUDGET_001", "예산을 찾을 수 없습니다"));
+    }
+
+    private BudgetResponse toResponse(Budget budget, LocalDate periodStart, BigDecimal spent) {
+        double usageRate = spent.multiply(BigDecimal.valueOf(100))
+                .divide(budget.getAmount(), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+        return BudgetResponse.builder()
+                .id(budget.getId())
+                .categoryId(budget.getCategory().getId())
+                .categoryName(budget.getCategory().getName())
+                .period(budget.getPeriod().name())
+                .amount(budget.getAmount())
+                .alertThreshold(budget.getAlertThreshold())
+                .periodStartDate(periodStart)
+                .periodEndDate(periodEnd(budget.getPeriod(), periodStart))
+                .spent(spent)
+                .remaining(budget.getAmount().subtract(spent))
+                .usageRate(usageRate)
+                .alertLevel(budget.alertLevelOf(spent).name())
+                .build();
+    }
+
+    /**
+     * 예산 누계에 반영할 지출 거래 값 (수정 전 값을 보존하기 위해 엔티티 대신 복사본을 넘김)
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ExpenseEntry {
+        private final Long categoryId;
+        private final LocalDate date;
+        private final BigDecimal amount;
+
+        // 수입 거래는 예산과 무관하므로 null
+        public static ExpenseEntry of(Transaction transaction) {
+            return of(transaction.getCategory().getId(), transaction.getType(),
+                    transaction.getTransactionDate().toLocalDate(), transaction.getAmount());
+        }
+
+        public static ExpenseEntry of(Long categoryId, TransactionType type, LocalDate date, BigDecimal amount) {
+            if (type != TransactionType.EXPENSE) {
+                return null;
+            }
+            return new ExpenseEntry(categoryId, date, amount);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.AfterCommit;
+import com.budgetbook.domain.budget.BudgetSpend;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예산 주기 누계의 Redis 사본
+ * - budget_spend:{userId}  Hash  budgetId → "주기 시작일|version|누계"
+ * DB 커밋 이후에만 기록하므로 롤백된 변경은 반영되지 않으며, 커밋 순서와 기록 순서가 달라도
+ * (주기 시작일, version)이 더 새로운 값만 덮어쓰도록 Lua 스크립트로 비교한다.
+ * 예산 현황 조회는 HGETALL 한 번으로 사용자 예산 전체의 누계를 얻고, 사본이 없거나 주기가 지난 항목만 DB로 조회한다.
+ */
+@Slf4j
+@Component
+public class BudgetSpendMirror {
+
+    private static final String KEY_PREFIX = "budget_spend:";
+    // 월 단위 주기보다 길게 유지 (활동이 없는 사용자의 키는 자연 만료)
+    private static final Duration TTL = Duration.ofDays(40);
+
+    // ARGV[1]=budgetId, ARGV[2]=periodStart, ARGV[3]=version, ARGV[4]=spent, ARGV[5]=ttl(ms)
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current then
+              local period, version = string.match(current, '^([^|]+)|([^|]+)|')
+              if period > ARGV[2] or (period == ARGV[2] and tonumber(version) >= tonumber(ARGV[3])) then
+                return 0
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3] .. '|' .. ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public BudgetSpendMirror(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 누계 기록 (트랜잭션 밖이면 즉시 기록)
+     */
+    public void write(Long userId, BudgetSpend spend) {
+        Long budgetId = spend.getBudget().getId();
+        AfterCommit.run(() -> writeNow(userId, budgetId, spend.getPeriodStart(), spend.getVersion(), spend.getSpent()));
+    }
+
+    public void remove(Long userId, Collection<Long> budgetIds) {
+        if (budgetIds.isEmpty()) {
+            return;
+        }
+        Object[] fields = budgetIds.stream().map(String::valueOf).toArray();
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.opsForHash().delete(key(userId), fields);
+            } catch (Exception e) {
+                log.warn("예산 누계 사본 삭제 실패 - userId: {}, {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 사용자 예산 누계 사본 전체 (Redis 장애 시 빈 맵 → DB 조회로 대체)
+     */
+    public Map<Long, Entry> read(Long userId) {
+        Map<Long, Entry> entries = new HashMap<>();
+        try {
+            Map<Object, Object> values = redisTemplate.opsForHash().entries(key(userId));
+            values.forEach((field, value) -> {
+                String[] parts = ((String) value).split("\\|");
+                entries.put(Long.valueOf((String) field), new Entry(
+                        LocalDate.parse(parts[0]), Long.parseLong(parts[1]), new BigDecimal(parts[2])));
+            });
+        } catch (Exception e) {
+            log.warn("예산 누계 사본 조회 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+        return entries;
+    }
+
+    private void writeNow(Long userId, Long budgetId, LocalDate periodStart, Long version, BigDecimal spent) {
+        try {
+            redisTemplate.execute(WRITE_SCRIPT, List.of(key(userId)),
+                    String.valueOf(budgetId), periodStart.toString(), String.valueOf(version),
+                    spent.toPlainString(), String.valueOf(TTL.toMillis()));
+        } catch (Exception e) {
+            // 갱신되지 못한 사본은 같은 예산의 다음 누계 변경 시 덮어써짐
+            log.warn("예산 누계 사본 저장 실패 - userId: {}, budgetId: {}, {}", userId, budgetId, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final LocalDate periodStart;
+        private final long version;
+        private final BigDecimal spent;
+    }
+}
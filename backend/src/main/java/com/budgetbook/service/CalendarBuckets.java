@@ -0,0 +1,182 @@
+package com.budgetbook.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.WeekFields;
+import java.util.Locale;
+
+/**
+ * 통계용 달력 구간 계산 (일/주/월 버킷)
+ * 주 정의는 설정(statistics.week-start)으로 정한다.
+ * - locale (기본값): JVM 기본 로케일의 주 정의 (기존 통계와 같은 결과, 파드 로케일에 따라 달라짐)
+ * - iso: 월요일 시작, 1월 4일이 포함된 주가 1주차 (ISO-8601)
+ * - sunday: 일요일 시작, 1월 1일이 포함된 주가 1주차
+ * iso/sunday로 바꾸면 기존 주간 통계 수치와 주간 예산 구간이 달라질 수 있다.
+ * 지원 연도 범위의 연도별 1주차 시작일과 월별 첫 주 시작일을 기동 시 미리 계산해 두므로
+ * 날짜 → 버킷 변환은 날짜 객체 생성이나 반복 없이 배열 조회와 나눗셈만으로 끝난다.
+ */
+@Component
+public class CalendarBuckets {
+
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2100;
+
+    // 연초/연말 주가 앞뒤 연도에 걸치므로 한 해씩 여유를 두고 계산
+    private static final int TABLE_MIN_YEAR = MIN_YEAR - 1;
+    private static final int TABLE_MAX_YEAR = MAX_YEAR + 1;
+
+    private final WeekFields weekFields;
+    private final DayOfWeek firstDayOfWeek;
+
+    // 주 번호 계산 기준 (테이블 첫 해 1주차 시작일)
+    private final long epochWeekOrigin;
+    // [연도 - TABLE_MIN_YEAR] → 해당 주 기준 연도 1주차 시작 epochDay
+    private final long[] weekOneStart;
+    // [(연도 - TABLE_MIN_YEAR) * 12 + 월 - 1] → 그 달 1일이 속한 주의 시작 epochDay
+    private final long[] monthFirstWeekStart;
+    // [(연도 - TABLE_MIN_YEAR) * 12 + 월 - 1] → 그 달 1일의 epochDay (마지막 원소는 테이블 다음 해 1월 1일)
+    private final long[] monthStart;
+
+    public CalendarBuckets(@Value("${statistics.week-start:locale}") String weekStart) {
+        this.weekFields = switch (weekStart.toLowerCase()) {
+            case "iso" -> WeekFields.ISO;
+            case "sunday" -> WeekFields.SUNDAY_START;
+            default -> WeekFields.of(Locale.getDefault());
+        };
+        this.firstDayOfWeek = weekFields.getFirstDayOfWeek();
+
+        int years = TABLE_MAX_YEAR - TABLE_MIN_YEAR + 1;
+        this.weekOneStart = new long[years + 1];
+        this.monthFirstWeekStart = new long[years * 12];
+        this.monthStart = new long[years * 12 + 1];
+
+        for (int i = 0; i <= years; i++) {
+            int year = TABLE_MIN_YEAR + i;
+            // 1월 (최소 일수)일은 항상 해당 연도 1주차에 속함 (ISO: 1월 4일, 일요일 시작: 1월 1일)
+            LocalDate inWeekOne = LocalDate.of(year, 1, weekFields.getMinimalDaysInFirstWeek());
+            weekOneStart[i] = startOfWeek(inWeekOne.toEpochDay(), inWeekOne.getDayOfWeek());
+        }
+        for (int i = 0; i < years * 12; i++) {
+            LocalDate first = LocalDate.of(TABLE_MIN_YEAR + i / 12, i % 12 + 1, 1);
+            monthStart[i] = first.toEpochDay();
+            monthFirstWeekStart[i] = startOfWeek(monthStart[i], first.getDayOfWeek());
+        }
+        monthStart[years * 12] = LocalDate.of(TABLE_MAX_YEAR + 1, 1, 1).toEpochDay();
+        this.epochWeekOrigin = weekOneStart[0];
+    }
+
+    public WeekFields getWeekFields() {
+        return weekFields;
+    }
+
+    /**
+     * 시작일 기준 일 버킷 (origin이 0)
+     */
+    public int dayIndex(LocalDateTime dateTime, LocalDate origin) {
+        return (int) (dateTime.toLocalDate().toEpochDay() - origin.toEpochDay());
+    }
+
+    /**
+     * 연속된 주 버킷 번호 (연도가 바뀌어도 이어지며, 두 날짜의 차이가 곧 주 수 차이)
+     */
+    public int weekIndex(LocalDate date) {
+        return (int) Math.floorDiv(date.toEpochDay() - epochWeekOrigin, 7);
+    }
+
+    public int weekIndex(LocalDateTime dateTime) {
+        return weekIndex(dateTime.toLocalDate());
+    }
+
+    /**
+     * weekIndex로 구한 주 버킷의 시작일
+     */
+    public LocalDate weekStartOfIndex(int weekIndex) {
+        return LocalDate.ofEpochDay(epochWeekOrigin + weekIndex * 7L);
+    }
+
+    /**
+     * 연속된 월 버킷 번호
+     */
+    public int monthIndex(LocalDateTime dateTime) {
+        return monthIndex(dateTime.getYear(), dateTime.getMonthValue());
+    }
+
+    public int monthIndex(int year, int month) {
+        return (year - TABLE_MIN_YEAR) * 12 + month - 1;
+    }
+
+    public LocalDate monthStartOfIndex(int monthIndex) {
+        return LocalDate.ofEpochDay(monthStart[monthIndex]);
+    }
+
+    /**
+     * 주 기준 연도의 n주차 시작일
+     * @throws IllegalArgumentException 지원 범위를 벗어나거나 해당 연도에 없는 주차
+     */
+    public LocalDate weekStart(int weekBasedYear, int week) {
+        int yearOffset = yearOffset(weekBasedYear);
+        if (week < 1 || week > weeksInYear(weekBasedYear)) {
+            throw new IllegalArgumentException(weekBasedYear + "년에는 " + week + "주차가 없습니다");
+        }
+        return LocalDate.ofEpochDay(weekOneStart[yearOffset] + (week - 1) * 7L);
+    }
+
+    /**
+     * 주 기준 연도의 주 수 (52 또는 53)
+     */
+    public int weeksInYear(int weekBasedYear) {
+        int yearOffset = yearOffset(weekBasedYear);
+        return (int) ((weekOneStart[yearOffset + 1] - weekOneStart[yearOffset]) / 7);
+    }
+
+    /**
+     * 월 안에서의 주 버킷 (0부터, 1일이 속한 주가 0)
+     */
+    public int weekOfMonthIndex(LocalDateTime dateTime) {
+        int monthIndex = monthIndex(dateTime);
+        return (int) ((dateTime.toLocalDate().toEpochDay() - monthFirstWeekStart[monthIndex]) / 7);
+    }
+
+    /**
+     * 월에 걸친 주 수 (첫 주/마지막 주가 일부만 포함되어도 한 주로 계산)
+     */
+    public int weeksInMonth(int year, int month) {
+        int monthIndex = monthIndex(year, month);
+        long lastDay = monthStart[monthIndex + 1] - 1;
+        return (int) ((lastDay - monthFirstWeekStart[monthIndex]) / 7) + 1;
+    }
+
+    /**
+     * 월의 n번째 주(0부터)를 월 경계로 자른 기간
+     */
+    public DateRange weekOfMonth(int year, int month, int weekOfMonthIndex) {
+        int monthIndex = monthIndex(year, month);
+        long start = Math.max(monthStart[monthIndex], monthFirstWeekStart[monthIndex] + weekOfMonthIndex * 7L);
+        long end = Math.min(monthStart[monthIndex + 1] - 1, monthFirstWeekStart[monthIndex] + weekOfMonthIndex * 7L + 6);
+        return new DateRange(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end));
+    }
+
+    private long startOfWeek(long epochDay, DayOfWeek dayOfWeek) {
+        return epochDay - Math.floorMod(dayOfWeek.getValue() - firstDayOfWeek.getValue(), 7);
+    }
+
+    private int yearOffset(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new IllegalArgumentException("지원하지 않는 연도입니다: " + year);
+        }
+        return year - TABLE_MIN_YEAR;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DateRange {
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+    }
+}
@@ -0,0 +1,190 @@
+package com.budgetbook.service;
+
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 카테고리 조회 인덱스 (AI 응답의 categoryName → 카테고리 매칭용)
+ * 1. 타입별 정확 일치 해시맵
+ * 2. 공백/기호/조사를 제거한 정규화 이름 해시맵
+ * 3. 문자 n-gram(1~2) 역색인 기반 유사도(Dice) 매칭
+ * 엔티티 대신 id/이름/타입만 보관하므로 요청 간에 안전하게 공유할 수 있다.
+ */
+public final class CategoryIndex {
+
+    private static final double EXACT_SCORE = 1.0;
+    private static final double NORMALIZED_SCORE = 0.95;
+    private static final double MIN_FUZZY_SCORE = 0.4;
+
+    // 이름 끝에 붙는 조사 (긴 것부터 검사)
+    private static final String[] PARTICLES = {
+            "에서", "으로", "은", "는", "이", "가", "을", "를", "에", "의", "도", "로"
+    };
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<TransactionType, List<String>> namesByType = new EnumMap<>(TransactionType.class);
+    private final Map<String, Entry> exactAnyType = new HashMap<>();
+    private final Map<TransactionType, Map<String, Entry>> exactByType = new EnumMap<>(TransactionType.class);
+    private final Map<String, Entry> normalizedAnyType = new HashMap<>();
+    private final Map<TransactionType, Map<String, Entry>> normalizedByType = new EnumMap<>(TransactionType.class);
+    private final Map<String, List<Entry>> gramIndex = new HashMap<>();
+
+    private CategoryIndex() {
+    }
+
+    public static CategoryIndex of(List<Category> categories) {
+        CategoryIndex index = new CategoryIndex();
+        for (Category category : categories) {
+            String normalizedName = normalize(category.getName());
+            index.add(new Entry(category.getId(), category.getName(), category.getType(),
+                    normalizedName, grams(normalizedName).size()));
+        }
+        return index;
+    }
+
+    private void add(Entry entry) {
+        entries.add(entry);
+        namesByType.computeIfAbsent(entry.getType(), t -> new ArrayList<>()).add(entry.getName());
+        exactAnyType.putIfAbsent(entry.getName(), entry);
+        exactByType.computeIfAbsent(entry.getType(), t -> new HashMap<>()).putIfAbsent(entry.getName(), entry);
+        if (!entry.getNormalizedName().isEmpty()) {
+            normalizedAnyType.putIfAbsent(entry.getNormalizedName(), entry);
+            normalizedByType.computeIfAbsent(entry.getType(), t -> new HashMap<>())
+                    .putIfAbsent(entry.getNormalizedName(), entry);
+        }
+        for (String gram : grams(entry.getNormalizedName())) {
+            gramIndex.computeIfAbsent(gram, g -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    /**
+     * 정확 일치(타입) → 정확 일치(이름만) → 정규화 일치(타입) → 정규화 일치(이름만) → n-gram 유사도(타입) 순으로 매칭
+     */
+    public Optional<Match> match(String categoryName, TransactionType type) {
+        if (categoryName == null || categoryName.isBlank()) {
+            return Optional.empty();
+        }
+
+        Entry entry = exactByType.getOrDefault(type, Map.of()).get(categoryName);
+        if (entry == null) {
+            entry = exactAnyType.get(categoryName);
+        }
+        if (entry != null) {
+            return Optional.of(new Match(entry.getId(), entry.getName(), EXACT_SCORE));
+        }
+
+        String normalized = normalize(categoryName);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        entry = normalizedByType.getOrDefault(type, Map.of()).get(normalized);
+        if (entry == null) {
+            entry = normalizedAnyType.get(normalized);
+        }
+        if (entry != null) {
+            return Optional.of(new Match(entry.getId(), entry.getName(), NORMALIZED_SCORE));
+        }
+
+        return fuzzyMatch(normalized, type);
+    }
+
+    private Optional<Match> fuzzyMatch(String normalized, TransactionType type) {
+        Set<String> queryGrams = grams(normalized);
+
+        // 후보별 공유 n-gram 개수 집계 (역색인에 걸린 카테고리만 검사)
+        Map<Entry, Integer> sharedCounts = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (Entry candidate : gramIndex.getOrDefault(gram, List.of())) {
+                if (candidate.getType() == type) {
+                    sharedCounts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        Entry best = null;
+        double bestScore = 0.0;
+        for (Map.Entry<Entry, Integer> candidate : sharedCounts.entrySet()) {
+            double score = 2.0 * candidate.getValue() / (queryGrams.size() + candidate.getKey().getGramCount());
+            if (score > bestScore) {
+                best = candidate.getKey();
+                bestScore = score;
+            }
+        }
+
+        if (best == null || bestScore < MIN_FUZZY_SCORE) {
+            return Optional.empty();
+        }
+        return Optional.of(new Match(best.getId(), best.getName(), bestScore));
+    }
+
+    /**
+     * 프롬프트 구성용 타입별 카테고리명 목록
+     */
+    public List<String> names(TransactionType type) {
+        return namesByType.getOrDefault(type, List.of());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static String normalize(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+
+        String normalized = builder.toString();
+        for (String particle : PARTICLES) {
+            if (normalized.length() > particle.length() + 1 && normalized.endsWith(particle)) {
+                return normalized.substring(0, normalized.length() - particle.length());
+            }
+        }
+        return normalized;
+    }
+
+    // 한글 카테고리명은 짧기 때문에 1-gram과 2-gram을 함께 사용
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final TransactionType type;
+        private final String normalizedName;
+        private final int gramCount;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Match {
+        private final Long categoryId;
+        private final String categoryName;
+        private final double score;
+    }
+}
@@ -0,0 +1,50 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.AfterCommit;
+import com.budgetbook.domain.category.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 CategoryIndex 로컬 캐시 (Caffeine, 최대 크기 초과 시 오래 쓰지 않은 사용자부터 제거)
+ * 카테고리 변경 시 CategoryService에서 evict하며, 다른 파드의 변경은 TTL 경과 후 반영된다.
+ */
+@Slf4j
+@Component
+public class CategoryIndexCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<Long, CategoryIndex> indexes;
+
+    public CategoryIndexCache(
+            CategoryRepository categoryRepository,
+            @Value("${ai.category-index.ttl:10m}") Duration ttl,
+            @Value("${ai.category-index.max-size:10000}") long maxSize) {
+        this.categoryRepository = categoryRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public CategoryIndex get(Long userId) {
+        return indexes.get(userId, id -> {
+            CategoryIndex index = CategoryIndex.of(categoryRepository.findByUserId(id));
+            log.debug("카테고리 인덱스 생성 - userId: {}, 카테고리 수: {}", id, index.size());
+            return index;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 제거 (커밋 전에 지우면 그 사이 조회가 변경 전 카테고리로 인덱스를 다시 만들 수 있음)
+     * 제거 시점에 생성 중인 인덱스가 있으면 생성이 끝난 뒤 함께 제거된다.
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> indexes.invalidate(userId));
+    }
+}
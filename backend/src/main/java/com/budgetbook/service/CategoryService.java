@@ -4,14 +4,13 @@ import com.budgetbook.common.exception.BusinessException;
 import com.budgetbook.domain.category.Category;
 import com.budgetbook.domain.category.CategoryRepository;
 import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.recurring.RecurringTransactionRepository;
 import com.budgetbook.domain.transaction.TransactionRepository;
 import com.budgetbook.domain.user.User;
-import com.budgetbook.domain.user.UserRepository;
 import com.budgetbook.dto.category.CategoryCreateRequest;
 import com.budgetbook.dto.category.CategoryResponse;
 import com.budgetbook.dto.category.CategoryUpdateRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,9 +25,13 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final CategoryIndexCache categoryIndexCache;
+    private final UserCacheGeneration userCacheGeneration;
+    private final BudgetService budgetService;
+    private final RecurringTransactionRepository recurringTransactionRepository;
 
-    @Cacheable(value = "categories", key = "#userId")
+    @Cacheable(value = "categories", key = "#userId + ':' + @userCacheGeneration.current(#userId, 'categories')")
     public List<CategoryResponse> getAllCategories(Long userId) {
         List<Category> categories = categoryRepository.findByUserId(userId);
         return categories.stream()
@@ -36,7 +39,7 @@ public class CategoryService {
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "categories", key = "#userId + ':' + #type")
+    @Cacheable(value = "categories", key = "#userId + ':' + @userCacheGeneration.current(#userId, 'categories') + ':' + #type")
     public List<CategoryResponse> getCategoriesByType(Long userId, TransactionType type) {
         List<Category> categories = categoryRepository.findByUserIdAndType(userId, type);
         return categories.stream()
@@ -45,11 +48,9 @@ public class CategoryService {
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     @SuppressWarnings("null")
     public CategoryResponse createCategory(Long userId, CategoryCreateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("USER_001", "사용자를 찾을 수 없습니다"));
+        User user = userIdentityCache.getReference(userId);
 
         Category category = Category.builder()
                 .user(user)
@@ -59,11 +60,12 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        categoryIndexCache.evict(userId);
+        userCacheGeneration.bump(userId, "categories");
         return toResponse(savedCategory);
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     @SuppressWarnings("null")
     public CategoryResponse updateCategory(Long userId, Long categoryId, CategoryUpdateRequest request) {
         Category category = categoryRepository.findByIdAndUserId(categoryId, userId)
@@ -71,22 +73,27 @@ public class CategoryService {
 
         category.update(request.getName(), request.getIcon());
         Category savedCategory = categoryRepository.save(category);
+        categoryIndexCache.evict(userId);
+        userCacheGeneration.bump(userId, "categories");
         return toResponse(savedCategory);
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     @SuppressWarnings("null")
     public void deleteCategory(Long userId, Long categoryId) {
         Category category = categoryRepository.findByIdAndUserId(categoryId, userId)
                 .orElseThrow(() -> new BusinessException("CATEGORY_001", "카테고리를 찾을 수 없습니다"));
 
-        // 사용 중인 거래 내역이 있는지 확인 (해당 사용자의 거래만 확인)
-        if (transactionRepository.existsByCategoryIdAndAccountUserId(categoryId, userId)) {
+        // 사용 중인 거래 내역/정기 거래가 있는지 확인 (해당 사용자의 거래만 확인)
+        if (transactionRepository.existsByCategoryIdAndAccountUserId(categoryId, userId)
+                || recurringTransactionRepository.existsByCategoryId(categoryId)) {
             throw new BusinessException("CATEGORY_002", "사용 중인 카테고리는 삭제할 수 없습니다");
         }
 
+        budgetService.deleteByCategory(userId, categoryId);
         categoryRepository.delete(category);
+        categoryIndexCache.evict(userId);
+        userCacheGeneration.bump(userId, "categories");
     }
 
     private CategoryResponse toResponse(Category category) {
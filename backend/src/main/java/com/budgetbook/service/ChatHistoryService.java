@@ -5,7 +5,6 @@ import com.budgetbook.domain.chat.ChatMessage;
 import com.budgetbook.domain.chat.ChatMessageRepository;
 import com.budgetbook.domain.chat.MessageRole;
 import com.budgetbook.domain.user.User;
-import com.budgetbook.domain.user.UserRepository;
 import com.budgetbook.dto.ai.AiParseResponse;
 import com.budgetbook.dto.ai.ChatResponse.AccountData;
 import com.budgetbook.dto.ai.ChatResponse.CategoryData;
@@ -28,7 +27,7 @@ import java.util.stream.Collectors;
 public class ChatHistoryService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
     private final ObjectMapper objectMapper;
 
     public List<ChatMessageDto> getChatHistory(Long userId) {
@@ -41,8 +40,7 @@ public class ChatHistoryService {
     @Transactional
     @SuppressWarnings("null")
     public ChatMessageDto saveMessage(Long userId, SaveMessageRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("USER_001", "사용자를 찾을 수 없습니다"));
+        User user = userIdentityCache.getReference(userId);
 
         MessageRole role;
         try {
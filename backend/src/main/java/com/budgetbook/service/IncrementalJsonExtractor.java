@@ -0,0 +1,156 @@
+package com.budgetbook.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * LLM 출력에서 첫 번째로 완성되는 최상위 JSON 객체(또는 배열)를 점진적으로 추출
+ * Jackson 논블로킹 파서에 청크 단위로 입력하므로 스트리밍 응답이 도착하는 즉시 파싱이 진행되고,
+ * 객체가 닫히는 순간 나머지 텍스트를 기다리지 않고 종료할 수 있다.
+ * 마크다운 코드 블록이나 앞뒤 잡담은 건너뛰며, 중괄호가 들어간 잡담 때문에 파싱이 실패하면
+ * 다음 시작 문자부터 다시 시도한다. 한 번의 응답에만 사용하며 스레드 안전하지 않다.
+ */
+public final class IncrementalJsonExtractor {
+
+    private final ObjectMapper objectMapper;
+    private final char startChar;
+    // 완성된 값을 결과로 채택할지 여부 (예: 잡담 속 "[0]" 같은 배열 배제)
+    private final Predicate<JsonNode> acceptor;
+
+    // 현재 후보(시작 문자부터 지금까지 입력된 텍스트), 파싱 실패 시 재시도용
+    private final StringBuilder candidate = new StringBuilder();
+    private JsonParser parser;
+    private TokenBuffer tokens;
+    private int depth;
+    private JsonNode result;
+
+    private IncrementalJsonExtractor(ObjectMapper objectMapper, char startChar, Predicate<JsonNode> acceptor) {
+        this.objectMapper = objectMapper;
+        this.startChar = startChar;
+        this.acceptor = acceptor;
+    }
+
+    public static IncrementalJsonExtractor forObject(ObjectMapper objectMapper) {
+        return new IncrementalJsonExtractor(objectMapper, '{', node -> true);
+    }
+
+    /**
+     * 객체 배열만 채택 (빈 배열 포함)
+     */
+    public static IncrementalJsonExtractor forArray(ObjectMapper objectMapper) {
+        return new IncrementalJsonExtractor(objectMapper, '[', node -> node.isEmpty() || node.get(0).isObject());
+    }
+
+    /**
+     * 전체 텍스트가 이미 있는 경우의 단발성 추출
+     */
+    public static Optional<JsonNode> extractObject(ObjectMapper objectMapper, String text) {
+        IncrementalJsonExtractor extractor = forObject(objectMapper);
+        extractor.feed(text);
+        return extractor.getResult();
+    }
+
+    public static Optional<JsonNode> extractArray(ObjectMapper objectMapper, String text) {
+        IncrementalJsonExtractor extractor = forArray(objectMapper);
+        extractor.feed(text);
+        return extractor.getResult();
+    }
+
+    /**
+     * 텍스트 청크 입력
+     * @return 최상위 JSON 값이 완성되었으면 true (이후 입력은 무시)
+     */
+    public boolean feed(String chunk) {
+        String pending = chunk;
+        while (result == null && pending != null && !pending.isEmpty()) {
+            pending = feedOnce(pending);
+        }
+        return result != null;
+    }
+
+    public boolean isComplete() {
+        return result != null;
+    }
+
+    public Optional<JsonNode> getResult() {
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * @return 현재 후보가 실패해 다시 스캔해야 하는 남은 텍스트 (없으면 null)
+     */
+    private String feedOnce(String chunk) {
+        if (parser == null) {
+            int start = chunk.indexOf(startChar);
+            if (start < 0) {
+                return null;
+            }
+            chunk = chunk.substring(start);
+            startCandidate();
+        }
+
+        candidate.append(chunk);
+        try {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                tokens.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd() && --depth == 0) {
+                    JsonNode value = objectMapper.readTree(tokens.asParser(objectMapper));
+                    if (!acceptor.test(value)) {
+                        return retryAfterStart();
+                    }
+                    result = value;
+                    closeCandidate();
+                    return null;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            // 잡담 속 중괄호 등으로 파싱 실패
+            return retryAfterStart();
+        }
+    }
+
+    // 실패한 후보의 시작 문자 다음부터 다시 탐색
+    private String retryAfterStart() {
+        String rest = candidate.substring(1);
+        closeCandidate();
+        return rest;
+    }
+
+    private void startCandidate() {
+        try {
+            parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("논블로킹 JSON 파서 생성 실패", e);
+        }
+        tokens = new TokenBuffer(parser);
+        depth = 0;
+        candidate.setLength(0);
+    }
+
+    private void closeCandidate() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // 메모리 버퍼만 사용하므로 무시
+        }
+        parser = null;
+        tokens = null;
+        candidate.setLength(0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.budgetbook.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정기 거래 발생분 생성 스케줄러
+ * 규칙을 계좌 ID 기준 파티션으로 나눠 파티션마다 스레드 하나가 배치를 반복 처리한다.
+ * 규칙 선점이 FOR UPDATE SKIP LOCKED라 여러 파드가 같은 시각에 실행해도 작업이 겹치지 않고 나눠진다.
+ * 실행을 놓치거나 잔액 부족으로 보류된 발생분은 다음 실행에서 이어서 생성된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "recurring.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class RecurringTransactionScheduler {
+
+    private final RecurringTransactionService recurringTransactionService;
+    private final int partitions;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public RecurringTransactionScheduler(
+            RecurringTransactionService recurringTransactionService,
+            @Value("${recurring.partitions:4}") int partitions,
+            @Value("${recurring.batch-size:200}") int batchSize) {
+        this.recurringTransactionService = recurringTransactionService;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "recurring-transaction-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(cron = "${recurring.cron:0 */10 * * * *}")
+    public void materializeDueTransactions() {
+        LocalDate today = LocalDate.now();
+        List<Future<Integer>> results = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            int target = partition;
+            results.add(executor.submit(() -> drainPartition(today, target)));
+        }
+
+        // 모든 파티션이 끝날 때까지 대기 (다음 실행과 겹치지 않도록)
+        int created = 0;
+        for (Future<Integer> result : results) {
+            try {
+                created += result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("정기 거래 파티션 처리 실패", e.getCause());
+            }
+        }
+        if (created > 0) {
+            log.info("정기 거래 생성 완료 - 기준일: {}, 거래 수: {}", today, created);
+        }
+    }
+
+    private int drainPartition(LocalDate today, int partition) {
+        long afterId = 0;
+        int created = 0;
+        while (true) {
+            RecurringTransactionService.BatchResult result;
+            try {
+                result = recurringTransactionService.materializeBatch(today, partition, partitions, afterId, batchSize);
+            } catch (Exception e) {
+                // 배치는 롤백되고 선점도 풀리므로 다음 실행에서 다시 시도
+                log.error("정기 거래 배치 실패 - partition: {}, afterId: {}", partition, afterId, e);
+                return created;
+            }
+            created += result.getCreated();
+            if (result.getClaimed() < batchSize) {
+                return created;
+            }
+            afterId = result.getLastId();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,312 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.exception.BusinessException;
+import com.budgetbook.config.Workload;
+import com.budgetbook.config.WorkloadClass;
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.account.AccountRepository;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.CategoryRepository;
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.recurring.RecurringTransaction;
+import com.budgetbook.domain.recurring.RecurringTransactionRepository;
+import com.budgetbook.domain.transaction.Transaction;
+import com.budgetbook.domain.transaction.TransactionBatchRepository;
+import com.budgetbook.dto.recurring.RecurringTransactionCreateRequest;
+import com.budgetbook.dto.recurring.RecurringTransactionResponse;
+import com.budgetbook.dto.recurring.RecurringTransactionUpdateRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정기 거래 규칙 관리와 발생분 일괄 생성
+ * 스케줄러가 파티션별로 materializeBatch를 반복 호출하며, 배치 하나가 트랜잭션 하나다.
+ * 배치 안에서 계좌 잔액은 계좌당 한 번, 잔액 이력은 계좌·일자당 한 번, 예산 누계는 예산·주기당 한 번만 갱신하고
+ * 거래는 JDBC 배치로 삽입한다. 캐시는 커밋 후 거래가 생긴 사용자의 계좌 캐시만 지운다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RecurringTransactionService {
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final AccountBalanceHistoryService balanceHistoryService;
+    private final BudgetService budgetService;
+    private final UserIdentityCache userIdentityCache;
+    private final UserCacheGeneration userCacheGeneration;
+    private final int maxCatchUp;
+
+    public RecurringTransactionService(
+            RecurringTransactionRepository recurringTransactionRepository,
+            AccountRepository accountRepository,
+            CategoryRepository categoryRepository,
+            TransactionBatchRepository transactionBatchRepository,
+            AccountBalanceHistoryService balanceHistoryService,
+            BudgetService budgetService,
+            UserIdentityCache userIdentityCache,
+            UserCacheGeneration userCacheGeneration,
+            @Value("${recurring.max-catch-up:12}") int maxCatchUp) {
+        this.recurringTransactionRepository = recurringTransactionRepository;
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.balanceHistoryService = balanceHistoryService;
+        this.budgetService = budgetService;
+        this.userIdentityCache = userIdentityCache;
+        this.userCacheGeneration = userCacheGeneration;
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    public List<RecurringTransactionResponse> getRecurringTransactions(Long userId) {
+        return recurringTransactionRepository.findByUserIdWithAccountAndCategory(userId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    @SuppressWarnings("null")
+    public RecurringTransactionResponse createRecurringTransaction(Long userId, RecurringTransactionCreateRequest request) {
+        Account account = accountRepository.findById(request.getAccountId())
+                .orElseThrow(() -> new BusinessException("ACCOUNT_001", "계좌를 찾을 수 없습니다"));
+        if (!account.isOwner(userId)) {
+            throw new BusinessException("ACCOUNT_002", "계좌 소유권이 없습니다");
+        }
+
+        Category category = categoryRepository.findByIdAndUserId(request.getCategoryId(), userId)
+                .orElseThrow(() -> new BusinessException("CATEGORY_001", "카테고리를 찾을 수 없습니다"));
+
+        LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now();
+        validateEndDate(startDate, request.getEndDate());
+
+        RecurringTransaction recurringTransaction = recurringTransactionRepository.save(RecurringTransaction.builder()
+                .user(userIdentityCache.getReference(userId))
+                .account(account)
+                .category(category)
+                .type(request.getType())
+                .amount(request.getAmount())
+                .memo(request.getMemo())
+                .dayOfMonth(request.getDayOfMonth())
+                .startDate(startDate)
+                .endDate(request.getEndDate())
+                .build());
+        return toResponse(recurringTransaction);
+    }
+
+    @Transactional
+    public RecurringTransactionResponse updateRecurringTransaction(Long userId, Long recurringTransactionId,
+                                                                   RecurringTransactionUpdateRequest request) {
+        RecurringTransaction recurringTransaction = getOwnedRecurringTransaction(userId, recurringTransactionId);
+        if (request.getEndDate() != null) {
+            validateEndDate(recurringTransaction.getStartDate(), request.getEndDate());
+        }
+
+        recurringTransaction.update(request.getAmount(), request.getMemo(),
+                request.getDayOfMonth(), request.getEndDate(), LocalDate.now());
+        if (Boolean.FALSE.equals(request.getActive())) {
+            recurringTransaction.deactivate();
+        } else if (Boolean.TRUE.equals(request.getActive()) || request.getEndDate() != null) {
+            recurringTransaction.activate();
+        }
+        return toResponse(recurringTransaction);
+    }
+
+    @Transactional
+    public void deleteRecurringTransaction(Long userId, Long recurringTransactionId) {
+        recurringTransactionRepository.delete(getOwnedRecurringTransaction(userId, recurringTransactionId));
+    }
+
+    /**
+     * 파티션의 발생일이 된 규칙을 최대 batchSize개 선점해 거래 생성
+     * 잔액이 부족한 지출은 건너뛰고 규칙을 그대로 두어 다음 실행에서 다시 시도한다 (급여 입금 후 생성 등).
+     * @param afterId 이번 실행에서 이미 처리한 마지막 규칙 ID (잔액 부족으로 남은 규칙을 같은 실행에서 반복하지 않음)
+     */
+    @Transactional
+    @Workload(WorkloadClass.ANALYTICS)
+    public BatchResult materializeBatch(LocalDate today, int partition, int partitions, long afterId, int batchSize) {
+        List<RecurringTransaction> rules = recurringTransactionRepository.claimDue(
+                today, partition, partitions, afterId, batchSize);
+        if (rules.isEmpty()) {
+            return new BatchResult(0, afterId, 0);
+        }
+        long lastId = rules.get(rules.size() - 1).getId();
+
+        Map<Long, List<RecurringTransaction>> rulesByAccount = rules.stream()
+                .collect(Collectors.groupingBy(rule -> rule.getAccount().getId(), LinkedHashMap::new, Collectors.toList()));
+        Map<Long, Account> accounts = accountRepository.findAllByIdForUpdate(rulesByAccount.keySet()).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        List<Transaction> transactions = new ArrayList<>();
+        Map<Long, List<BudgetService.ExpenseEntry>> expensesByUser = new HashMap<>();
+        Map<Account, TreeMap<LocalDate, BigDecimal>> dailyChanges = new LinkedHashMap<>();
+        Set<Long> affectedUserIds = new HashSet<>();
+
+        for (Map.Entry<Long, List<RecurringTransaction>> entry : rulesByAccount.entrySet()) {
+            Account account = accounts.get(entry.getKey());
+            List<Occurrence> occurrences = materializeAccount(account, entry.getValue(), today);
+            if (occurrences.isEmpty()) {
+                continue;
+            }
+
+            TreeMap<LocalDate, BigDecimal> changes = new TreeMap<>();
+            BigDecimal netChange = BigDecimal.ZERO;
+            for (Occurrence occurrence : occurrences) {
+                RecurringTransaction rule = occurrence.getRule();
+                BigDecimal signed = rule.getType() == TransactionType.INCOME ? rule.getAmount() : rule.getAmount().negate();
+                netChange = netChange.add(signed);
+                changes.merge(occurrence.getDate(), signed, BigDecimal::add);
+
+                transactions.add(Transaction.builder()
+                        .account(account)
+                        .category(rule.getCategory())
+                        .type(rule.getType())
+                        .amount(rule.getAmount())
+                        .memo(rule.getMemo())
+                        .transactionDate(occurrence.getDate().atStartOfDay())
+                        .build());
+
+                Long userId = rule.getUser().getId();
+                affectedUserIds.add(userId);
+                BudgetService.ExpenseEntry expense = BudgetService.ExpenseEntry.of(
+                        rule.getCategory().getId(), rule.getType(), occurrence.getDate(), rule.getAmount());
+                if (expense != null) {
+                    expensesByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(expense);
+                }
+            }
+
+            // 계좌 잔액은 배치당 한 번만 변경 (materializeAccount에서 잔액 부족분은 이미 제외됨)
+            account.updateBalance(account.getBalance().add(netChange));
+            dailyChanges.put(account, changes);
+        }
+
+        transactionBatchRepository.insertAll(transactions);
+
+        // 잔액 이력: 계좌·일자당 한 번 (재생성되면 이후 일자는 이미 반영됨)
+        dailyChanges.forEach((account, changes) -> {
+            for (Map.Entry<LocalDate, BigDecimal> change : changes.entrySet()) {
+                if (balanceHistoryService.applyChange(account, change.getKey(), change.getValue())) {
+                    break;
+                }
+            }
+        });
+        expensesByUser.forEach((userId, expenses) -> budgetService.applyExpenseChanges(userId, List.of(), expenses));
+
+        affectedUserIds.forEach(userId -> userCacheGeneration.bump(userId, "accounts"));
+        if (!transactions.isEmpty()) {
+            log.info("정기 거래 생성 - partition: {}, 규칙 수: {}, 거래 수: {}, 계좌 수: {}",
+                    partition, rules.size(), transactions.size(), dailyChanges.size());
+        }
+        return new BatchResult(rules.size(), lastId, transactions.size());
+    }
+
+    /**
+     * 계좌 하나의 발생분 결정 및 규칙 진행
+     * 수입을 먼저 더한 잔액으로 지출을 발생일 순으로 확인하며, 잔액이 부족한 규칙은 그 발생분부터 보류한다.
+     */
+    private List<Occurrence> materializeAccount(Account account, List<RecurringTransaction> rules, LocalDate today) {
+        List<Occurrence> incomes = new ArrayList<>();
+        List<Occurrence> expenses = new ArrayList<>();
+        for (RecurringTransaction rule : rules) {
+            // 밀린 발생분이 많아도 배치당 maxCatchUp개까지만 (나머지는 다음 실행에서 이어서 생성)
+            LocalDate date = rule.getNextRunDate();
+            for (int i = 0; i < maxCatchUp && !date.isAfter(today)
+                    && (rule.getEndDate() == null || !date.isAfter(rule.getEndDate())); i++) {
+                (rule.getType() == TransactionType.INCOME ? incomes : expenses).add(new Occurrence(rule, date));
+                date = rule.occurrenceAfter(date);
+            }
+        }
+
+        BigDecimal available = account.getBalance();
+        for (Occurrence income : incomes) {
+            available = available.add(income.getRule().getAmount());
+        }
+
+        List<Occurrence> accepted = new ArrayList<>(incomes);
+        Set<Long> heldRuleIds = new HashSet<>();
+        expenses.sort(Comparator.comparing(Occurrence::getDate).thenComparing(occurrence -> occurrence.getRule().getId()));
+        for (Occurrence expense : expenses) {
+            RecurringTransaction rule = expense.getRule();
+            if (heldRuleIds.contains(rule.getId())) {
+                continue;
+            }
+            if (available.compareTo(rule.getAmount()) < 0) {
+                heldRuleIds.add(rule.getId());
+                log.warn("정기 거래 보류 (계좌 잔액 부족) - ruleId: {}, accountId: {}, 발생일: {}",
+                        rule.getId(), account.getId(), expense.getDate());
+                continue;
+            }
+            available = available.subtract(rule.getAmount());
+            accepted.add(expense);
+        }
+
+        // 규칙별 발생분은 발생일 순서대로 채택되므로 채택 건수만큼 다음 발생일로 이동
+        accepted.forEach(occurrence -> occurrence.getRule().advance());
+        return accepted;
+    }
+
+    private void validateEndDate(LocalDate startDate, LocalDate endDate) {
+        if (endDate != null && endDate.isBefore(startDate)) {
+            throw new BusinessException("RECURRING_002", "종료일은 시작일 이후여야 합니다");
+        }
+    }
+
+    private RecurringTransaction getOwnedRecurringTransaction(Long userId, Long recurringTransactionId) {
+        return recurringTransactionRepository.findByIdAndUserId(recurringTransactionId, userId)
+                .orElseThrow(() -> new BusinessException("RECURRING_001", "정기 거래를 찾을 수 없습니다"));
+    }
+
+    private RecurringTransactionResponse toResponse(RecurringTransaction recurringTransaction) {
+        return RecurringTransactionResponse.builder()
+                .id(recurringTransaction.getId())
+                .accountId(recurringTransaction.getAccount().getId())
+                .accountAlias(recurringTransaction.getAccount().getAlias())
+                .categoryId(recurringTransaction.getCategory().getId())
+                .categoryName(recurringTransaction.getCategory().getName())
+                .type(recurringTransaction.getType().name())
+                .amount(recurringTransaction.getAmount())
+                .memo(recurringTransaction.getMemo())
+                .dayOfMonth(recurringTransaction.getDayOfMonth())
+                .startDate(recurringTransaction.getStartDate())
+                .endDate(recurringTransaction.getEndDate())
+                .nextRunDate(recurringTransaction.getNextRunDate())
+                .active(recurringTransaction.getActive())
+                .createdAt(recurringTransaction.getCreatedAt())
+                .updatedAt(recurringTransaction.getUpdatedAt())
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Occurrence {
+        private final RecurringTransaction rule;
+        private final LocalDate date;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BatchResult {
+        private final int claimed;
+        private final long lastId;
+        private final int created;
+    }
+}
@@ -1,9 +1,13 @@
 package com.budgetbook.service;
 
+import com.budgetbook.config.Workload;
+import com.budgetbook.config.WorkloadClass;
 import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.transaction.DailyCategoryTotal;
 import com.budgetbook.domain.transaction.Transaction;
 import com.budgetbook.domain.transaction.TransactionRepository;
 import com.budgetbook.dto.statistics.MonthlyStatisticsResponse;
+import com.budgetbook.dto.statistics.TrendStatisticsResponse;
 import com.budgetbook.dto.statistics.WeeklyStatisticsResponse;
 import com.budgetbook.dto.statistics.YearlyStatisticsResponse;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.WeekFields;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -24,10 +26,16 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Workload(WorkloadClass.ANALYTICS)
 public class StatisticsService {
 
     private final TransactionRepository transactionRepository;
+    private final CalendarBuckets calendarBuckets;
 
+    // 추이 통계 최대 구간 수 (월 단위 20년 / 주 단위 약 4.6년)
+    private static final int MAX_TREND_BUCKETS = 240;
+
+    @Transactional(readOnly = true, timeoutString = "${statistics.deadline.monthly:3}")
     public MonthlyStatisticsResponse getMonthlyStatistics(Long userId, int year, int month) {
         if (month < 1 || month > 12) {
             throw new com.budgetbook.common.exception.BusinessException("STATISTICS_001", "월은 1부터 12 사이의 값이어야 합니다");
@@ -42,16 +50,6 @@ public class StatisticsService {
         List<Transaction> transactions = transactionRepository.findByUserIdAndYearMonth(userId, startDate, endDate);
         log.debug("조회된 거래 내역 수: {}", transactions.size());
         
-        // 카테고리와 계좌 정보를 명시적으로 로드 (Lazy Loading 방지)
-        transactions.forEach(t -> {
-            try {
-                t.getCategory().getName(); // 카테고리 로드
-                t.getAccount().getAlias(); // 계좌 로드
-            } catch (Exception e) {
-                log.warn("거래 내역 로드 중 오류 발생 - transactionId: {}, error: {}", t.getId(), e.getMessage());
-            }
-        });
-
         BigDecimal totalIncome = transactions.stream()
                 .filter(t -> t.getType() == TransactionType.INCOME)
                 .map(Transaction::getAmount)
@@ -148,6 +146,7 @@ public class StatisticsService {
                 .build();
     }
 
+    @Transactional(readOnly = true, timeoutString = "${statistics.deadline.weekly:3}")
     public WeeklyStatisticsResponse getWeeklyStatistics(Long userId, int year, int week) {
         if (year < 1900 || year > 2100) {
             throw new com.budgetbook.common.exception.BusinessException("STATISTICS_002", "연도는 1900부터 2100 사이의 값이어야 합니다");
@@ -155,10 +154,12 @@ public class StatisticsService {
         if (week < 1 || week > 53) {
             throw new com.budgetbook.common.exception.BusinessException("STATISTICS_002", "주차는 1부터 53 사이의 값이어야 합니다");
         }
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
-        LocalDate startDate = LocalDate.of(year, 1, 1)
-                .with(weekFields.weekOfWeekBasedYear(), week)
-                .with(weekFields.dayOfWeek(), 1);
+        LocalDate startDate;
+        try {
+            startDate = calendarBuckets.weekStart(year, week);
+        } catch (IllegalArgumentException e) {
+            throw new com.budgetbook.common.exception.BusinessException("STATISTICS_002", "해당 연도에 없는 주차입니다");
+        }
         LocalDate endDate = startDate.plusDays(6);
         
         LocalDateTime startDateTime = startDate.atStartOfDay();
@@ -170,16 +171,6 @@ public class StatisticsService {
                 userId, startDateTime, endDateTime);
         log.debug("조회된 거래 내역 수: {}", transactions.size());
         
-        // 카테고리와 계좌 정보를 명시적으로 로드 (Lazy Loading 방지)
-        transactions.forEach(t -> {
-            try {
-                t.getCategory().getName(); // 카테고리 로드
-                t.getAccount().getAlias(); // 계좌 로드
-            } catch (Exception e) {
-                log.warn("거래 내역 로드 중 오류 발생 - transactionId: {}, error: {}", t.getId(), e.getMessage());
-            }
-        });
-
         BigDecimal totalIncome = transactions.stream()
                 .filter(t -> t.getType() == TransactionType.INCOME)
                 .map(Transaction::getAmount)
@@ -192,31 +183,25 @@ public class StatisticsService {
 
         BigDecimal balance = totalIncome.subtract(totalExpense);
 
-        // 일별 집계
-        Map<LocalDate, List<Transaction>> dailyTransactions = transactions.stream()
-                .collect(Collectors.groupingBy(t -> t.getTransactionDate().toLocalDate()));
-
-        List<WeeklyStatisticsResponse.DailyExpense> dailyExpenses = startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> {
-                    List<Transaction> dayTransactions = dailyTransactions.getOrDefault(date, List.of());
-                    BigDecimal dayIncome = dayTransactions.stream()
-                            .filter(t -> t.getType() == TransactionType.INCOME)
-                            .map(Transaction::getAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal dayExpense = dayTransactions.stream()
-                            .filter(t -> t.getType() == TransactionType.EXPENSE)
-                            .map(Transaction::getAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal dayBalance = dayIncome.subtract(dayExpense);
-
-                    return WeeklyStatisticsResponse.DailyExpense.builder()
-                            .date(date)
-                            .income(dayIncome)
-                            .expense(dayExpense)
-                            .balance(dayBalance)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 일별 집계 (거래 목록 한 번 순회)
+        PeriodTotals[] dailyTotals = PeriodTotals.array(7);
+        for (Transaction t : transactions) {
+            int day = calendarBuckets.dayIndex(t.getTransactionDate(), startDate);
+            if (day >= 0 && day < dailyTotals.length) {
+                dailyTotals[day].add(t);
+            }
+        }
+
+        List<WeeklyStatisticsResponse.DailyExpense> dailyExpenses = new java.util.ArrayList<>(dailyTotals.length);
+        for (int day = 0; day < dailyTotals.length; day++) {
+            PeriodTotals totals = dailyTotals[day];
+            dailyExpenses.add(WeeklyStatisticsResponse.DailyExpense.builder()
+                    .date(startDate.plusDays(day))
+                    .income(totals.income)
+                    .expense(totals.expense)
+                    .balance(totals.balance())
+                    .build());
+        }
 
         // 카테고리별 지출 집계
         List<WeeklyStatisticsResponse.CategoryAmount> categoryExpenseList = 
@@ -238,6 +223,7 @@ public class StatisticsService {
                 .build();
     }
 
+    @Transactional(readOnly = true, timeoutString = "${statistics.deadline.yearly:5}")
     public YearlyStatisticsResponse getYearlyStatistics(Long userId, int year) {
         if (year < 1900 || year > 2100) {
             throw new com.budgetbook.common.exception.BusinessException("STATISTICS_003", "연도는 1900부터 2100 사이의 값이어야 합니다");
@@ -249,16 +235,6 @@ public class StatisticsService {
         List<Transaction> transactions = transactionRepository.findByUserIdAndYear(userId, startDate, endDate);
         log.debug("조회된 거래 내역 수: {}", transactions.size());
         
-        // 카테고리와 계좌 정보를 명시적으로 로드 (Lazy Loading 방지)
-        transactions.forEach(t -> {
-            try {
-                t.getCategory().getName(); // 카테고리 로드
-                t.getAccount().getAlias(); // 계좌 로드
-            } catch (Exception e) {
-                log.warn("거래 내역 로드 중 오류 발생 - transactionId: {}, error: {}", t.getId(), e.getMessage());
-            }
-        });
-
         BigDecimal totalIncome = transactions.stream()
                 .filter(t -> t.getType() == TransactionType.INCOME)
                 .map(Transaction::getAmount)
@@ -271,31 +247,26 @@ public class StatisticsService {
 
         BigDecimal balance = totalIncome.subtract(totalExpense);
 
-        // 월별 집계
-        Map<Integer, List<Transaction>> monthlyTransactions = transactions.stream()
-                .collect(Collectors.groupingBy(t -> t.getTransactionDate().getMonthValue()));
-
-        List<YearlyStatisticsResponse.MonthlyExpense> monthlyExpenses = java.util.stream.IntStream.rangeClosed(1, 12)
-                .mapToObj(month -> {
-                    List<Transaction> monthTransactions = monthlyTransactions.getOrDefault(month, List.of());
-                    BigDecimal monthIncome = monthTransactions.stream()
-                            .filter(t -> t.getType() == TransactionType.INCOME)
-                            .map(Transaction::getAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal monthExpense = monthTransactions.stream()
-                            .filter(t -> t.getType() == TransactionType.EXPENSE)
-                            .map(Transaction::getAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal monthBalance = monthIncome.subtract(monthExpense);
-
-                    return YearlyStatisticsResponse.MonthlyExpense.builder()
-                            .month(month)
-                            .income(monthIncome)
-                            .expense(monthExpense)
-                            .balance(monthBalance)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 월별 집계 (거래 목록 한 번 순회)
+        int firstMonthIndex = calendarBuckets.monthIndex(year, 1);
+        PeriodTotals[] monthlyTotals = PeriodTotals.array(12);
+        for (Transaction t : transactions) {
+            int month = calendarBuckets.monthIndex(t.getTransactionDate()) - firstMonthIndex;
+            if (month >= 0 && month < monthlyTotals.length) {
+                monthlyTotals[month].add(t);
+            }
+        }
+
+        List<YearlyStatisticsResponse.MonthlyExpense> monthlyExpenses = new java.util.ArrayList<>(monthlyTotals.length);
+        for (int month = 0; month < monthlyTotals.length; month++) {
+            PeriodTotals totals = monthlyTotals[month];
+            monthlyExpenses.add(YearlyStatisticsResponse.MonthlyExpense.builder()
+                    .month(month + 1)
+                    .income(totals.income)
+                    .expense(totals.expense)
+                    .balance(totals.balance())
+                    .build());
+        }
 
         // 카테고리별 지출 집계
         List<YearlyStatisticsResponse.CategoryAmount> categoryExpenseList = 
@@ -316,60 +287,150 @@ public class StatisticsService {
                 .build();
     }
 
+    /**
+     * 기간 추이 통계 (월/주 단위 수입·지출·잔액, 카테고리별 시계열, 직전 구간 대비 증감, 이동 평균)
+     * 일자×카테고리 합계를 한 번의 집계 쿼리로 가져와 CalendarBuckets로 구간에 배분하고,
+     * 증감과 이동 평균은 구간을 한 번 순회하며 누적 합을 갱신해 계산한다.
+     */
+    @Transactional(readOnly = true, timeoutString = "${statistics.deadline.trend:8}")
+    public TrendStatisticsResponse getTrendStatistics(Long userId, LocalDate startDate, LocalDate endDate,
+                                                      String period, int movingAverageWindow) {
+        if (startDate.getYear() < CalendarBuckets.MIN_YEAR || endDate.getYear() > CalendarBuckets.MAX_YEAR) {
+            throw new com.budgetbook.common.exception.BusinessException("STATISTICS_004", "연도는 1900부터 2100 사이의 값이어야 합니다");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new com.budgetbook.common.exception.BusinessException("STATISTICS_004", "종료일은 시작일 이후여야 합니다");
+        }
+        if (movingAverageWindow < 1 || movingAverageWindow > 12) {
+            throw new com.budgetbook.common.exception.BusinessException("STATISTICS_004", "이동 평균 구간은 1부터 12 사이의 값이어야 합니다");
+        }
+        boolean weekly = "week".equalsIgnoreCase(period);
+        if (!weekly && !"month".equalsIgnoreCase(period)) {
+            throw new com.budgetbook.common.exception.BusinessException("STATISTICS_004", "기간 단위는 MONTH 또는 WEEK여야 합니다");
+        }
+
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        int firstBucket = weekly ? calendarBuckets.weekIndex(startDate) : calendarBuckets.monthIndex(startDateTime);
+        int lastBucket = weekly ? calendarBuckets.weekIndex(endDate) : calendarBuckets.monthIndex(endDate.atStartOfDay());
+        int bucketCount = lastBucket - firstBucket + 1;
+        if (bucketCount > MAX_TREND_BUCKETS) {
+            throw new com.budgetbook.common.exception.BusinessException("STATISTICS_004",
+                    "조회 구간은 최대 " + MAX_TREND_BUCKETS + "개까지 가능합니다");
+        }
+
+        List<DailyCategoryTotal> dailyTotals = transactionRepository.sumDailyByCategory(
+                userId, startDateTime, endDate.plusDays(1).atStartOfDay());
+        log.debug("추이 통계 조회 - userId: {}, {} ~ {}, period: {}, 집계 행 수: {}",
+                userId, startDate, endDate, period, dailyTotals.size());
+
+        PeriodTotals[] bucketTotals = PeriodTotals.array(bucketCount);
+        Map<String, CategorySeriesAccumulator> seriesByCategory = new java.util.LinkedHashMap<>();
+        for (DailyCategoryTotal daily : dailyTotals) {
+            LocalDateTime date = daily.getDate().atStartOfDay();
+            int bucket = (weekly ? calendarBuckets.weekIndex(date) : calendarBuckets.monthIndex(date)) - firstBucket;
+            bucketTotals[bucket].add(daily.getType(), daily.getAmount());
+            seriesByCategory.computeIfAbsent(daily.getCategoryId() + ":" + daily.getType(),
+                            key -> new CategorySeriesAccumulator(daily, bucketCount))
+                    .add(bucket, daily.getAmount());
+        }
+
+        // 한 번 순회하며 직전 구간 대비 증감과 이동 평균(윈도 합 갱신) 계산
+        List<TrendStatisticsResponse.TrendPoint> points = new java.util.ArrayList<>(bucketCount);
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        BigDecimal windowIncome = BigDecimal.ZERO;
+        BigDecimal windowExpense = BigDecimal.ZERO;
+        for (int i = 0; i < bucketCount; i++) {
+            PeriodTotals current = bucketTotals[i];
+            totalIncome = totalIncome.add(current.income);
+            totalExpense = totalExpense.add(current.expense);
+            windowIncome = windowIncome.add(current.income);
+            windowExpense = windowExpense.add(current.expense);
+            if (i >= movingAverageWindow) {
+                windowIncome = windowIncome.subtract(bucketTotals[i - movingAverageWindow].income);
+                windowExpense = windowExpense.subtract(bucketTotals[i - movingAverageWindow].expense);
+            }
+            BigDecimal windowSize = BigDecimal.valueOf(Math.min(i + 1, movingAverageWindow));
+            BigDecimal incomeAverage = windowIncome.divide(windowSize, 2, java.math.RoundingMode.HALF_UP);
+            BigDecimal expenseAverage = windowExpense.divide(windowSize, 2, java.math.RoundingMode.HALF_UP);
+
+            PeriodTotals previous = i > 0 ? bucketTotals[i - 1] : null;
+            CalendarBuckets.DateRange range = bucketRange(weekly, firstBucket + i, startDate, endDate);
+            points.add(TrendStatisticsResponse.TrendPoint.builder()
+                    .startDate(range.getStartDate())
+                    .endDate(range.getEndDate())
+                    .income(current.income)
+                    .expense(current.expense)
+                    .balance(current.balance())
+                    .incomeChange(previous != null ? current.income.subtract(previous.income) : null)
+                    .expenseChange(previous != null ? current.expense.subtract(previous.expense) : null)
+                    .balanceChange(previous != null ? current.balance().subtract(previous.balance()) : null)
+                    .expenseChangeRate(previous != null && previous.expense.compareTo(BigDecimal.ZERO) > 0
+                            ? current.expense.subtract(previous.expense)
+                                    .divide(previous.expense, 4, java.math.RoundingMode.HALF_UP)
+                                    .multiply(BigDecimal.valueOf(100))
+                                    .doubleValue()
+                            : null)
+                    .incomeMovingAverage(incomeAverage)
+                    .expenseMovingAverage(expenseAverage)
+                    .balanceMovingAverage(incomeAverage.subtract(expenseAverage))
+                    .build());
+        }
+
+        List<TrendStatisticsResponse.CategorySeries> categorySeries = seriesByCategory.values().stream()
+                .map(CategorySeriesAccumulator::toSeries)
+                .sorted((a, b) -> b.getTotal().compareTo(a.getTotal()))
+                .collect(Collectors.toList());
+
+        return TrendStatisticsResponse.builder()
+                .period(weekly ? "WEEK" : "MONTH")
+                .startDate(startDate)
+                .endDate(endDate)
+                .movingAverageWindow(movingAverageWindow)
+                .totalIncome(totalIncome)
+                .totalExpense(totalExpense)
+                .balance(totalIncome.subtract(totalExpense))
+                .points(points)
+                .categorySeries(categorySeries)
+                .build();
+    }
+
+    // 구간 버킷의 기간 (조회 범위 경계로 자름)
+    private CalendarBuckets.DateRange bucketRange(boolean weekly, int bucket, LocalDate startDate, LocalDate endDate) {
+        LocalDate bucketStart = weekly ? calendarBuckets.weekStartOfIndex(bucket) : calendarBuckets.monthStartOfIndex(bucket);
+        LocalDate bucketEnd = weekly ? bucketStart.plusDays(6) : bucketStart.plusMonths(1).minusDays(1);
+        return new CalendarBuckets.DateRange(
+                bucketStart.isBefore(startDate) ? startDate : bucketStart,
+                bucketEnd.isAfter(endDate) ? endDate : bucketEnd);
+    }
+
+    /**
+     * 월을 설정된 주 정의(statistics.week-start)로 나누고 월 경계로 자른 주별 합계
+     */
     private List<MonthlyStatisticsResponse.WeeklyExpense> calculateWeeklyExpenses(
             List<Transaction> transactions, int year, int month) {
-        LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
-        LocalDate lastDayOfMonth = firstDayOfMonth.plusMonths(1).minusDays(1);
-        
-        java.util.List<MonthlyStatisticsResponse.WeeklyExpense> weeklyExpenses = new java.util.ArrayList<>();
-        
-        // 월의 첫 주 시작일 계산 (월요일 기준)
-        LocalDate weekStart = firstDayOfMonth;
-        int weekNumber = 1;
-        
-        while (!weekStart.isAfter(lastDayOfMonth)) {
-            // 주의 끝 계산 (일요일 또는 월의 마지막 날)
-            LocalDate weekEnd = weekStart.plusDays(6);
-            if (weekEnd.isAfter(lastDayOfMonth)) {
-                weekEnd = lastDayOfMonth;
+        PeriodTotals[] weeklyTotals = PeriodTotals.array(calendarBuckets.weeksInMonth(year, month));
+        for (Transaction t : transactions) {
+            int week = calendarBuckets.weekOfMonthIndex(t.getTransactionDate());
+            if (week >= 0 && week < weeklyTotals.length) {
+                weeklyTotals[week].add(t);
             }
-            
-            final LocalDate finalWeekStart = weekStart;
-            final LocalDate finalWeekEnd = weekEnd;
-            
-            // 해당 주의 거래 필터링
-            List<Transaction> weekTransactions = transactions.stream()
-                    .filter(t -> {
-                        LocalDate txDate = t.getTransactionDate().toLocalDate();
-                        return !txDate.isBefore(finalWeekStart) && !txDate.isAfter(finalWeekEnd);
-                    })
-                    .collect(Collectors.toList());
-            
-            BigDecimal weekIncome = weekTransactions.stream()
-                    .filter(t -> t.getType() == TransactionType.INCOME)
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            BigDecimal weekExpense = weekTransactions.stream()
-                    .filter(t -> t.getType() == TransactionType.EXPENSE)
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            BigDecimal weekBalance = weekIncome.subtract(weekExpense);
-            
+        }
+
+        List<MonthlyStatisticsResponse.WeeklyExpense> weeklyExpenses = new java.util.ArrayList<>(weeklyTotals.length);
+        for (int week = 0; week < weeklyTotals.length; week++) {
+            CalendarBuckets.DateRange range = calendarBuckets.weekOfMonth(year, month, week);
+            PeriodTotals totals = weeklyTotals[week];
             weeklyExpenses.add(MonthlyStatisticsResponse.WeeklyExpense.builder()
-                    .week(weekNumber)
-                    .startDate(weekStart.toString())
-                    .endDate(weekEnd.toString())
-                    .income(weekIncome)
-                    .expense(weekExpense)
-                    .balance(weekBalance)
+                    .week(week + 1)
+                    .startDate(range.getStartDate().toString())
+                    .endDate(range.getEndDate().toString())
+                    .income(totals.income)
+                    .expense(totals.expense)
+                    .balance(totals.balance())
                     .build());
-            
-            weekStart = weekEnd.plusDays(1);
-            weekNumber++;
         }
-        
+
         return weeklyExpenses;
     }
 
@@ -444,4 +505,66 @@ public class StatisticsService {
                 .sorted((a, b) -> b.getAmount().compareTo(a.getAmount()))
                 .collect(Collectors.toList());
     }
+
+    // 카테고리 하나의 구간별 금액
+    private static final class CategorySeriesAccumulator {
+        private final Long categoryId;
+        private final String categoryName;
+        private final TransactionType type;
+        private final BigDecimal[] amounts;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        CategorySeriesAccumulator(DailyCategoryTotal first, int bucketCount) {
+            this.categoryId = first.getCategoryId();
+            this.categoryName = first.getCategoryName();
+            this.type = first.getType();
+            this.amounts = new BigDecimal[bucketCount];
+            java.util.Arrays.fill(amounts, BigDecimal.ZERO);
+        }
+
+        void add(int bucket, BigDecimal amount) {
+            amounts[bucket] = amounts[bucket].add(amount);
+            total = total.add(amount);
+        }
+
+        TrendStatisticsResponse.CategorySeries toSeries() {
+            return TrendStatisticsResponse.CategorySeries.builder()
+                    .categoryId(categoryId)
+                    .categoryName(categoryName)
+                    .type(type)
+                    .total(total)
+                    .amounts(List.of(amounts))
+                    .build();
+        }
+    }
+
+    // 기간 버킷 하나의 수입/지출 합계
+    private static final class PeriodTotals {
+        private BigDecimal income = BigDecimal.ZERO;
+        private BigDecimal expense = BigDecimal.ZERO;
+
+        static PeriodTotals[] array(int size) {
+            PeriodTotals[] totals = new PeriodTotals[size];
+            for (int i = 0; i < size; i++) {
+                totals[i] = new PeriodTotals();
+            }
+            return totals;
+        }
+
+        void add(Transaction t) {
+            add(t.getType(), t.getAmount());
+        }
+
+        void add(TransactionType type, BigDecimal amount) {
+            if (type == TransactionType.INCOME) {
+                income = income.add(amount);
+            } else if (type == TransactionType.EXPENSE) {
+                expense = expense.add(amount);
+            }
+        }
+
+        BigDecimal balance() {
+            return income.subtract(expense);
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.budgetbook.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 통계 응답의 마지막 성공 결과 (응답 기한 초과 시 대체 응답용)
+ * - statistics_snapshot:{userId}        Hash       "monthly:2024-5" 등 조회 조건 → {"asOf": 계산 시각, "data": 응답}
+ * - statistics_snapshot:{userId}:order  Sorted Set 조회 조건 → 저장 시각(ms), max-entries를 넘으면 오래된 조건부터 제거
+ * 추이 통계는 기간을 임의로 지정할 수 있으므로 사용자당 항목 수를 제한하고,
+ * 같은 조건은 refresh-interval 안에 다시 저장하지 않아(파드 로컬 기록) 통계 조회마다 큰 값을 쓰지 않는다.
+ * 거래 변경으로 무효화하지 않으므로 최신 결과가 아닐 수 있고, 대체 응답에는 계산 시각을 함께 알린다.
+ */
+@Slf4j
+@Component
+public class StatisticsSnapshotStore {
+
+    private static final String KEY_PREFIX = "statistics_snapshot:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    // KEYS[1]=hash, KEYS[2]=zset / ARGV[1]=조회 조건, ARGV[2]=값, ARGV[3]=now(ms), ARGV[4]=최대 항목 수, ARGV[5]=ttl(ms)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4])
+            if overflow > 0 then
+              local oldest = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+              redis.call('HDEL', KEYS[1], unpack(oldest))
+              redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1)
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            return math.max(overflow, 0)
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+
+    // 최근 저장한 (사용자, 조회 조건) - 항목이 있는 동안은 저장을 생략
+    private final Cache<String, Boolean> recentlySaved;
+
+    public StatisticsSnapshotStore(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${statistics.snapshot.max-entries:20}") int maxEntries,
+            @Value("${statistics.snapshot.refresh-interval:5m}") Duration refreshInterval) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.recentlySaved = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(refreshInterval)
+                .build();
+    }
+
+    public void save(Long userId, String query, Object response) {
+        String savedKey = userId + ":" + query;
+        if (recentlySaved.getIfPresent(savedKey) != null) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            String value = objectMapper.writeValueAsString(
+                    objectMapper.createObjectNode()
+                            .put("asOf", now.toString())
+                            .set("data", objectMapper.valueToTree(response)));
+            redisTemplate.execute(SAVE_SCRIPT, List.of(hashKey(userId), orderKey(userId)),
+                    query, value, String.valueOf(now.toEpochMilli()), String.valueOf(maxEntries),
+                    String.valueOf(TTL.toMillis()));
+            recentlySaved.put(savedKey, Boolean.TRUE);
+        } catch (Exception e) {
+            log.warn("통계 스냅샷 저장 실패 - userId: {}, query: {}, {}", userId, query, e.getMessage());
+        }
+    }
+
+    public <T> Optional<Snapshot<T>> find(Long userId, String query, Class<T> type) {
+        try {
+            Object value = redisTemplate.opsForHash().get(hashKey(userId), query);
+            if (value == null) {
+                return Optional.empty();
+            }
+            JsonNode node = objectMapper.readTree((String) value);
+            return Optional.of(new Snapshot<>(Instant.parse(node.get("asOf").asText()),
+                    objectMapper.treeToValue(node.get("data"), type)));
+        } catch (Exception e) {
+            log.warn("통계 스냅샷 조회 실패 - userId: {}, query: {}, {}", userId, query, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // {userId}는 Redis Cluster 해시 태그 (두 키를 같은 슬롯에 두어 Lua 스크립트로 함께 다룸)
+    private String hashKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String orderKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:order";
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot<T> {
+        private final Instant asOf;
+        private final T data;
+    }
+}
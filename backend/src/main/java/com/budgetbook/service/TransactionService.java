@@ -7,16 +7,24 @@ import com.budgetbook.domain.category.Category;
 import com.budgetbook.domain.category.CategoryRepository;
 import com.budgetbook.domain.category.TransactionType;
 import com.budgetbook.domain.transaction.Transaction;
+import com.budgetbook.domain.transaction.TransactionListItem;
 import com.budgetbook.domain.transaction.TransactionRepository;
+import com.budgetbook.domain.transaction.TransactionSearchCondition;
+import com.budgetbook.dto.budget.BudgetAlertResponse;
 import com.budgetbook.dto.transaction.TransactionCreateRequest;
+import com.budgetbook.dto.transaction.TransactionCursorResponse;
+import com.budgetbook.dto.transaction.TransactionFilterRequest;
 import com.budgetbook.dto.transaction.TransactionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +39,9 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
+    private final AccountBalanceHistoryService balanceHistoryService;
+    private final BudgetService budgetService;
+    private final UserCacheGeneration userCacheGeneration;
 
     public Page<TransactionResponse> getTransactions(Long userId, Long accountId, Pageable pageable) {
         Page<Transaction> transactions;
@@ -71,8 +82,59 @@ public class TransactionService {
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    /**
+     * 메모 검색 (검색어 필수, 나머지 필터는 getFilteredTransactions와 같음)
+     */
+    public TransactionCursorResponse searchTransactions(Long userId, TransactionFilterRequest request) {
+        if (request.getQ() == null || request.getQ().isBlank()) {
+            throw new BusinessException("TRANSACTION_003", "검색어는 필수입니다");
+        }
+        return getFilteredTransactions(userId, request);
+    }
+
+    /**
+     * 필터 조합 거래 목록 (계좌/카테고리 여러 개, 유형, 금액/기간 범위, 메모 검색어, 키셋 페이징)
+     * 한 행을 더 조회해 다음 페이지 유무를 판단하므로 COUNT 쿼리가 없다.
+     */
+    public TransactionCursorResponse getFilteredTransactions(Long userId, TransactionFilterRequest request) {
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BusinessException("TRANSACTION_003", "종료일은 시작일 이후여야 합니다");
+        }
+        if (request.getMinAmount() != null && request.getMaxAmount() != null
+                && request.getMaxAmount().compareTo(request.getMinAmount()) < 0) {
+            throw new BusinessException("TRANSACTION_003", "최대 금액은 최소 금액 이상이어야 합니다");
+        }
+
+        TransactionSearchCondition.TransactionSearchConditionBuilder condition = TransactionSearchCondition.builder()
+                .userId(userId)
+                .keyword(request.getQ() != null && !request.getQ().isBlank() ? request.getQ().trim() : null)
+                .startDate(request.getStartDate() != null ? request.getStartDate().atStartOfDay() : null)
+                .endDate(request.getEndDate() != null ? request.getEndDate().plusDays(1).atStartOfDay() : null)
+                .accountIds(request.getAccountIds())
+                .categoryIds(request.getCategoryIds())
+                .type(request.getType())
+                .minAmount(request.getMinAmount())
+                .maxAmount(request.getMaxAmount())
+                .limit(request.getSize() + 1);
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            decodeCursor(request.getCursor(), condition);
+        }
+
+        List<TransactionListItem> items = transactionRepository.search(condition.build());
+        boolean hasNext = items.size() > request.getSize();
+        if (hasNext) {
+            items = items.subList(0, request.getSize());
+        }
+
+        return TransactionCursorResponse.builder()
+                .transactions(items.stream().map(this::toResponse).collect(java.util.stream.Collectors.toList()))
+                .nextCursor(hasNext ? encodeCursor(items.get(items.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Transactional
-    @CacheEvict(value = {"statistics", "transactions", "accounts"}, allEntries = true)
     @SuppressWarnings("null")
     public TransactionResponse createTransaction(Long userId, TransactionCreateRequest request) {
         Account account = accountRepository.findById(request.getAccountId())
@@ -102,12 +164,17 @@ public class TransactionService {
 
         Transaction savedTransaction = transactionRepository.save(transaction);
         accountRepository.save(account); // 계좌 잔액 저장
+        userCacheGeneration.bump(userId, "accounts");
+        balanceHistoryService.applyChange(account, request.getTransactionDate().toLocalDate(),
+                signedAmount(request.getType(), request.getAmount()));
         log.info("계좌 잔액 저장 완료 - 계좌 ID: {}, 최종 잔액: {}", account.getId(), account.getBalance());
-        return toResponse(savedTransaction);
+
+        List<BudgetAlertResponse> budgetAlerts = budgetService.applyTransactionChange(
+                userId, null, BudgetService.ExpenseEntry.of(savedTransaction));
+        return toResponse(savedTransaction, budgetAlerts);
     }
 
     @Transactional
-    @CacheEvict(value = {"statistics", "transactions", "accounts"}, allEntries = true)
     @SuppressWarnings("null")
     public TransactionResponse updateTransaction(Long userId, Long transactionId, TransactionCreateRequest request) {
         Transaction transaction = transactionRepository.findById(transactionId)
@@ -121,6 +188,9 @@ public class TransactionService {
                 .orElseThrow(() -> new BusinessException("CATEGORY_001", "카테고리를 찾을 수 없습니다"));
 
         Account account = transaction.getAccount();
+        LocalDate previousDate = transaction.getTransactionDate().toLocalDate();
+        BigDecimal previousChange = signedAmount(transaction.getType(), transaction.getAmount());
+        BudgetService.ExpenseEntry previousExpense = BudgetService.ExpenseEntry.of(transaction);
         
         // 이전 거래 내역을 되돌림 (잔액 복구)
         reverseTransaction(account, transaction.getType(), transaction.getAmount());
@@ -134,11 +204,20 @@ public class TransactionService {
 
         Transaction savedTransaction = transactionRepository.save(transaction);
         accountRepository.save(account); // 계좌 잔액 저장
-        return toResponse(savedTransaction);
+        userCacheGeneration.bump(userId, "accounts");
+
+        // 잔액 이력: 이전 일자에서 빼고 새 일자에 더함 (일자가 같으면 차액만 반영됨)
+        if (!balanceHistoryService.applyChange(account, previousDate, previousChange.negate())) {
+            balanceHistoryService.applyChange(account, request.getTransactionDate().toLocalDate(),
+                    signedAmount(request.getType(), request.getAmount()));
+        }
+
+        List<BudgetAlertResponse> budgetAlerts = budgetService.applyTransactionChange(
+                userId, previousExpense, BudgetService.ExpenseEntry.of(savedTransaction));
+        return toResponse(savedTransaction, budgetAlerts);
     }
 
     @Transactional
-    @CacheEvict(value = {"statistics", "transactions", "accounts"}, allEntries = true)
     @SuppressWarnings("null")
     public void deleteTransaction(Long userId, Long transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId)
@@ -153,8 +232,20 @@ public class TransactionService {
         // 거래 내역을 되돌림 (잔액 복구)
         reverseTransaction(account, transaction.getType(), transaction.getAmount());
         
+        LocalDate transactionDate = transaction.getTransactionDate().toLocalDate();
+        BigDecimal change = signedAmount(transaction.getType(), transaction.getAmount());
+        BudgetService.ExpenseEntry expense = BudgetService.ExpenseEntry.of(transaction);
+
         transactionRepository.delete(transaction);
         accountRepository.save(account); // 계좌 잔액 저장
+        userCacheGeneration.bump(userId, "accounts");
+        balanceHistoryService.applyChange(account, transactionDate, change.negate());
+        budgetService.applyTransactionChange(userId, expense, null);
+    }
+
+    // 거래가 계좌 잔액에 주는 변화량 (수입 +, 지출 -)
+    private BigDecimal signedAmount(TransactionType type, BigDecimal amount) {
+        return type == TransactionType.INCOME ? amount : amount.negate();
     }
 
     private void updateAccountBalance(Account account, TransactionType type, BigDecimal amount) {
@@ -177,7 +268,45 @@ public class TransactionService {
         }
     }
 
+    // 커서: "거래일시|ID"를 Base64(URL-safe)로 인코딩 (클라이언트는 값을 해석하지 않고 그대로 전달)
+    private String encodeCursor(TransactionListItem item) {
+        String raw = item.getTransactionDate() + "|" + item.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void decodeCursor(String cursor, TransactionSearchCondition.TransactionSearchConditionBuilder condition) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            condition.cursorDate(LocalDateTime.parse(raw.substring(0, separator)))
+                    .cursorId(Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("TRANSACTION_003", "잘못된 커서입니다");
+        }
+    }
+
+    private TransactionResponse toResponse(TransactionListItem item) {
+        return TransactionResponse.builder()
+                .id(item.getId())
+                .accountId(item.getAccountId())
+                .accountAlias(item.getAccountAlias())
+                .accountBankName(item.getAccountBankName())
+                .type(item.getType().name())
+                .amount(item.getAmount())
+                .categoryId(item.getCategoryId())
+                .categoryName(item.getCategoryName())
+                .memo(item.getMemo())
+                .transactionDate(item.getTransactionDate())
+                .createdAt(item.getCreatedAt())
+                .updatedAt(item.getUpdatedAt())
+                .build();
+    }
+
     private TransactionResponse toResponse(Transaction transaction) {
+        return toResponse(transaction, null);
+    }
+
+    private TransactionResponse toResponse(Transaction transaction, List<BudgetAlertResponse> budgetAlerts) {
         return TransactionResponse.builder()
                 .id(transaction.getId())
                 .accountId(transaction.getAccount().getId())
@@ -191,6 +320,7 @@ public class TransactionService {
                 .transactionDate(transaction.getTransactionDate())
                 .createdAt(transaction.getCreatedAt())
                 .updatedAt(transaction.getUpdatedAt())
+                .budgetAlerts(budgetAlerts)
                 .build();
     }
 }
@@ -0,0 +1,67 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 캐시 세대 번호 (accounts, categories 캐시 키의 네임스페이스)
+ * - cache_generation:{userId}  Hash  캐시 이름 → 세대 번호
+ * 캐시 키에 세대 번호를 포함하고(@userCacheGeneration.current(#userId, 'accounts')), 변경 시 번호만 올려
+ * 해당 사용자의 파생 키(은행별, 유형별 목록 등)를 한 번에 무효화한다. 이전 세대 항목은 캐시 TTL(10분)로 자연 만료.
+ * 세대 키 TTL은 캐시 TTL보다 길어야 한다 (만료되어 0부터 다시 시작해도 같은 세대의 옛 항목이 남아 있지 않도록).
+ */
+@Slf4j
+@Component
+public class UserCacheGeneration {
+
+    private static final String KEY_PREFIX = "cache_generation:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    // ARGV[1]=캐시 이름, ARGV[2]=ttl(ms)
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return generation
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public UserCacheGeneration(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 캐시 키에 넣을 현재 세대 번호 (기록이 없으면 0)
+     * Redis 장애 시 예외를 그대로 전달한다 (임의의 세대로 대체하면 무효화된 항목을 다시 읽을 수 있음).
+     */
+    public long current(Long userId, String cacheName) {
+        Object generation = redisTemplate.opsForHash().get(key(userId), cacheName);
+        return generation != null ? Long.parseLong((String) generation) : 0L;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 세대 번호 증가 (트랜잭션 밖이면 즉시)
+     * 커밋 전에 올리면 그 사이 조회가 변경 전 데이터를 새 세대로 캐시할 수 있으므로 커밋 이후에 올린다.
+     */
+    public void bump(Long userId, String cacheName) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.execute(BUMP_SCRIPT, List.of(key(userId)), cacheName, String.valueOf(TTL.toMillis()));
+            } catch (Exception e) {
+                // 올리지 못하면 이전 세대 항목이 캐시 TTL 동안 남음
+                log.warn("캐시 세대 갱신 실패 - userId: {}, cache: {}, {}", userId, cacheName, e.getMessage());
+            }
+        });
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.budgetbook.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 보관하는 사용자 식별 정보 (존재 확인과 토큰 발급에 필요한 값만)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIdentity {
+    private Long id;
+    private String email;
+    private String name;
+}
@@ -0,0 +1,124 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.AfterCommit;
+import com.budgetbook.common.exception.BusinessException;
+import com.budgetbook.domain.user.User;
+import com.budgetbook.domain.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 식별 정보 2단계 캐시 (L1: 파드 로컬 Caffeine, L2: Redis)
+ * 쓰기 경로에서 외래 키만 필요할 때 사용자 존재를 캐시로 확인하고 getReferenceById 프록시를 넘겨
+ * users 테이블 조회를 생략한다. 사용자 정보 변경 시 UserService에서 evict하며(커밋 후 제거),
+ * 다른 파드의 L1은 local-ttl 경과 후 반영된다.
+ * Redis 값은 UserIdentity JSON 문자열 (공용 RedisTemplate의 JSON 직렬화는 타입 정보가 없어 Map으로 읽히므로 사용하지 않음)
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    private static final String KEY_PREFIX = "user_identity:";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, UserIdentity> localCache;
+    private final Duration redisTtl;
+
+    public UserIdentityCache(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${user-identity-cache.local-ttl:1m}") Duration localTtl,
+            @Value("${user-identity-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${user-identity-cache.redis-ttl:30m}") Duration redisTtl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * L1 → Redis → DB 순으로 조회 (존재하지 않는 사용자는 캐시하지 않음)
+     */
+    public Optional<UserIdentity> find(Long userId) {
+        UserIdentity identity = localCache.getIfPresent(userId);
+        if (identity != null) {
+            return Optional.of(identity);
+        }
+
+        identity = readRedis(userId);
+        if (identity == null) {
+            identity = userRepository.findById(userId)
+                    .map(user -> new UserIdentity(user.getId(), user.getEmail(), user.getName()))
+                    .orElse(null);
+            if (identity == null) {
+                return Optional.empty();
+            }
+            writeRedis(identity);
+        }
+
+        localCache.put(userId, identity);
+        return Optional.of(identity);
+    }
+
+    public UserIdentity get(Long userId) {
+        return find(userId)
+                .orElseThrow(() -> new BusinessException("USER_001", "사용자를 찾을 수 없습니다"));
+    }
+
+    /**
+     * 외래 키 연결용 User 프록시 (존재 확인은 캐시로, 실제 조회는 프록시 초기화 시점까지 미룸)
+     */
+    public User getReference(Long userId) {
+        get(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 L1/Redis 제거 (커밋 전에 지우면 그 사이 조회가 변경 전 사용자로 두 단계를 다시 채울 수 있음)
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> {
+            localCache.invalidate(userId);
+            try {
+                redisTemplate.delete(KEY_PREFIX + userId);
+            } catch (Exception e) {
+                log.warn("사용자 캐시 삭제 실패 - userId: {}, {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    private UserIdentity readRedis(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            return cached != null ? objectMapper.readValue(cached, UserIdentity.class) : null;
+        } catch (Exception e) {
+            // Redis 장애 시 DB 조회로 대체
+            log.warn("사용자 캐시 조회 실패 - userId: {}, {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(UserIdentity identity) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + identity.getId(),
+                    objectMapper.writeValueAsString(identity), redisTtl);
+        } catch (Exception e) {
+            log.warn("사용자 캐시 저장 실패 - userId: {}, {}", identity.getId(), e.getMessage());
+        }
+    }
+}
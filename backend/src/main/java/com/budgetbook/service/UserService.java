@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
 
     @Cacheable(value = "user", key = "#userId")
     @SuppressWarnings("null")
@@ -49,6 +50,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        userIdentityCache.evict(userId);
 
         return UserResponse.builder()
                 .id(savedUser.getId())
@@ -0,0 +1,8 @@
+-- 카테고리 필터 + 기간/최신순 정렬용 복합 인덱스 (GET /transactions/filter, 예산 누계 초기 집계)
+-- 계좌 필터는 기존 idx_transactions_account_date (account_id, transaction_date)를 사용한다.
+CREATE INDEX IF NOT EXISTS idx_transactions_category_date ON transactions(category_id, transaction_date);
+
+-- 복합 인덱스의 선두 컬럼과 같은 단일 컬럼 인덱스는 중복이며, 남겨 두면 플래너가 두 단일 인덱스의 BitmapAnd를 골라
+-- 기간/정렬 조건을 인덱스로 처리하지 못한다. (account_id/category_id 단독 조건과 외래 키 검사는 복합 인덱스로 처리됨)
+DROP INDEX IF EXISTS idx_transactions_category_id;
+DROP INDEX IF EXISTS idx_transactions_account_id;
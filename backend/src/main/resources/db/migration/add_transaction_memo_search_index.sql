@@ -0,0 +1,8 @@
+-- 거래 메모 부분 일치 검색용 trigram 인덱스 (GET /transactions/search, memo ILIKE '%검색어%')
+-- 한국어는 조사가 붙은 형태("스타벅스에서")로 저장되므로 단어 단위 tsvector 대신 글자 trigram으로 검색한다.
+-- 한글이 trigram 대상 문자로 분류되려면 DB LC_CTYPE이 UTF-8 로케일이어야 한다 (C 로케일이면 인덱스가 한글을 무시).
+-- 두 글자 이하 검색어는 trigram이 없어 인덱스 대신 사용자/기간 조건으로 좁힌 뒤 필터링된다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_transactions_memo_trgm
+    ON transactions USING gin (memo gin_trgm_ops);
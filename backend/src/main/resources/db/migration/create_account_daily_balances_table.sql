@@ -0,0 +1,29 @@
+-- 계좌 일별 잔액 스냅샷 테이블 (거래가 있었던 날만 저장)
+CREATE TABLE IF NOT EXISTS account_daily_balances (
+    id BIGSERIAL PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    balance_date DATE NOT NULL,
+    net_change DECIMAL(15, 2) NOT NULL,      -- 해당 일자 잔액 변화 (수입 - 지출)
+    closing_balance DECIMAL(15, 2) NOT NULL, -- 해당 일자 마지막 시점 잔액
+    CONSTRAINT fk_account_daily_balances_account FOREIGN KEY (account_id)
+        REFERENCES accounts(id) ON DELETE CASCADE,
+    CONSTRAINT uk_account_daily_balances_account_date UNIQUE (account_id, balance_date)
+);
+
+-- 기존 거래 내역으로 스냅샷 생성
+-- 일자별 잔액 = 현재 잔액 - 전체 변화 합계 + 해당 일자까지의 누적 변화
+INSERT INTO account_daily_balances (account_id, balance_date, net_change, closing_balance)
+SELECT d.account_id,
+       d.balance_date,
+       d.net_change,
+       a.balance - SUM(d.net_change) OVER (PARTITION BY d.account_id)
+                 + SUM(d.net_change) OVER (PARTITION BY d.account_id ORDER BY d.balance_date)
+FROM (
+    SELECT t.account_id,
+           CAST(t.transaction_date AS DATE) AS balance_date,
+           SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END) AS net_change
+    FROM transactions t
+    GROUP BY t.account_id, CAST(t.transaction_date AS DATE)
+) d
+JOIN accounts a ON a.id = d.account_id
+ON CONFLICT (account_id, balance_date) DO NOTHING;
@@ -0,0 +1,31 @@
+-- 카테고리 예산 테이블 (지출 카테고리, 주기당 하나)
+CREATE TABLE IF NOT EXISTS budgets (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    period VARCHAR(20) NOT NULL,         -- 'WEEKLY' or 'MONTHLY'
+    amount DECIMAL(15, 2) NOT NULL,
+    alert_threshold INTEGER NOT NULL,    -- 경고 알림 기준 (사용률 %)
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_budgets_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_budgets_category FOREIGN KEY (category_id)
+        REFERENCES categories(id) ON DELETE CASCADE,
+    CONSTRAINT uk_budgets_category_period UNIQUE (category_id, period)
+);
+
+CREATE INDEX IF NOT EXISTS idx_budgets_user_id ON budgets(user_id);
+
+-- 예산 주기별 지출 누계 (거래 저장 시 변화분만큼 증감, 주기 첫 사용 시 집계로 생성)
+CREATE TABLE IF NOT EXISTS budget_spends (
+    id BIGSERIAL PRIMARY KEY,
+    budget_id BIGINT NOT NULL,
+    period_start DATE NOT NULL,
+    spent DECIMAL(15, 2) NOT NULL,
+    alert_level VARCHAR(20) NOT NULL,    -- 마지막으로 알린 단계: 'NONE', 'WARNING', 'EXCEEDED'
+    version BIGINT NOT NULL DEFAULT 0,   -- 갱신마다 증가 (Redis 사본 최신 여부 비교용)
+    CONSTRAINT fk_budget_spends_budget FOREIGN KEY (budget_id)
+        REFERENCES budgets(id) ON DELETE CASCADE,
+    CONSTRAINT uk_budget_spends_budget_period UNIQUE (budget_id, period_start)
+);
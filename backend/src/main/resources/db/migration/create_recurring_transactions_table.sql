@@ -0,0 +1,26 @@
+-- 정기 거래 규칙 테이블 (매월 dayOfMonth일 발생, 없는 날짜는 말일)
+CREATE TABLE IF NOT EXISTS recurring_transactions (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,           -- 'INCOME' or 'EXPENSE'
+    amount DECIMAL(15, 2) NOT NULL,
+    memo TEXT,
+    day_of_month INTEGER NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    next_run_date DATE NOT NULL,         -- 아직 생성하지 않은 가장 이른 발생일
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_recurring_transactions_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_transactions_account FOREIGN KEY (account_id)
+        REFERENCES accounts(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_transactions_category FOREIGN KEY (category_id)
+        REFERENCES categories(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_recurring_transactions_user_id ON recurring_transactions(user_id);
+CREATE INDEX IF NOT EXISTS idx_recurring_transactions_due ON recurring_transactions(active, next_run_date);
@@ -0,0 +1,165 @@
+package com.budgetbook.config;
+
+import com.budgetbook.support.StubOllamaServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquirePendingLimitException;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquireTimeoutException;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Ollama 전용 HTTP 클라이언트 한도 (스텁 서버 대상)
+ * - 커넥션 2개 + 대기열 2개로 줄여 풀 포화, 대기 시간 초과, 대기열 초과, 응답 크기 제한을 확인
+ * - 응답 지연 스텁에 동시 요청을 보내 처리량/지연 시간이 커넥션 풀 크기에 맞게 나오는지 확인
+ * 애플리케이션 전체 경로의 부하는 loadtest 모듈(stub-ollama --latency/--jitter)로 측정한다.
+ */
+@Slf4j
+class OllamaConfigTest {
+
+    private static final Duration STUB_LATENCY = Duration.ofMillis(100);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private StubOllamaServer ollama;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (ollama != null) {
+            ollama.close();
+        }
+    }
+
+    @Test
+    void pendingAcquireTimesOutAndOverflowIsRejectedWhenPoolIsSaturated() {
+        // release 전까지 응답하지 않아 커넥션을 계속 점유
+        ollama = StubOllamaServer.start((request, response) -> Mono.fromRunnable(this::awaitRelease)
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.from(StubOllamaServer.sendJson(response, StubOllamaServer.generateBody("{}")))));
+
+        contextRunner().run(context -> {
+            WebClient webClient = context.getBean("ollamaWebClient", WebClient.class);
+
+            // 2개는 커넥션 점유, 2개는 대기열, 나머지 1개는 대기열 초과
+            List<Throwable> errors = Flux.range(0, 5)
+                    .flatMap(i -> generate(webClient)
+                            .then(Mono.<Throwable>empty())
+                            .onErrorResume(Mono::just)
+                            .timeout(Duration.ofSeconds(2), Mono.empty()))
+                    .collectList()
+                    .block();
+
+            assertThat(errors).hasSize(3);
+            assertThat(errors).filteredOn(e -> hasCause(e, PoolAcquirePendingLimitException.class)).hasSize(1);
+            assertThat(errors).filteredOn(e -> hasCause(e, PoolAcquireTimeoutException.class)).hasSize(2);
+        });
+    }
+
+    @Test
+    void responseLargerThanMaxInMemorySizeIsRejected() {
+        String large = "x".repeat(4096);
+        ollama = StubOllamaServer.start((request, response) ->
+                StubOllamaServer.sendJson(response, StubOllamaServer.generateBody(large)));
+
+        contextRunner().run(context -> {
+            WebClient webClient = context.getBean("ollamaWebClient", WebClient.class);
+
+            // 응답 상태는 200이지만 본문을 모으는 중 크기 제한 초과
+            assertThatThrownBy(() -> generate(webClient).block())
+                    .hasRootCauseInstanceOf(DataBufferLimitException.class);
+        });
+    }
+
+    @Test
+    void delayedStubThroughputScalesWithPoolSize() {
+        ollama = StubOllamaServer.start((request, response) -> Mono.delay(STUB_LATENCY)
+                .then(Mono.from(StubOllamaServer.sendJson(response, StubOllamaServer.generateBody("{}")))));
+        int connections = 8;
+        int requests = 64;
+
+        contextRunner(
+                "ollama.http.max-connections=" + connections,
+                "ollama.http.pending-acquire-max-count=" + requests,
+                "ollama.http.pending-acquire-timeout=10s").run(context -> {
+            WebClient webClient = context.getBean("ollamaWebClient", WebClient.class);
+            // 커넥션 수립 비용은 측정에서 제외
+            Flux.range(0, connections).flatMap(i -> generate(webClient)).blockLast();
+
+            long start = System.nanoTime();
+            List<Long> latencies = Flux.range(0, requests)
+                    .flatMap(i -> generate(webClient).elapsed().map(Tuple2::getT1), requests)
+                    .collectSortedList()
+                    .block();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            double throughput = requests / seconds;
+            double expected = connections * 1000.0 / STUB_LATENCY.toMillis();
+            long p50 = latencies.get(latencies.size() / 2);
+            long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+            log.info("Ollama 클라이언트 부하 (지연 {}ms, 커넥션 {}, 동시 {}건) - 처리량: {} req/s (이론 {}), p50: {}ms, p99: {}ms",
+                    STUB_LATENCY.toMillis(), connections, requests,
+                    String.format("%.1f", throughput), String.format("%.0f", expected), p50, p99);
+
+            assertThat(latencies).hasSize(requests);
+            // 커넥션 수만큼 동시에 처리되고(직렬 처리면 10 req/s), 그 이상은 풀에서 대기
+            assertThat(throughput).isBetween(expected * 0.5, expected * 1.1);
+            assertThat(p99).isGreaterThanOrEqualTo(STUB_LATENCY.toMillis() * requests / connections);
+        });
+    }
+
+    private ApplicationContextRunner contextRunner(String... overrides) {
+        // @Value Duration 변환 (SpringApplication이 등록하는 변환 서비스)
+        return new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withUserConfiguration(OllamaConfig.class)
+                .withPropertyValues(
+                        "ollama.base-url=" + ollama.baseUrl(),
+                        "ollama.http.max-connections=2",
+                        "ollama.http.pending-acquire-max-count=2",
+                        "ollama.http.pending-acquire-timeout=300ms",
+                        "ollama.http.response-timeout=10s",
+                        "ollama.http.max-in-memory-size=1024")
+                .withPropertyValues(overrides);
+    }
+
+    private static Mono<String> generate(WebClient webClient) {
+        return webClient.post()
+                .uri("/api/generate")
+                .bodyValue("{\"model\":\"stub\",\"prompt\":\"p\",\"stream\":false}")
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.budgetbook.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청당 SQL 집계 필터 - 동기 요청과 WebAsyncTask 작업 스레드에서 실행한 SQL을 모두 세는지 확인
+ */
+class QueryBudgetConfigTest {
+
+    private static final QueryCountInspector INSPECTOR = new QueryCountInspector();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("query-budget-test-");
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StubController(executor))
+            .addFilters(new QueryBudgetConfig().queryBudgetFilter(meterRegistry).getFilter())
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void countsStatementsOfASynchronousRequest() throws Exception {
+        mockMvc.perform(get("/sync")).andExpect(status().isOk());
+
+        assertThat(recorded("/sync")).isEqualTo(2);
+    }
+
+    @Test
+    void countsStatementsRunOnTheAsyncTaskThread() throws Exception {
+        MvcResult result = mockMvc.perform(get("/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 최초 요청에서는 기록하지 않음
+        assertThat(meterRegistry.find("http.server.requests.sql.statements").summary()).isNull();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertThat(recorded("/async")).isEqualTo(4);
+    }
+
+    private double recorded(String uri) {
+        return meterRegistry.get("http.server.requests.sql.statements").tag("uri", uri).summary().totalAmount();
+    }
+
+    @RestController
+    static class StubController {
+
+        private final SimpleAsyncTaskExecutor executor;
+
+        StubController(SimpleAsyncTaskExecutor executor) {
+            this.executor = executor;
+        }
+
+        @GetMapping("/sync")
+        String sync() {
+            INSPECTOR.inspect("select 1");
+            INSPECTOR.inspect("select 2");
+            return "ok";
+        }
+
+        @GetMapping("/async")
+        WebAsyncTask<String> async() {
+            INSPECTOR.inspect("select 1");
+            return new WebAsyncTask<>(5_000L, executor, QueryCountInspector.propagate(() -> {
+                INSPECTOR.inspect("select 2");
+                INSPECTOR.inspect("select 3");
+                INSPECTOR.inspect("select 4");
+                return "ok";
+            }));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.budgetbook.controller;
+
+import com.budgetbook.config.SecurityConfig;
+import com.budgetbook.security.JwtAuthenticationEntryPoint;
+import com.budgetbook.security.JwtKeyRing;
+import com.budgetbook.security.JwtTokenProvider;
+import com.budgetbook.service.AuthService;
+import com.budgetbook.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 보안 필터 체인(SecurityConfig + JwtAuthenticationFilter)을 거친 사용자 API 호출
+ */
+@WebMvcTest(UserController.class)
+@Import({SecurityConfig.class, JwtAuthenticationEntryPoint.class, JwtKeyRing.class, JwtTokenProvider.class})
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private AuthService authService;
+
+    // @EnableJpaAuditing이 요구하는 JPA 매핑 컨텍스트 (웹 슬라이스에는 JPA가 없음)
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @Test
+    void logoutAllRevokesSessionsOfTheBearerTokenUser() throws Exception {
+        String accessToken = tokenProvider.generateAccessToken(7L, "user@budgetbook.local");
+
+        mockMvc.perform(delete("/users/me/sessions").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(authService).logoutAll(7L);
+    }
+
+    @Test
+    void logoutAllWithoutTokenIsUnauthorized() throws Exception {
+        mockMvc.perform(delete("/users/me/sessions"))
+                .andExpect(status().isUnauthorized());
+
+        verify(authService, never()).logoutAll(anyLong());
+    }
+}
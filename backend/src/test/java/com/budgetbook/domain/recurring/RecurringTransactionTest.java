@@ -0,0 +1,65 @@
+package com.budgetbook.domain.recurring;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurringTransactionTest {
+
+    @Test
+    void changingDayOfMonthNeverMovesBeforeStartDate() {
+        RecurringTransaction rule = rule(25, LocalDate.of(2024, 3, 20), null);
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 3, 25));
+
+        rule.update(null, null, 10, null, LocalDate.of(2024, 3, 1));
+
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 4, 10));
+    }
+
+    @Test
+    void changingDayOfMonthNeverMovesBeforeToday() {
+        RecurringTransaction rule = rule(25, LocalDate.of(2024, 1, 1), null);
+        rule.advance();
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 2, 25));
+
+        rule.update(null, null, 10, null, LocalDate.of(2024, 2, 20));
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 3, 10));
+
+        rule.update(null, null, 31, null, LocalDate.of(2024, 2, 20));
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+    }
+
+    @Test
+    void overdueOccurrenceStaysInItsMonth() {
+        // 스케줄러가 밀려 2월 발생분이 아직 생성되지 않음 → 그 달 안에서 나중 날짜로는 옮길 수 있음
+        RecurringTransaction rule = rule(5, LocalDate.of(2024, 2, 1), null);
+
+        rule.update(null, null, 20, null, LocalDate.of(2024, 3, 15));
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 2, 20));
+
+        rule.update(null, null, 1, null, LocalDate.of(2024, 3, 15));
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    void movingPastEndDateDeactivates() {
+        RecurringTransaction rule = rule(25, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+        rule.update(null, null, 5, null, LocalDate.of(2024, 3, 10));
+
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2024, 4, 5));
+        assertThat(rule.getActive()).isFalse();
+    }
+
+    private static RecurringTransaction rule(int dayOfMonth, LocalDate startDate, LocalDate endDate) {
+        return RecurringTransaction.builder()
+                .amount(new BigDecimal("10000"))
+                .dayOfMonth(dayOfMonth)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.budgetbook.domain.transaction;
+
+import com.budgetbook.domain.account.Account;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.domain.user.User;
+import com.budgetbook.domain.user.UserRole;
+import com.budgetbook.support.PostgresRepositoryTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 목록 조회 경로별 SQL 실행 횟수 (Hibernate Statistics)
+ * 응답 변환(TransactionService.toResponse)처럼 계좌/카테고리를 모두 읽어도 목록 1회(페이지면 COUNT 포함 2회)만 실행되어야 한다.
+ * 연관 엔티티 지연 로딩(N+1)이 다시 생기면 실행 횟수가 행 수만큼 늘어 실패한다.
+ */
+class TransactionRepositoryQueryCountTest extends PostgresRepositoryTest {
+
+    private static final LocalDateTime MONTH_START = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final int ROWS = 30;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .name("조회수").email("query-count@budgetbook.local").password("{noop}x").age(30).role(UserRole.USER)
+                .build());
+        Account[] accounts = {
+                entityManager.persist(Account.builder().user(user).bankName("국민은행").alias("생활비").balance(BigDecimal.ZERO).build()),
+                entityManager.persist(Account.builder().user(user).bankName("신한은행").alias("비상금").balance(BigDecimal.ZERO).build())
+        };
+        Category[] categories = {
+                entityManager.persist(Category.builder().user(user).name("식비").type(TransactionType.EXPENSE).icon("restaurant").build()),
+                entityManager.persist(Category.builder().user(user).name("교통비").type(TransactionType.EXPENSE).icon("directions_bus").build()),
+                entityManager.persist(Category.builder().user(user).name("쇼핑").type(TransactionType.EXPENSE).icon("shopping_cart").build())
+        };
+        // 행마다 계좌/카테고리가 섞이도록 배치해 지연 로딩이면 여러 번 조회되게 함
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(Transaction.builder()
+                    .account(accounts[i % accounts.length])
+                    .category(categories[i % categories.length])
+                    .type(TransactionType.EXPENSE)
+                    .amount(BigDecimal.valueOf(1_000L * (i + 1)))
+                    .memo("거래 " + i)
+                    .transactionDate(MONTH_START.plusHours(i * 12L))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        userId = user.getId();
+        accountId = accounts[0].getId();
+    }
+
+    @Test
+    void pagedListByUser() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "transactionDate"));
+
+        long statements = countStatements(() -> render(transactionRepository.findByAccountUserId(userId, pageable)));
+
+        // 목록 + COUNT
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void pagedListByUserAndAccount() {
+        PageRequest pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "transactionDate"));
+
+        long statements = countStatements(() ->
+                render(transactionRepository.findByAccountUserIdAndAccountId(userId, accountId, pageable)));
+
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void listByDateRange() {
+        long statements = countStatements(() -> render(transactionRepository.findByUserIdAndDateRange(
+                userId, MONTH_START, MONTH_START.plusMonths(1))));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void listByYearMonth() {
+        long statements = countStatements(() -> render(transactionRepository.findByUserIdAndYearMonth(
+                userId, MONTH_START, MONTH_START.plusMonths(1))));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void listByYear() {
+        LocalDateTime yearStart = MONTH_START.withMonth(1);
+        long statements = countStatements(() -> render(transactionRepository.findByUserIdAndYear(
+                userId, yearStart, yearStart.plusYears(1))));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void listByDate() {
+        long statements = countStatements(() -> render(transactionRepository.findByUserIdAndDate(
+                userId, MONTH_START, MONTH_START.plusDays(3))));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void listByDateAndAccount() {
+        long statements = countStatements(() -> render(transactionRepository.findByUserIdAndDateAndAccountId(
+                userId, MONTH_START, MONTH_START.plusMonths(1), accountId)));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void searchProjection() {
+        long statements = countStatements(() -> {
+            List<TransactionListItem> items = transactionRepository.search(TransactionSearchCondition.builder()
+                    .userId(userId)
+                    .startDate(MONTH_START)
+                    .endDate(MONTH_START.plusMonths(1))
+                    .limit(20)
+                    .build());
+            assertThat(items).hasSize(20);
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private long countStatements(Runnable query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // TransactionService.toResponse가 읽는 연관 값과 같은 값을 읽음
+    private static void render(Page<Transaction> page) {
+        assertThat(page.getContent()).isNotEmpty();
+        render(page.getContent());
+    }
+
+    private static void render(List<Transaction> transactions) {
+        assertThat(transactions).isNotEmpty();
+        for (Transaction transaction : transactions) {
+            assertThat(transaction.getAccount().getAlias()).isNotNull();
+            assertThat(transaction.getAccount().getBankName()).isNotNull();
+            assertThat(transaction.getCategory().getName()).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.budgetbook.domain.transaction;
+
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.support.PostgresRepositoryTest;
+import com.budgetbook.support.StatementRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 검색(GET /transactions/filter, /transactions/search) 조건 조합별 실행 계획
+ * 여러 사용자의 3년치 거래를 적재하고 ANALYZE한 뒤, search()가 만든 SQL을 같은 바인딩 값으로 EXPLAIN (FORMAT JSON)해
+ * 조건에 맞는 인덱스(idx_transactions_category_date, idx_transactions_account_date, idx_transactions_memo_trgm)로
+ * 거래 테이블을 읽는지 확인한다. 조건이 인덱스를 쓸 수 없는 형태로 바뀌면 transactions 순차 스캔이 나와 실패한다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionSearchPlanTest extends PostgresRepositoryTest {
+
+    private static final String EMAIL_PATTERN = "plan-%@budgetbook.local";
+    private static final String RARE_MEMO = "스타벅스 리저브 라떼";
+    private static final LocalDateTime RANGE_START = LocalDateTime.of(2023, 6, 1, 0, 0);
+    private static final LocalDateTime RANGE_END = LocalDateTime.of(2023, 7, 1, 0, 0);
+
+    private static final String INSERT_USERS = """
+            INSERT INTO users (name, email, password, age, role, created_at, updated_at)
+            SELECT '실행계획' || u, 'plan-' || u || '@budgetbook.local', '{noop}x', 30, 'USER', now(), now()
+            FROM generate_series(1, 200) u""";
+
+    private static final String INSERT_ACCOUNTS = """
+            INSERT INTO accounts (user_id, bank_name, alias, balance, created_at, updated_at)
+            SELECT u.id, '국민은행', '계좌 ' || a, 0, now(), now()
+            FROM users u CROSS JOIN generate_series(1, 3) a
+            WHERE u.email LIKE 'plan-%@budgetbook.local'""";
+
+    private static final String INSERT_CATEGORIES = """
+            INSERT INTO categories (user_id, name, type, icon, created_at, updated_at)
+            SELECT u.id, '카테고리 ' || c, 'EXPENSE', 'category', now(), now()
+            FROM users u CROSS JOIN generate_series(1, 10) c
+            WHERE u.email LIKE 'plan-%@budgetbook.local'""";
+
+    // 사용자당 1천 건 (2022-01-01부터 약 3년, 하루 1건 안팎), 메모는 흔한 값 8개 + 드문 값 하나
+    private static final String INSERT_TRANSACTIONS = """
+            WITH u AS (
+                SELECT id, row_number() OVER (ORDER BY id) - 1 AS n
+                FROM users WHERE email LIKE 'plan-%@budgetbook.local'
+            ), a AS (
+                SELECT id, user_id, row_number() OVER (PARTITION BY user_id ORDER BY id) - 1 AS n
+                FROM accounts WHERE user_id IN (SELECT id FROM u)
+            ), c AS (
+                SELECT id, user_id, row_number() OVER (PARTITION BY user_id ORDER BY id) - 1 AS n
+                FROM categories WHERE user_id IN (SELECT id FROM u)
+            )
+            INSERT INTO transactions (account_id, category_id, type, amount, memo, transaction_date, created_at, updated_at)
+            SELECT a.id, c.id, 'EXPENSE', 1000 + (g % 50) * 100,
+                   CASE WHEN g % 7000 = 0 THEN ?
+                        ELSE (ARRAY['점심 김치찌개', '저녁 배달', '편의점', '지하철', '버스', '마트 장보기', '온라인 쇼핑', '휴대폰 요금'])[g % 8 + 1]
+                   END,
+                   t.at, t.at, t.at
+            FROM generate_series(0, 199999) g
+            CROSS JOIN LATERAL (SELECT TIMESTAMP '2022-01-01' + (g / 200) * INTERVAL '1571 minutes' AS at) t
+            JOIN u ON u.n = g % 200
+            JOIN a ON a.user_id = u.id AND a.n = (g / 200) % 3
+            JOIN c ON c.user_id = u.id AND c.n = (g / 600) % 10""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long userId;
+    private List<Long> accountIds;
+    private List<Long> categoryIds;
+
+    @BeforeAll
+    void seed() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/add_transaction_memo_search_index.sql"))
+                .execute(dataSource);
+        jdbcTemplate.update(INSERT_USERS);
+        jdbcTemplate.update(INSERT_ACCOUNTS);
+        jdbcTemplate.update(INSERT_CATEGORIES);
+        jdbcTemplate.update(INSERT_TRANSACTIONS, RARE_MEMO);
+        jdbcTemplate.execute("ANALYZE users, accounts, categories, transactions");
+
+        userId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM users WHERE email LIKE ?", Long.class, EMAIL_PATTERN);
+        accountIds = jdbcTemplate.queryForList(
+                "SELECT id FROM accounts WHERE user_id = ? ORDER BY id", Long.class, userId);
+        categoryIds = jdbcTemplate.queryForList(
+                "SELECT id FROM categories WHERE user_id = ? ORDER BY id", Long.class, userId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        String users = "SELECT id FROM users WHERE email LIKE '" + EMAIL_PATTERN + "'";
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id IN (SELECT id FROM accounts WHERE user_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM accounts WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM categories WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE '" + EMAIL_PATTERN + "'");
+    }
+
+    Stream<Arguments> filters() {
+        return Stream.of(
+                Arguments.of("카테고리 1개 + 기간", filter(b -> b.categoryIds(categoryIds.subList(0, 1))
+                        .startDate(RANGE_START).endDate(RANGE_END)), "idx_transactions_category_date"),
+                Arguments.of("카테고리 여러 개 + 기간", filter(b -> b.categoryIds(categoryIds.subList(0, 3))
+                        .startDate(RANGE_START).endDate(RANGE_END)), "idx_transactions_category_date"),
+                Arguments.of("카테고리 1개", filter(b -> b.categoryIds(categoryIds.subList(0, 1))),
+                        "idx_transactions_category_date"),
+                Arguments.of("계좌 1개 + 기간", filter(b -> b.accountIds(accountIds.subList(0, 1))
+                        .startDate(RANGE_START).endDate(RANGE_END)), "idx_transactions_account_date"),
+                Arguments.of("계좌 여러 개 + 기간", filter(b -> b.accountIds(accountIds.subList(0, 2))
+                        .startDate(RANGE_START).endDate(RANGE_END)), "idx_transactions_account_date"),
+                Arguments.of("계좌 1개", filter(b -> b.accountIds(accountIds.subList(0, 1))),
+                        "idx_transactions_account_date"),
+                Arguments.of("메모 검색", filter(b -> b.keyword("리저브")), "idx_transactions_memo_trgm"),
+                Arguments.of("메모 검색 + 기간", filter(b -> b.keyword("리저브")
+                        .startDate(LocalDateTime.of(2022, 1, 1, 0, 0)).endDate(RANGE_END)), "idx_transactions_memo_trgm"),
+                Arguments.of("메모 검색 + 유형 + 금액", filter(b -> b.keyword("리저브")
+                        .type(TransactionType.EXPENSE).minAmount(BigDecimal.valueOf(1000))), "idx_transactions_memo_trgm")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    void searchReadsTransactionsThroughTheMatchingIndex(String name,
+                                                        UnaryOperator<TransactionSearchCondition.TransactionSearchConditionBuilder> filter,
+                                                        String expectedIndex) throws Exception {
+        transactionRepository.search(filter.apply(TransactionSearchCondition.builder().userId(userId).limit(21)).build());
+
+        JsonNode plan = objectMapper.readTree(StatementRecorder.rerun(dataSource, "EXPLAIN (FORMAT JSON) "))
+                .get(0).get("Plan");
+        List<JsonNode> scans = new ArrayList<>();
+        collectTransactionScans(plan, scans);
+
+        assertThat(scans).as("%s 실행 계획: %s", name, plan).isNotEmpty()
+                .allSatisfy(scan -> assertThat(scan.path("Node Type").asText())
+                        .isIn("Index Scan", "Index Only Scan", "Bitmap Heap Scan"));
+        assertThat(indexNames(plan)).as("%s 실행 계획: %s", name, plan).contains(expectedIndex);
+    }
+
+    // Arguments.of에 람다를 넘기기 위한 타입 지정
+    private static UnaryOperator<TransactionSearchCondition.TransactionSearchConditionBuilder> filter(
+            UnaryOperator<TransactionSearchCondition.TransactionSearchConditionBuilder> filter) {
+        return filter;
+    }
+
+    // transactions 테이블을 읽는 노드 (순차 스캔/인덱스 스캔/비트맵 힙 스캔)
+    private static void collectTransactionScans(JsonNode node, List<JsonNode> scans) {
+        if ("transactions".equals(node.path("Relation Name").asText())) {
+            scans.add(node);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectTransactionScans(child, scans);
+        }
+    }
+
+    private static List<String> indexNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        if (node.has("Index Name")) {
+            names.add(node.get("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            names.addAll(indexNames(child));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,80 @@
+package com.budgetbook.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 캐시에 있는 토큰도 현재 키링 기준으로 다시 거부되는지 확인
+ * (asymmetric 모드 키스토어는 JDK keytool로 임시 디렉터리에 생성)
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-minimum-256-bits-0123456789abcdef";
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cachedTokenIsRejectedAfterItsKidIsRemovedFromTheKeystore() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        keytool(keystore, "-genkeypair", "-alias", "old", "-keyalg", "Ed25519", "-dname", "CN=old");
+        keytool(keystore, "-genkeypair", "-alias", "new", "-keyalg", "Ed25519", "-dname", "CN=new");
+
+        JwtTokenProvider oldKeyProvider = provider(asymmetric(keystore, "old", ""));
+        String token = oldKeyProvider.generateAccessToken(1L, "user@budgetbook.local");
+        JwtTokenProvider provider = provider(asymmetric(keystore, "new", ""));
+        assertThat(provider.verify(token)).isPresent();
+
+        // 키 교체 마지막 단계: 이전 kid 삭제 (같은 밀리초 안의 변경도 감지되도록 수정 시각을 뒤로 옮김)
+        keytool(keystore, "-delete", "-alias", "old");
+        Files.setLastModifiedTime(keystore, FileTime.from(Instant.now().plusSeconds(5)));
+
+        assertThat(provider.verify(token)).isEmpty();
+    }
+
+    @Test
+    void cachedLegacyHmacTokenIsRejectedAfterTheMigrationDeadline() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        keytool(keystore, "-genkeypair", "-alias", "current", "-keyalg", "Ed25519", "-dname", "CN=current");
+
+        JwtKeyRing hmacKeyRing = new JwtKeyRing(SECRET, JwtKeyRing.MODE_HMAC, "", "", "", Duration.ZERO, "");
+        String legacyToken = provider(hmacKeyRing).generateAccessToken(1L, "user@budgetbook.local");
+        Instant deadline = Instant.now().plusSeconds(2);
+        JwtTokenProvider provider = provider(asymmetric(keystore, "current", deadline.toString()));
+        assertThat(provider.verify(legacyToken)).isPresent();
+
+        Thread.sleep(Math.max(0, Duration.between(Instant.now(), deadline).toMillis()) + 100);
+
+        assertThat(provider.verify(legacyToken)).isEmpty();
+    }
+
+    private static JwtTokenProvider provider(JwtKeyRing keyRing) {
+        return new JwtTokenProvider(keyRing, 3_600_000L, 604_800_000L, 100L);
+    }
+
+    private static JwtKeyRing asymmetric(Path keystore, String activeKid, String legacyHmacUntil) {
+        return new JwtKeyRing(SECRET, JwtKeyRing.MODE_ASYMMETRIC, keystore.toString(), PASSWORD, activeKid,
+                Duration.ZERO, legacyHmacUntil);
+    }
+
+    private static void keytool(Path keystore, String... args) throws Exception {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                "-storetype", "PKCS12", "-keystore", keystore.toString(), "-storepass", PASSWORD));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertThat(process.waitFor()).as(output).isZero();
+    }
+}
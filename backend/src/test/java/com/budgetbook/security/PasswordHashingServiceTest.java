@@ -0,0 +1,103 @@
+package com.budgetbook.security;
+
+import com.budgetbook.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해싱 풀이 포화됐을 때 존재하는 이메일(실제 검증)과 없는 이메일(대기만)이 같은 응답을 받는지 확인
+ */
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService hashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hashingService != null) {
+            hashingService.shutdown();
+        }
+    }
+
+    @Test
+    void unknownEmailIsRejectedLikeARealCheckWhenThePoolIsSaturated() throws Exception {
+        // 스레드 1개 + 대기열 1개
+        hashingService = new PasswordHashingService(new BlockingEncoder(), meterRegistry, 1, 1, 10_000);
+
+        // 실행 중 1건 + 대기 1건으로 포화
+        Thread running = startBlockingCheck();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread queued = startBlockingCheck();
+        awaitWaiting(queued);
+
+        assertThatThrownBy(() -> hashingService.matches("password", "hash"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getHttpStatus())
+                        .isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThatThrownBy(() -> hashingService.simulateMatches())
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getHttpStatus())
+                        .isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+
+        release.countDown();
+        running.join(5_000);
+        queued.join(5_000);
+
+        // 풀이 비면 없는 이메일도 풀을 거쳐 정상 처리
+        hashingService.simulateMatches();
+        assertThat(meterRegistry.get("auth.password.hashing").tag("operation", "simulated").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hashing").tag("operation", "rejected").timer().count())
+                .isEqualTo(2);
+    }
+
+    private Thread startBlockingCheck() {
+        Thread thread = new Thread(() -> hashingService.matches("block", "hash"));
+        thread.start();
+        return thread;
+    }
+
+    // 작업을 넣고 결과를 기다리기 시작하면(future.get 타임아웃 대기) 대기열에 들어간 것
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * "block" 비밀번호 검증은 release까지 대기 (기동 시 측정용 해싱은 즉시 반환)
+     */
+    private final class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if ("block".contentEquals(rawPassword)) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+    }
+}
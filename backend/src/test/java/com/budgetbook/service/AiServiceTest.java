@@ -0,0 +1,191 @@
+package com.budgetbook.service;
+
+import com.budgetbook.common.exception.BusinessException;
+import com.budgetbook.domain.category.Category;
+import com.budgetbook.domain.category.CategoryRepository;
+import com.budgetbook.domain.category.TransactionType;
+import com.budgetbook.dto.ai.AiParseResponse;
+import com.budgetbook.support.StubOllamaServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+class AiServiceTest {
+
+    private static final Pattern BATCH_INPUT = Pattern.compile("(?m)^\\s*\\[(\\d+)] ");
+    private static final String PARSED_FIELDS = "\"type\":\"EXPENSE\",\"amount\":12000,\"categoryName\":\"식비\",\"memo\":\"점심\"";
+
+    private StubOllamaServer ollama;
+
+    @AfterEach
+    void tearDown() {
+        if (ollama != null) {
+            ollama.close();
+        }
+    }
+
+    @Test
+    void batchRetriesOnlyItemsMissingFromTheResponse() {
+        // 배치 응답에서 [1] 항목이 빠짐 → 배치 1회 + 단건 1회
+        ollama = StubOllamaServer.start(stub(Duration.ZERO, Set.of(1)));
+        AiService aiService = aiService(ollama, 20, 4);
+
+        List<AiParseResponse> results = aiService.parseTransactions(1L, List.of("점심 12000원", "커피 4500원", "택시 9000원"));
+
+        assertThat(results).hasSize(3).allMatch(AiParseResponse::isSuccess);
+        assertThat(ollama.requests()).isEqualTo(2);
+    }
+
+    @Test
+    void batchTransportErrorIsNotFannedOutIntoSingleCalls() {
+        ollama = StubOllamaServer.start((request, response) -> response.status(HttpStatus.BAD_GATEWAY.value()).send());
+        AiService aiService = aiService(ollama, 20, 4);
+
+        List<String> inputs = IntStream.range(0, 10).mapToObj(i -> "점심 " + i + "000원").toList();
+
+        assertThatThrownBy(() -> aiService.parseTransactions(1L, inputs))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> {
+                    assertThat(((BusinessException) e).getCode()).isEqualTo("AI_001");
+                    assertThat(((BusinessException) e).getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                });
+        assertThat(ollama.requests()).isEqualTo(1);
+    }
+
+    /**
+     * 같은 동시 실행 수(4)에서 단건 호출과 배치 호출의 처리량 비교
+     * 스텁 응답 지연이 호출당 고정 비용(모델 프롬프트 처리)을 대신하므로 배치는 호출 수만큼 빨라야 한다.
+     */
+    @Test
+    void batchThroughputExceedsSingleCalls() throws Exception {
+        ollama = StubOllamaServer.start(stub(Duration.ofMillis(100), Set.of()));
+        int parallelism = 4;
+        AiService aiService = aiService(ollama, 10, parallelism);
+        List<String> inputs = IntStream.range(0, 40).mapToObj(i -> "점심 " + i + "000원").toList();
+
+        long singleStart = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<AiParseResponse>> futures = new ArrayList<>();
+            for (String input : inputs) {
+                futures.add(executor.submit(() -> aiService.parseTransaction(1L, input)));
+            }
+            for (Future<AiParseResponse> future : futures) {
+                assertThat(future.get().isSuccess()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double singleSeconds = (System.nanoTime() - singleStart) / 1e9;
+        int singleRequests = ollama.requests();
+
+        long batchStart = System.nanoTime();
+        List<AiParseResponse> results = aiService.parseTransactions(1L, inputs);
+        double batchSeconds = (System.nanoTime() - batchStart) / 1e9;
+        int batchRequests = ollama.requests() - singleRequests;
+
+        double singleThroughput = inputs.size() / singleSeconds;
+        double batchThroughput = inputs.size() / batchSeconds;
+        log.info("AI 파싱 처리량 ({}건, 동시 {}) - 단건: {} items/s ({}회 호출), 배치: {} items/s ({}회 호출)",
+                inputs.size(), parallelism, String.format("%.1f", singleThroughput), singleRequests,
+                String.format("%.1f", batchThroughput), batchRequests);
+
+        assertThat(results).hasSize(inputs.size()).allMatch(AiParseResponse::isSuccess);
+        assertThat(singleRequests).isEqualTo(40);
+        assertThat(batchRequests).isEqualTo(4);
+        assertThat(batchThroughput).isGreaterThan(singleThroughput * 3);
+    }
+
+    @Test
+    void streamedChatRecordsChunksSeparatelyFromFinalChunkTokenCounts() {
+        ollama = StubOllamaServer.start((request, response) -> response
+                .header("Content-Type", "application/x-ndjson")
+                .sendString(Flux.just(
+                        "{\"response\":\"안녕\",\"done\":false}\n",
+                        "{\"response\":\"하세요\",\"done\":false}\n",
+                        "{\"response\":\"\",\"done\":true,\"prompt_eval_count\":120,\"eval_count\":42}\n")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AiService aiService = aiService(ollama, 20, 4, meterRegistry);
+
+        aiService.chat(1L, "안녕");
+
+        assertThat(meterRegistry.get("ollama.stream.chunks").tag("operation", "chat").summary().totalAmount())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("ollama.tokens").tag("operation", "chat").tag("type", "completion")
+                .summary().totalAmount()).isEqualTo(42);
+        assertThat(meterRegistry.get("ollama.tokens").tag("operation", "chat").tag("type", "prompt")
+                .summary().totalAmount()).isEqualTo(120);
+    }
+
+    /**
+     * 배치 프롬프트면 입력 번호마다 결과 객체를 만들고(skipIndexes 제외), 단건 프롬프트면 객체 하나로 응답
+     */
+    private static BiFunction<JsonNode, HttpServerResponse, Publisher<Void>> stub(Duration latency, Set<Integer> skipIndexes) {
+        return (request, response) -> {
+            String prompt = request.path("prompt").asText();
+            Matcher matcher = BATCH_INPUT.matcher(prompt);
+            List<String> items = new ArrayList<>();
+            while (matcher.find()) {
+                int index = Integer.parseInt(matcher.group(1));
+                if (!skipIndexes.contains(index)) {
+                    items.add("{\"index\":" + index + "," + PARSED_FIELDS + "}");
+                }
+            }
+            boolean batch = prompt.contains("JSON 배열");
+            String text = batch ? "[" + String.join(",", items) + "]" : "{" + PARSED_FIELDS + "}";
+            return Mono.delay(latency)
+                    .then(Mono.from(StubOllamaServer.sendJson(response, StubOllamaServer.generateBody(text))));
+        };
+    }
+
+    private static AiService aiService(StubOllamaServer ollama, int batchSize, int batchParallelism) {
+        return aiService(ollama, batchSize, batchParallelism, new SimpleMeterRegistry());
+    }
+
+    private static AiService aiService(StubOllamaServer ollama, int batchSize, int batchParallelism,
+                                       SimpleMeterRegistry meterRegistry) {
+        Category food = Category.builder().name("식비").type(TransactionType.EXPENSE).build();
+        ReflectionTestUtils.setField(food, "id", 1L);
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findByUserId(anyLong())).thenReturn(List.of(food));
+
+        AiService aiService = new AiService(
+                WebClient.builder().baseUrl(ollama.baseUrl()).build(),
+                new CategoryIndexCache(categoryRepository, Duration.ofMinutes(10), 100),
+                new ObjectMapper(),
+                meterRegistry);
+        ReflectionTestUtils.setField(aiService, "model", "stub");
+        ReflectionTestUtils.setField(aiService, "batchSize", batchSize);
+        ReflectionTestUtils.setField(aiService, "batchParallelism", batchParallelism);
+        return aiService;
+    }
+}
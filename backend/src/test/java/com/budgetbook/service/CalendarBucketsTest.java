@@ -0,0 +1,125 @@
+package com.budgetbook.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 미리 계산한 달력 테이블을 java.time(WeekFields.ISO / SUNDAY_START / 기본 로케일)과 비교
+ * 지원 범위(1900~2100)의 모든 날짜/연도/월을 확인하고, 주 버킷의 연속성은 고정 시드 무작위 날짜 쌍으로 확인한다.
+ */
+class CalendarBucketsTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(CalendarBuckets.MIN_YEAR, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(CalendarBuckets.MAX_YEAR, 12, 31);
+    private static final long SEED = 20240101L;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"locale", "iso", "sunday"})
+    void everyDateMapsToTheSameWeekAndMonthAsJavaTime(String weekStart) {
+        CalendarBuckets buckets = new CalendarBuckets(weekStart);
+        WeekFields weekFields = weekFields(weekStart);
+        // 월 안의 주 버킷은 1일이 속한 주를 0으로 센다 (최소 일수 1)
+        WeekFields monthWeeks = WeekFields.of(weekFields.getFirstDayOfWeek(), 1);
+
+        for (LocalDate date = FIRST_DAY; !date.isAfter(LAST_DAY); date = date.plusDays(1)) {
+            LocalDate expectedWeekStart = date.with(TemporalAdjusters.previousOrSame(weekFields.getFirstDayOfWeek()));
+
+            assertThat(buckets.weekStartOfIndex(buckets.weekIndex(date))).as("weekIndex %s", date)
+                    .isEqualTo(expectedWeekStart);
+            assertThat(buckets.monthStartOfIndex(buckets.monthIndex(date.atStartOfDay()))).as("monthIndex %s", date)
+                    .isEqualTo(date.withDayOfMonth(1));
+            assertThat(buckets.weekOfMonthIndex(date.atStartOfDay())).as("weekOfMonthIndex %s", date)
+                    .isEqualTo(date.get(monthWeeks.weekOfMonth()) - 1);
+
+            int weekBasedYear = date.get(weekFields.weekBasedYear());
+            if (weekBasedYear >= CalendarBuckets.MIN_YEAR && weekBasedYear <= CalendarBuckets.MAX_YEAR) {
+                assertThat(buckets.weekStart(weekBasedYear, date.get(weekFields.weekOfWeekBasedYear())))
+                        .as("weekStart %s", date)
+                        .isEqualTo(expectedWeekStart);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"locale", "iso", "sunday"})
+    void weeksInYearAndMonthMatchJavaTime(String weekStart) {
+        CalendarBuckets buckets = new CalendarBuckets(weekStart);
+        WeekFields weekFields = weekFields(weekStart);
+        WeekFields monthWeeks = WeekFields.of(weekFields.getFirstDayOfWeek(), 1);
+
+        for (int year = CalendarBuckets.MIN_YEAR; year <= CalendarBuckets.MAX_YEAR; year++) {
+            // 7월 1일은 항상 같은 주 기준 연도에 속함
+            long expectedWeeks = LocalDate.of(year, 7, 1).range(weekFields.weekOfWeekBasedYear()).getMaximum();
+            assertThat(buckets.weeksInYear(year)).as("weeksInYear %d", year).isEqualTo(expectedWeeks);
+
+            for (int month = 1; month <= 12; month++) {
+                LocalDate last = YearMonth.of(year, month).atEndOfMonth();
+                int weeks = buckets.weeksInMonth(year, month);
+                assertThat(weeks).as("weeksInMonth %d-%d", year, month).isEqualTo(last.get(monthWeeks.weekOfMonth()));
+
+                // 월의 주 구간은 1일부터 말일까지 빈틈없이 이어짐
+                LocalDate expectedStart = last.withDayOfMonth(1);
+                for (int week = 0; week < weeks; week++) {
+                    CalendarBuckets.DateRange range = buckets.weekOfMonth(year, month, week);
+                    assertThat(range.getStartDate()).isEqualTo(expectedStart);
+                    assertThat(ChronoUnit.DAYS.between(range.getStartDate(), range.getEndDate())).isBetween(0L, 6L);
+                    expectedStart = range.getEndDate().plusDays(1);
+                }
+                assertThat(expectedStart).isEqualTo(last.plusDays(1));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"locale", "iso", "sunday"})
+    void weekIndexDifferenceIsTheNumberOfWeeksBetweenWeekStarts(String weekStart) {
+        CalendarBuckets buckets = new CalendarBuckets(weekStart);
+        WeekFields weekFields = weekFields(weekStart);
+        Random random = new Random(SEED);
+        long span = ChronoUnit.DAYS.between(FIRST_DAY, LAST_DAY) + 1;
+
+        for (int i = 0; i < 100_000; i++) {
+            LocalDate a = FIRST_DAY.plusDays(Math.floorMod(random.nextLong(), span));
+            LocalDate b = FIRST_DAY.plusDays(Math.floorMod(random.nextLong(), span));
+            long expected = ChronoUnit.WEEKS.between(
+                    a.with(TemporalAdjusters.previousOrSame(weekFields.getFirstDayOfWeek())),
+                    b.with(TemporalAdjusters.previousOrSame(weekFields.getFirstDayOfWeek())));
+
+            assertThat(buckets.weekIndex(b) - buckets.weekIndex(a)).as("seed %d, %s → %s", SEED, a, b)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"locale", "iso", "sunday"})
+    void weekOutsideTheYearOrSupportedRangeIsRejected(String weekStart) {
+        CalendarBuckets buckets = new CalendarBuckets(weekStart);
+
+        assertThatThrownBy(() -> buckets.weekStart(2024, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> buckets.weekStart(2024, buckets.weeksInYear(2024) + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> buckets.weekStart(CalendarBuckets.MIN_YEAR - 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> buckets.weeksInYear(CalendarBuckets.MAX_YEAR + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static WeekFields weekFields(String weekStart) {
+        return switch (weekStart) {
+            case "iso" -> WeekFields.ISO;
+            case "sunday" -> WeekFields.SUNDAY_START;
+            default -> WeekFields.of(Locale.getDefault());
+        };
+    }
+}
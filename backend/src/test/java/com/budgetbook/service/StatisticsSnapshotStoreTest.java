@@ -0,0 +1,37 @@
+package com.budgetbook.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StatisticsSnapshotStoreTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StatisticsSnapshotStore store =
+            new StatisticsSnapshotStore(redisTemplate, new ObjectMapper(), 20, Duration.ofMinutes(5));
+
+    @Test
+    void sameQueryIsNotWrittenAgainWhileTheSnapshotIsFresh() {
+        store.save(1L, "monthly:2024-5", Map.of("income", 100));
+        store.save(1L, "monthly:2024-5", Map.of("income", 200));
+        store.save(1L, "monthly:2024-6", Map.of("income", 300));
+        store.save(2L, "monthly:2024-5", Map.of("income", 400));
+
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("statistics_snapshot:{1}", "statistics_snapshot:{1}:order")),
+                eq("monthly:2024-5"), any(), any(), eq("20"), any());
+    }
+}
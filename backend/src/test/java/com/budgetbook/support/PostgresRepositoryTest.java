@@ -0,0 +1,37 @@
+package com.budgetbook.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 PostgreSQL(Testcontainers) 대상 저장소 테스트 기반 클래스
+ * 실행 계획, pg_trgm처럼 PostgreSQL에서만 확인할 수 있는 동작용이며 Docker가 없으면 건너뛴다.
+ * 스키마는 엔티티 매핑으로 만들고(@Index 포함), 마이그레이션 전용 객체는 각 테스트가 직접 적용한다.
+ * 컨테이너는 JVM당 하나이며(종료 시 Testcontainers가 정리), 하위 테스트 클래스들이 같은 스프링 컨텍스트를 공유한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementRecorder.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresRepositoryTest {
+
+    // docker-compose.db.yml과 같은 이미지
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        // 컨텍스트를 만들 때 한 번만 시작 (클래스마다 재시작하면 캐시된 컨텍스트의 접속 정보가 달라짐)
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
@@ -0,0 +1,105 @@
+package com.budgetbook.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트 DataSource 래퍼 - 현재 스레드가 마지막으로 실행한 PreparedStatement의 SQL과 바인딩 호출(setXxx)을 기록
+ * Hibernate가 만든 SQL을 같은 바인딩 값으로 EXPLAIN해 실행 계획을 확인하는 데 쓴다.
+ */
+public class StatementRecorder implements BeanPostProcessor {
+
+    private static final ThreadLocal<RecordedStatement> LAST = new ThreadLocal<>();
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof RecordingDataSource) {
+            return bean;
+        }
+        return new RecordingDataSource(dataSource);
+    }
+
+    /**
+     * 마지막으로 실행한 SQL 앞에 prefix를 붙여 같은 바인딩 값으로 실행하고 첫 행 첫 컬럼을 반환 (EXPLAIN 등)
+     */
+    public static String rerun(DataSource dataSource, String prefix) {
+        RecordedStatement last = LAST.get();
+        if (last == null) {
+            throw new IllegalStateException("기록된 SQL이 없습니다");
+        }
+        return new JdbcTemplate(dataSource).query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(prefix + last.sql);
+            for (Binding binding : last.bindings) {
+                try {
+                    binding.method.invoke(statement, binding.args);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("바인딩 재현 실패: " + binding.method.getName(), e);
+                }
+            }
+            return statement;
+        }, resultSet -> resultSet.next() ? resultSet.getString(1) : null);
+    }
+
+    private static class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws java.sql.SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && "prepareStatement".equals(method.getName())) {
+                            return record(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement record(PreparedStatement statement, String sql) {
+            RecordedStatement recorded = new RecordedStatement(sql);
+            return (PreparedStatement) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && args[0] instanceof Integer) {
+                            recorded.bindings.add(new Binding(method, args));
+                        } else if (method.getName().startsWith("execute")) {
+                            LAST.set(recorded);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private record RecordedStatement(String sql, List<Binding> bindings) {
+        RecordedStatement(String sql) {
+            this(sql, new ArrayList<>());
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+}
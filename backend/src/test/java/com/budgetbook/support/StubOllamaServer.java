@@ -0,0 +1,79 @@
+package com.budgetbook.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * 테스트용 Ollama /api/generate 스텁 (Reactor Netty, 임의 포트)
+ * 요청 본문(JSON)을 받아 테스트가 지정한 방식으로 응답하고, 받은 요청 수를 센다.
+ */
+public final class StubOllamaServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final DisposableServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private StubOllamaServer(BiFunction<JsonNode, HttpServerResponse, Publisher<Void>> handler) {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/api/generate", (request, response) -> request.receive()
+                        .aggregate()
+                        .asString(StandardCharsets.UTF_8)
+                        .flatMap(body -> {
+                            requests.incrementAndGet();
+                            return Mono.from(handler.apply(readTree(body), response));
+                        })))
+                .bindNow();
+    }
+
+    public static StubOllamaServer start(BiFunction<JsonNode, HttpServerResponse, Publisher<Void>> handler) {
+        return new StubOllamaServer(handler);
+    }
+
+    /**
+     * 비스트리밍 응답 본문 ({"response": text, "done": true})
+     */
+    public static String generateBody(String text) {
+        return OBJECT_MAPPER.createObjectNode()
+                .put("model", "stub")
+                .put("response", text)
+                .put("done", true)
+                .toString();
+    }
+
+    public static Publisher<Void> sendJson(HttpServerResponse response, String body) {
+        return response.header("Content-Type", "application/json").sendString(Mono.just(body));
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private static JsonNode readTree(String body) {
+        try {
+            return OBJECT_MAPPER.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 요청 본문: " + body, e);
+        }
+    }
+}